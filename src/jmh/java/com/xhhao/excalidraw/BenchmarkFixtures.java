@@ -0,0 +1,185 @@
+package com.xhhao.excalidraw;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import reactor.core.publisher.Flux;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+
+/**
+ * 基准测试用的固定数据，使用固定随机种子，保证每次运行的输入一致
+ *
+ * @author Handsome
+ */
+public final class BenchmarkFixtures {
+
+    private static final String PARAGRAPH =
+        "<p>Excalidraw 是一个手绘风格的白板工具，这里是一段用于填充文章正文的普通文本，"
+            + "包含<strong>加粗</strong>、<a href=\"https://example.com\">链接</a>和<code>code</code>。</p>\n";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 生成约 {@code targetSize} 个字符的文章 HTML，均匀插入 {@code drawings} 个绘图标签
+     */
+    public static String post(int targetSize, int drawings) {
+        StringBuilder sb = new StringBuilder(targetSize + drawings * 96);
+        int slot = drawings > 0 ? Math.max(1, targetSize / (drawings + 1)) : Integer.MAX_VALUE;
+        int next = slot;
+        int inserted = 0;
+        while (sb.length() < targetSize || inserted < drawings) {
+            sb.append(PARAGRAPH);
+            if (inserted < drawings && sb.length() >= next) {
+                sb.append("<excalidraw-drawing drawingName=\"")
+                    .append(drawingName(inserted))
+                    .append("\" data-width=\"800\"></excalidraw-drawing>\n");
+                inserted++;
+                next += slot;
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String drawingName(int index) {
+        return "drawing-" + index;
+    }
+
+    public static String attachmentName(int index) {
+        return "attachment-" + index;
+    }
+
+    public static List<Drawing> drawings(int count) {
+        List<Drawing> drawings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            var drawing = new Drawing();
+            var metadata = new Metadata();
+            metadata.setName(drawingName(i));
+            metadata.setVersion((long) i + 1);
+            drawing.setMetadata(metadata);
+            var spec = new Drawing.DrawingSpec();
+            spec.setDisplayName("绘图 <" + i + "> & \"示例\"");
+            spec.setPreviewUrl("/upload/excalidraw/" + drawingName(i) + ".svg?v=" + i);
+            spec.setPreviewFormat("svg");
+            spec.setPreviewAttachmentName(attachmentName(i));
+            drawing.setSpec(spec);
+            drawings.add(drawing);
+        }
+        return drawings;
+    }
+
+    /**
+     * 只实现 listAll 的离线客户端，每次查询都返回全部固定绘图
+     */
+    public static ReactiveExtensionClient stubClient(List<Drawing> drawings) {
+        return (ReactiveExtensionClient) Proxy.newProxyInstance(
+            ReactiveExtensionClient.class.getClassLoader(),
+            new Class<?>[] {ReactiveExtensionClient.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "listAll" -> Flux.fromIterable(drawings);
+                case "toString" -> "StubReactiveExtensionClient";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    /**
+     * 生成约 {@code targetSize} 字节的 SVG，结构接近 Excalidraw 导出的手绘路径
+     */
+    public static String svg(int targetSize) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(targetSize + 256);
+        sb.append("<svg version=\"1.1\" xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 1600 1200\">")
+            .append("<!-- svg-source:excalidraw -->")
+            .append("<rect x=\"0\" y=\"0\" width=\"1600\" height=\"1200\" fill=\"#ffffff\"/>");
+        while (sb.length() < targetSize) {
+            sb.append("<g stroke-linecap=\"round\"><path d=\"M")
+                .append(random.nextInt(1600)).append(' ').append(random.nextInt(1200));
+            for (int i = 0; i < 12; i++) {
+                sb.append(" C").append(random.nextDouble() * 1600).append(' ')
+                    .append(random.nextDouble() * 1200);
+            }
+            sb.append("\" stroke=\"#1e1e1e\" stroke-width=\"1\" fill=\"none\"/></g>");
+        }
+        return sb.append("</svg>").toString();
+    }
+
+    /**
+     * 生成包含 {@code elements} 个元素和 {@code images} 张内嵌图片（每张解码后 60 KB）的场景 JSON，
+     * 元素的属性与 Excalidraw 导出的一致，手绘线条带有坐标点
+     */
+    public static String scene(int elements, int images) {
+        Random random = new Random(42);
+        String[] types = {"rectangle", "ellipse", "diamond", "arrow", "line", "freedraw", "text"};
+        StringBuilder sb = new StringBuilder(elements * 700 + images * 82_000);
+        sb.append("{\"type\":\"excalidraw\",\"version\":2,\"source\":\"https://excalidraw.com\",\"elements\":[");
+        for (int i = 0; i < elements; i++) {
+            String type = i < images ? "image" : types[random.nextInt(types.length)];
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":\"").append(Long.toString(random.nextLong() & Long.MAX_VALUE, 36))
+                .append("\",\"type\":\"").append(type)
+                .append("\",\"x\":").append(random.nextDouble() * 1600)
+                .append(",\"y\":").append(random.nextDouble() * 1200)
+                .append(",\"width\":").append(random.nextDouble() * 300)
+                .append(",\"height\":").append(random.nextDouble() * 200)
+                .append(",\"angle\":0,\"strokeColor\":\"#1e1e1e\",\"backgroundColor\":\"transparent\",")
+                .append("\"fillStyle\":\"solid\",\"strokeWidth\":2,\"strokeStyle\":\"solid\",\"roughness\":1,")
+                .append("\"opacity\":100,\"groupIds\":[],\"frameId\":null,\"roundness\":{\"type\":3},")
+                .append("\"seed\":").append(random.nextInt(Integer.MAX_VALUE))
+                .append(",\"version\":").append(1 + random.nextInt(300))
+                .append(",\"versionNonce\":").append(random.nextInt(Integer.MAX_VALUE))
+                .append(",\"isDeleted\":false,\"boundElements\":null,\"updated\":")
+                .append(1_700_000_000_000L + random.nextInt(1_000_000_000))
+                .append(",\"link\":null,\"locked\":false");
+            switch (type) {
+                case "text" -> sb.append(",\"text\":\"示例文本 ").append(i)
+                    .append("\",\"fontSize\":20,\"fontFamily\":1,\"textAlign\":\"left\",")
+                    .append("\"verticalAlign\":\"top\",\"containerId\":null,\"originalText\":\"示例文本 ")
+                    .append(i).append("\",\"lineHeight\":1.25");
+                case "image" -> sb.append(",\"status\":\"saved\",\"fileId\":\"file-").append(i)
+                    .append("\",\"scale\":[1,1]");
+                case "arrow", "line", "freedraw" -> {
+                    int points = "freedraw".equals(type) ? 40 + random.nextInt(80) : 2 + random.nextInt(3);
+                    sb.append(",\"points\":[");
+                    for (int p = 0; p < points; p++) {
+                        if (p > 0) {
+                            sb.append(',');
+                        }
+                        sb.append('[').append(random.nextDouble() * 200).append(',')
+                            .append(random.nextDouble() * 200).append(']');
+                    }
+                    sb.append("],\"lastCommittedPoint\":null");
+                }
+                default -> {
+                }
+            }
+            sb.append('}');
+        }
+        sb.append("],\"appState\":{\"gridSize\":null,\"viewBackgroundColor\":\"#ffffff\"},\"files\":{");
+        for (int i = 0; i < images; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"file-").append(i).append("\":{\"mimeType\":\"image/png\",\"id\":\"file-").append(i)
+                .append("\",\"dataURL\":\"").append(pngDataUrl(60 * 1024))
+                .append("\",\"created\":1700000000000}");
+        }
+        return sb.append("}}").toString();
+    }
+
+    /**
+     * 生成解码后约 {@code decodedSize} 字节的 PNG data URL（内容为随机字节）
+     */
+    public static String pngDataUrl(int decodedSize) {
+        byte[] bytes = new byte[decodedSize];
+        new Random(42).nextBytes(bytes);
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(bytes);
+    }
+}
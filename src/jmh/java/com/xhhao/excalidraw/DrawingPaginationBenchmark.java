@@ -0,0 +1,92 @@
+package com.xhhao.excalidraw;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 绘图列表分页：偏移分页与游标分页的定位方式在 5 万条记录中翻到第 1 至 500 页的耗时对比
+ *
+ * <p>以按 {@link DrawingCursor#ORDER} 排序的有序集合模拟排序索引：偏移分页需要从头跳过前面的记录，
+ * 游标分页解析游标后直接定位。
+ *
+ * <p>这里只衡量游标编解码和两种定位方式本身的开销，不经过 Halo 的索引与
+ * {@link DrawingCursor#after()} 生成的 ListOptions 查询，结果不能说明 {@code /drawing-summaries}
+ * 接口的实际耗时随页数的变化。
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DrawingPaginationBenchmark {
+
+    static final int DRAWINGS = 50_000;
+    static final int PAGE_SIZE = 20;
+
+    @Param({"1", "10", "100", "500"})
+    int page;
+
+    private NavigableSet<DrawingCursor> index;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        index = new TreeSet<>(DrawingCursor.ORDER);
+        var start = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < DRAWINGS; i++) {
+            // 每 10 个绘图共用一个创建时间，覆盖时间相同按名称排序的情况
+            index.add(new DrawingCursor(start.plusSeconds(i / 10), "drawing-" + i));
+        }
+        // 上一页最后一个绘图的游标
+        token = page == 1 ? null : previousPageLast().encode();
+        if (!offset().equals(cursor())) {
+            throw new IllegalStateException("两种分页结果不一致");
+        }
+    }
+
+    private DrawingCursor previousPageLast() {
+        Iterator<DrawingCursor> iterator = index.iterator();
+        DrawingCursor last = null;
+        for (int i = 0; i < (page - 1) * PAGE_SIZE; i++) {
+            last = iterator.next();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public List<DrawingCursor> offset() {
+        Iterator<DrawingCursor> iterator = index.iterator();
+        for (int i = 0; i < (page - 1) * PAGE_SIZE && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        return take(iterator);
+    }
+
+    @Benchmark
+    public List<DrawingCursor> cursor() {
+        var from = token == null ? index : index.tailSet(DrawingCursor.decode(token), false);
+        return take(from.iterator());
+    }
+
+    private static List<DrawingCursor> take(Iterator<DrawingCursor> iterator) {
+        List<DrawingCursor> items = new ArrayList<>(PAGE_SIZE);
+        while (items.size() < PAGE_SIZE && iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+}
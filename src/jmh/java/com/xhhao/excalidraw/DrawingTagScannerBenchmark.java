@@ -0,0 +1,63 @@
+package com.xhhao.excalidraw;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 标签扫描：手写扫描器与原正则在 10 KB、1 MB、10 MB 文章上的对比
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DrawingTagScannerBenchmark {
+
+    // 替换前 ExcalidrawContentHandler 使用的正则，仅用于对比
+    private static final Pattern LEGACY_PATTERN = Pattern.compile(
+        "<excalidraw-drawing[^>]*?(?:drawingName|drawingname)\\s*=\\s*[\"']([^\"']+)[\"'][^>]*?>(?:</excalidraw-drawing>)?",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    @Param({"10240", "1048576", "10485760"})
+    int size;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        // 每 20 KB 左右一个绘图
+        content = BenchmarkFixtures.post(size, Math.max(1, size / (20 * 1024)));
+        int expected = legacyRegex().size();
+        int actual = scanner().size();
+        if (expected != actual) {
+            throw new IllegalStateException("扫描结果不一致: regex=" + expected + ", scanner=" + actual);
+        }
+    }
+
+    @Benchmark
+    public List<DrawingTagScanner.Tag> scanner() {
+        return DrawingTagScanner.scan(content);
+    }
+
+    @Benchmark
+    public List<DrawingTagScanner.Tag> legacyRegex() {
+        List<DrawingTagScanner.Tag> tags = new ArrayList<>();
+        Matcher matcher = LEGACY_PATTERN.matcher(content);
+        while (matcher.find()) {
+            tags.add(new DrawingTagScanner.Tag(matcher.start(), matcher.end(), matcher.group(1)));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,41 @@
+package com.xhhao.excalidraw;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * HTML 转义：不含特殊字符、少量特殊字符和预览地址三种典型输入
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EscapeHtmlBenchmark {
+
+    @Param({"plain", "special", "url"})
+    String input;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        text = switch (input) {
+            case "plain" -> "系统架构图 Architecture Overview 2025";
+            case "special" -> "流程 <A> & \"B\" -> <C>";
+            default -> "/upload/excalidraw/drawing-1.svg?width=800&height=600&v=3";
+        };
+    }
+
+    @Benchmark
+    public String escapeHtml() {
+        return ExcalidrawContentHandler.escapeHtml(text);
+    }
+}
@@ -0,0 +1,114 @@
+package com.xhhao.excalidraw;
+
+import com.xhhao.excalidraw.service.SettingConfigGetter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Mono;
+import run.halo.app.theme.ReactivePostContentHandler.PostContentContext;
+
+/**
+ * 文章内容处理器：不同绘图数量下的整体替换耗时
+ *
+ * <p>cold 模式每次调用前清空片段缓存，走批量查询和片段渲染；warm 模式全部命中缓存。
+ * inline 为 on 时预览图（约 {@value #PREVIEW_SIZE} 字节的 SVG）已在内联缓存中，输出内联标记；
+ * 结束时打印页面大小：HTML 字节数、额外的图片请求数以及两者合计的传输量。
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExcalidrawContentHandlerBenchmark {
+
+    static final int PREVIEW_SIZE = 4 * 1024;
+
+    @Param({"0", "5", "50"})
+    int drawings;
+
+    @Param({"cold", "warm"})
+    String cache;
+
+    @Param({"off", "on"})
+    String inline;
+
+    private String content;
+    private DrawingFragmentCache fragmentCache;
+    private ExcalidrawContentHandler handler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        content = BenchmarkFixtures.post(20 * 1024, drawings);
+        fragmentCache = new DrawingFragmentCache(new SimpleMeterRegistry());
+        var inlineCache = new PreviewInlineCache();
+        var preview = BenchmarkFixtures.svg(PREVIEW_SIZE).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < drawings; i++) {
+            inlineCache.put(BenchmarkFixtures.attachmentName(i), PreviewInlineCache.SVG, preview);
+        }
+        var config = new SettingConfigGetter.BasicConfig();
+        config.setPreviewSettings(new SettingConfigGetter.PreviewSettings());
+        config.getPreviewSettings().setInlineMaxSize("on".equals(inline) ? 8 : 0);
+        // 内联缓存已预先填充，不会触发后台加载
+        handler = new ExcalidrawContentHandler(
+            BenchmarkFixtures.stubClient(BenchmarkFixtures.drawings(drawings)), fragmentCache,
+            new ExcalidrawMetrics(new SimpleMeterRegistry()), settings(config), inlineCache, null, null);
+    }
+
+    private static SettingConfigGetter settings(SettingConfigGetter.BasicConfig config) {
+        return new SettingConfigGetter() {
+            @Override
+            public Mono<BasicConfig> getBasicConfig() {
+                return Mono.just(config);
+            }
+
+            @Override
+            public Mono<Long> getConfigVersion() {
+                return Mono.just(0L);
+            }
+        };
+    }
+
+    @Setup(Level.Invocation)
+    public void resetCache() {
+        if ("cold".equals(cache)) {
+            fragmentCache.invalidateAll();
+        }
+    }
+
+    @Benchmark
+    public String handle() {
+        var context = PostContentContext.builder()
+            .content(content)
+            .raw(content)
+            .rawType("html")
+            .build();
+        return handler.handle(context).block().getContent();
+    }
+
+    @TearDown(Level.Trial)
+    public void reportPageWeight() {
+        var html = handle();
+        int htmlBytes = html.getBytes(StandardCharsets.UTF_8).length;
+        int imageRequests = count(html, "<img src=\"/upload/");
+        System.out.printf("%n[page weight] drawings=%d inline=%s html=%d bytes, image requests=%d, total=%d bytes%n",
+            drawings, inline, htmlBytes, imageRequests, htmlBytes + (long) imageRequests * PREVIEW_SIZE);
+    }
+
+    private static int count(String text, String pattern) {
+        int count = 0;
+        for (int i = text.indexOf(pattern); i >= 0; i = text.indexOf(pattern, i + pattern.length())) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,77 @@
+package com.xhhao.excalidraw.scene;
+
+import com.xhhao.excalidraw.BenchmarkFixtures;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 场景编码与解码的耗时，以及编码前后的存储大小
+ *
+ * <p>存储大小在每组参数结束时输出：raw 为原始 JSON，stored 为压缩数据与单独保存的文件之和。
+ * 吞吐量（MB/s）可由 raw 大小除以平均耗时得到。
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SceneCodecBenchmark {
+
+    @Param({"20", "200", "1000", "3000"})
+    int elements;
+
+    @Param({"0", "5"})
+    int images;
+
+    private String scene;
+    private SceneCodec.Encoded encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scene = BenchmarkFixtures.scene(elements, images);
+        encoded = SceneCodec.encode(scene);
+        if (!scene.equals(SceneCodec.decode(encoded.data(), encoded.files()))) {
+            throw new IllegalStateException("解码结果与原文不一致");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printSizes() {
+        long files = encoded.files() == null ? 0
+            : encoded.files().entrySet().stream()
+                .mapToLong(entry -> entry.getKey().length() + entry.getValue().length())
+                .sum();
+        long stored = encoded.data().length() + files;
+        System.out.printf("%n[scene] elements=%d images=%d raw=%d stored=%d (data=%d, files=%d) %.1f%%%n",
+            elements, images, scene.length(), stored, encoded.data().length(), files,
+            stored * 100.0 / scene.length());
+    }
+
+    @Benchmark
+    public SceneCodec.Encoded encode() {
+        return SceneCodec.encode(scene);
+    }
+
+    @Benchmark
+    public String decode() {
+        return SceneCodec.decode(encoded.data(), encoded.files());
+    }
+
+    /**
+     * 检索词条提取等只读取元素的场景不还原内嵌图片
+     */
+    @Benchmark
+    public String decodeWithoutFiles() {
+        return SceneCodec.decode(encoded.data(), Map.of());
+    }
+}
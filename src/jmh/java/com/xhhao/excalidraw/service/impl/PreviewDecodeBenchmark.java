@@ -0,0 +1,45 @@
+package com.xhhao.excalidraw.service.impl;
+
+import com.xhhao.excalidraw.BenchmarkFixtures;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 预览图上传前的内容解码：SVG 文本编码与 PNG data URL 的 base64 解码
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PreviewDecodeBenchmark {
+
+    @Param({"102400", "1048576", "5242880"})
+    int size;
+
+    private String svg;
+    private String pngDataUrl;
+
+    @Setup
+    public void setUp() {
+        svg = BenchmarkFixtures.svg(size);
+        pngDataUrl = BenchmarkFixtures.pngDataUrl(size);
+    }
+
+    @Benchmark
+    public byte[] svg() {
+        return ExcalidrawServiceImpl.decodePreviewContent(svg, true);
+    }
+
+    @Benchmark
+    public byte[] png() {
+        return ExcalidrawServiceImpl.decodePreviewContent(pngDataUrl, false);
+    }
+}
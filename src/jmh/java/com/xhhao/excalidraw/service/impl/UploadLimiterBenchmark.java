@@ -0,0 +1,82 @@
+package com.xhhao.excalidraw.service.impl;
+
+import com.xhhao.excalidraw.ExcalidrawMetrics;
+import com.xhhao.excalidraw.service.UploadRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 200 个并发保存下的上传延迟分布（SampleTime 输出 p50/p99/p999）
+ *
+ * <p>模拟的上传包含 {@value #STORAGE_MILLIS} ms 的阻塞存储写入。boundedElastic 模式为原先直接使用共享调度器的做法，
+ * 全部请求排队执行，延迟随并发增长；limiter 模式经过 {@link UploadLimiter}，超过上限的请求立即被拒绝，
+ * 接受的请求延迟保持稳定。被拒绝的次数见 rejected 计数。
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(200)
+public class UploadLimiterBenchmark {
+
+    static final long STORAGE_MILLIS = 20;
+
+    @Param({"boundedElastic", "limiter"})
+    String mode;
+
+    private UploadLimiter limiter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new UploadLimiter(new ExcalidrawMetrics(new SimpleMeterRegistry()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        limiter.destroy();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long accepted;
+        public long rejected;
+    }
+
+    @Benchmark
+    public Integer save(Outcomes outcomes) {
+        var upload = Mono.fromCallable(() -> {
+            Thread.sleep(STORAGE_MILLIS);
+            return 1;
+        });
+        // 每个线程模拟不同用户，单用户上限不参与
+        var user = Thread.currentThread().getName();
+        var result = "limiter".equals(mode)
+            ? limiter.limit(user, upload)
+            : upload.subscribeOn(Schedulers.boundedElastic());
+        try {
+            var value = result.block(Duration.ofSeconds(30));
+            outcomes.accepted++;
+            return value;
+        } catch (UploadRejectedException e) {
+            outcomes.rejected++;
+            return 0;
+        }
+    }
+}
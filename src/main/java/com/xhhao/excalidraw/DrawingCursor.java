@@ -0,0 +1,85 @@
+package com.xhhao.excalidraw;
+
+import static run.halo.app.extension.index.query.Queries.and;
+import static run.halo.app.extension.index.query.Queries.equal;
+import static run.halo.app.extension.index.query.Queries.lessThan;
+import static run.halo.app.extension.index.query.Queries.or;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import org.springframework.data.domain.Sort;
+import run.halo.app.extension.index.query.Query;
+
+/**
+ * 绘图列表的游标，记录上一页最后一个绘图的排序键
+ *
+ * <p>列表按创建时间倒序、名称倒序排列，下一页从游标之后开始，由索引直接定位，
+ * 不需要像偏移分页那样跳过前面的所有记录。对外以不透明的 base64url 字符串传递。
+ *
+ * @author Handsome
+ */
+public record DrawingCursor(Instant creationTimestamp, String name) {
+
+    public static final Sort SORT = Sort.by(
+        Sort.Order.desc("metadata.creationTimestamp"),
+        Sort.Order.desc("metadata.name"));
+
+    /**
+     * 与 {@link #SORT} 一致的排序
+     */
+    public static final Comparator<DrawingCursor> ORDER = Comparator
+        .comparing(DrawingCursor::creationTimestamp)
+        .thenComparing(DrawingCursor::name)
+        .reversed();
+
+    private static final char SEPARATOR = '\n';
+
+    public static DrawingCursor of(Drawing drawing) {
+        var metadata = drawing.getMetadata();
+        return new DrawingCursor(metadata.getCreationTimestamp(), metadata.getName());
+    }
+
+    /**
+     * 解析游标
+     *
+     * @throws IllegalArgumentException 游标格式不正确时
+     */
+    public static DrawingCursor decode(String token) {
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("无效的游标", e);
+        }
+        int separator = value.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == value.length() - 1) {
+            throw new IllegalArgumentException("无效的游标");
+        }
+        try {
+            return new DrawingCursor(Instant.parse(value.substring(0, separator)),
+                value.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("无效的游标", e);
+        }
+    }
+
+    public String encode() {
+        var value = creationTimestamp + String.valueOf(SEPARATOR) + name;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 排在游标之后的绘图
+     */
+    public Query after() {
+        return or(
+            lessThan("metadata.creationTimestamp", creationTimestamp),
+            and(equal("metadata.creationTimestamp", creationTimestamp), lessThan("metadata.name", name))
+        );
+    }
+}
@@ -0,0 +1,209 @@
+package com.xhhao.excalidraw;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import run.halo.app.plugin.PluginConfigUpdatedEvent;
+
+/**
+ * 文章内容中绘图片段（渲染后的 figure HTML）的内存缓存
+ *
+ * <p>以绘图名称为键，记录生成片段时的 metadata.version，容量有上限（按最近访问淘汰）并带有过期时间。
+ * 绘图的新增、更新和删除由 {@link com.xhhao.excalidraw.reconciler.DrawingReconciler} 及时失效。
+ *
+ * <p>协调器失效时同时记录绘图的最新版本（或已删除），文章渲染在失效之前读取到的旧绘图生成的片段
+ * 晚于失效写入时按版本拒绝，不会在过期前一直返回旧内容。
+ *
+ * @author Handsome
+ */
+@Component
+public class DrawingFragmentCache {
+
+    static final int MAX_SIZE = 2000;
+    static final Duration TTL = Duration.ofMinutes(30);
+    // 记录最新版本的绘图数上限，超出时丢弃最早记录的
+    static final int MAX_TRACKED_VERSIONS = MAX_SIZE * 10;
+    private static final long DELETED = -1;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > MAX_SIZE) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // 协调器看到的各绘图最新 metadata.version，已删除为 DELETED，与 entries 使用同一把锁
+    private final Map<String, Long> latestVersions = new LinkedHashMap<>(64, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_TRACKED_VERSIONS;
+        }
+    };
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters = new ArrayList<>();
+
+    @Autowired
+    public DrawingFragmentCache(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public DrawingFragmentCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meters.add(FunctionCounter.builder("excalidraw.fragment.cache.gets", hits, LongAdder::sum)
+            .tag("result", "hit")
+            .description("绘图片段缓存命中次数")
+            .register(meterRegistry));
+        meters.add(FunctionCounter.builder("excalidraw.fragment.cache.gets", misses, LongAdder::sum)
+            .tag("result", "miss")
+            .description("绘图片段缓存未命中次数")
+            .register(meterRegistry));
+        meters.add(FunctionCounter.builder("excalidraw.fragment.cache.evictions", evictions,
+                LongAdder::sum)
+            .description("绘图片段缓存淘汰次数（容量或过期）")
+            .register(meterRegistry));
+        meters.add(Gauge.builder("excalidraw.fragment.cache.size", this, DrawingFragmentCache::size)
+            .description("绘图片段缓存当前条目数")
+            .register(meterRegistry));
+    }
+
+    /**
+     * 获取缓存的片段，过期条目视为未命中并被移除
+     */
+    @Nullable
+    public String get(String drawingName) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(drawingName);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                entries.remove(drawingName);
+                evictions.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.fragment();
+    }
+
+    /**
+     * 缓存片段，生成片段的绘图早于协调器记录的最新版本时忽略
+     *
+     * @param version 生成片段时绘图的 metadata.version，绘图不存在时为 null
+     * @return 是否已缓存
+     */
+    public boolean put(String drawingName, @Nullable Long version, String fragment) {
+        var entry = new Entry(version, fragment, System.nanoTime() + TTL.toNanos());
+        synchronized (entries) {
+            var latest = latestVersions.get(drawingName);
+            if (latest != null && isOutdated(version, latest)) {
+                return false;
+            }
+            entries.put(drawingName, entry);
+            return true;
+        }
+    }
+
+    private static boolean isOutdated(@Nullable Long version, long latest) {
+        if (latest == DELETED) {
+            return version != null;
+        }
+        return version == null || version < latest;
+    }
+
+    public void invalidate(String drawingName) {
+        synchronized (entries) {
+            entries.remove(drawingName);
+        }
+    }
+
+    /**
+     * 缓存条目版本与绘图当前版本不一致时失效，并记录当前版本
+     */
+    public void invalidateIfStale(String drawingName, @Nullable Long currentVersion) {
+        synchronized (entries) {
+            if (currentVersion != null) {
+                latestVersions.put(drawingName, currentVersion);
+            }
+            var entry = entries.get(drawingName);
+            if (entry != null && !Objects.equals(entry.version(), currentVersion)) {
+                entries.remove(drawingName);
+            }
+        }
+    }
+
+    /**
+     * 绘图已删除或不存在时失效，之后只接受绘图不存在的占位片段，直到绘图重新创建
+     */
+    public void invalidateDeleted(String drawingName) {
+        synchronized (entries) {
+            latestVersions.put(drawingName, DELETED);
+            entries.remove(drawingName);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 片段内容与插件设置有关（如内联阈值），设置变更后全部重新生成
+     */
+    @EventListener(PluginConfigUpdatedEvent.class)
+    public void onConfigUpdated() {
+        invalidateAll();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    @PreDestroy
+    void destroy() {
+        meters.forEach(meterRegistry::remove);
+        invalidateAll();
+    }
+
+    private record Entry(@Nullable Long version, String fragment, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+}
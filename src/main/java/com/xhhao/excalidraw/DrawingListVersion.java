@@ -0,0 +1,32 @@
+package com.xhhao.excalidraw;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * 绘图列表的整体版本，任一绘图新增、更新或删除后加一
+ *
+ * <p>插件接口的保存、上传、删除在写入成功后、响应返回前同步递增；
+ * 通过 Halo 通用接口等其他途径的变更由 {@link com.xhhao.excalidraw.reconciler.DrawingReconciler} 异步递增。
+ * 列表接口以此生成 ETag，客户端缓存仍有效时直接返回 304，不查询任何绘图。
+ * 版本只保存在内存中，附带插件启动时间作为纪元，重启后旧的 ETag 全部失效。
+ *
+ * @author Handsome
+ */
+@Component
+public class DrawingListVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong version = new AtomicLong();
+
+    public void increment() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 当前版本，形如 {@code <纪元>-<序号>}
+     */
+    public String current() {
+        return epoch + "-" + version.get();
+    }
+}
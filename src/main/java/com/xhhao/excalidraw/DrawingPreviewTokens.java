@@ -0,0 +1,116 @@
+package com.xhhao.excalidraw;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.extension.Secret;
+
+/**
+ * 延迟加载占位符携带的访问令牌
+ *
+ * <p>公开的预览片段接口只接受文章渲染时签发的令牌，令牌为绘图名称的 HMAC-SHA256，
+ * 匿名访问者无法通过枚举名称读取没有出现在文章中的绘图。
+ * 签名密钥首次使用时随机生成并保存在 Secret 中，插件重启后已输出到页面的令牌仍然有效。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrawingPreviewTokens {
+
+    static final String SECRET_NAME = "excalidraw-preview-token-key";
+    private static final String KEY = "key";
+    private static final int KEY_BYTES = 32;
+
+    private final ReactiveExtensionClient client;
+
+    private final AtomicReference<Signer> signer = new AtomicReference<>();
+
+    public Mono<Signer> signer() {
+        var cached = signer.get();
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return client.fetch(Secret.class, SECRET_NAME)
+            .switchIfEmpty(Mono.defer(this::createSecret))
+            .map(secret -> new Signer(keyOf(secret)))
+            .map(loaded -> signer.compareAndSet(null, loaded) ? loaded : signer.get());
+    }
+
+    private Mono<Secret> createSecret() {
+        var key = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(key);
+        var secret = new Secret();
+        var metadata = new Metadata();
+        metadata.setName(SECRET_NAME);
+        secret.setMetadata(metadata);
+        secret.setStringData(Map.of(KEY, Base64.getEncoder().encodeToString(key)));
+        log.info("已生成绘图预览令牌的签名密钥 {}", SECRET_NAME);
+        // 并发创建时以先创建成功的为准
+        return client.create(secret)
+            .onErrorResume(e -> client.fetch(Secret.class, SECRET_NAME));
+    }
+
+    private static byte[] keyOf(Secret secret) {
+        String encoded = secret.getStringData() == null ? null : secret.getStringData().get(KEY);
+        if (encoded == null && secret.getData() != null && secret.getData().get(KEY) != null) {
+            encoded = new String(secret.getData().get(KEY), StandardCharsets.UTF_8);
+        }
+        if (encoded == null) {
+            throw new IllegalStateException("Secret " + SECRET_NAME + " 中缺少签名密钥");
+        }
+        return Base64.getDecoder().decode(encoded);
+    }
+
+    /**
+     * 按密钥签发和校验令牌
+     */
+    public static final class Signer {
+
+        private static final String ALGORITHM = "HmacSHA256";
+        // 令牌取 HMAC 的前 16 字节
+        private static final int TOKEN_BYTES = 16;
+
+        private final SecretKeySpec key;
+
+        Signer(byte[] key) {
+            this.key = new SecretKeySpec(key, ALGORITHM);
+        }
+
+        /**
+         * @return base64url 编码的令牌，不含填充
+         */
+        public String sign(String drawingName) {
+            try {
+                var mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                var digest = mac.doFinal(drawingName.getBytes(StandardCharsets.UTF_8));
+                return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(digest, TOKEN_BYTES));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("无法签发绘图预览令牌", e);
+            }
+        }
+
+        public boolean verify(String drawingName, @Nullable String token) {
+            return token != null && MessageDigest.isEqual(
+                sign(drawingName).getBytes(StandardCharsets.US_ASCII),
+                token.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.xhhao.excalidraw;
+
+import static org.springdoc.core.fn.builders.parameter.Builder.parameterBuilder;
+
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.springdoc.core.fn.builders.operation.Builder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebInputException;
+import run.halo.app.extension.ListOptions;
+
+/**
+ * 绘图摘要的游标分页查询参数
+ *
+ * @author Handsome
+ */
+public class DrawingSummaryQuery {
+
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+
+    /**
+     * 可投影的字段，未指定 fields 时返回全部
+     */
+    public static final Set<String> FIELDS = Set.of(
+        "name", "displayName", "previewUrl", "creationTimestamp", "deletionTimestamp", "elementCount");
+
+    private final MultiValueMap<String, String> queryParams;
+
+    public DrawingSummaryQuery(ServerRequest request) {
+        this.queryParams = request.queryParams();
+    }
+
+    public int getSize() {
+        var size = queryParams.getFirst("size");
+        if (StringUtils.isBlank(size)) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            return Math.min(Math.max(Integer.parseInt(size), 1), MAX_SIZE);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("无效的 size: " + size);
+        }
+    }
+
+    @Nullable
+    public DrawingCursor getCursor() {
+        var cursor = queryParams.getFirst("cursor");
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            return DrawingCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ServerWebInputException(e.getMessage());
+        }
+    }
+
+    /**
+     * 需要返回的字段，支持逗号分隔或重复传参
+     */
+    public Set<String> getFields() {
+        var values = queryParams.get("fields");
+        if (values == null || values.isEmpty()) {
+            return FIELDS;
+        }
+        Set<String> fields = values.stream()
+            .flatMap(value -> Arrays.stream(value.split(",")))
+            .map(String::trim)
+            .filter(StringUtils::isNotEmpty)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        var unknown = fields.stream().filter(field -> !FIELDS.contains(field)).toList();
+        if (!unknown.isEmpty()) {
+            throw new ServerWebInputException("不支持的字段: " + String.join(", ", unknown));
+        }
+        return fields.isEmpty() ? FIELDS : fields;
+    }
+
+    public ListOptions toListOptions() {
+        var builder = ListOptions.builder();
+        ExcalidrawQuery.applyFilters(builder, queryParams.getFirst("keyword"), queryParams.getFirst("text"));
+        ExcalidrawQuery.applyElementFilters(builder, queryParams);
+        var cursor = getCursor();
+        if (cursor != null) {
+            builder.andQuery(cursor.after());
+        }
+        return builder.build();
+    }
+
+    public static void buildParameters(Builder builder) {
+        ExcalidrawQuery.filterParameters(builder
+            .parameter(parameterBuilder()
+                .in(ParameterIn.QUERY)
+                .name("size")
+                .description("每页数量，默认 20，最大 100")
+                .implementation(Integer.class)
+                .required(false))
+            .parameter(parameterBuilder()
+                .in(ParameterIn.QUERY)
+                .name("cursor")
+                .description("上一页返回的 nextCursor，为空时从第一页开始")
+                .implementation(String.class)
+                .required(false))
+            .parameter(parameterBuilder()
+                .in(ParameterIn.QUERY)
+                .name("fields")
+                .description("需要返回的字段，可选 name、displayName、previewUrl、creationTimestamp、"
+                    + "deletionTimestamp、elementCount，逗号分隔，默认全部")
+                .implementationArray(String.class)
+                .required(false)));
+    }
+}
@@ -0,0 +1,183 @@
+package com.xhhao.excalidraw;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * 单次顺序扫描文章内容中的 {@code <excalidraw-drawing>} 标签
+ *
+ * <p>匹配规则与原先的正则保持一致：
+ * <pre>
+ * &lt;excalidraw-drawing[^&gt;]*?(?:drawingName|drawingname)\s*=\s*["']([^"']+)["'][^&gt;]*?&gt;(?:&lt;/excalidraw-drawing&gt;)?
+ * </pre>
+ * 标签名与属性名按 ASCII 忽略大小写，属性值不能为空，结束标签可选。
+ * 扫描过程不创建中间字符串，只在命中时截取绘图名称。
+ *
+ * @author Handsome
+ */
+final class DrawingTagScanner {
+
+    private static final String TAG_OPEN = "<excalidraw-drawing";
+    private static final String ATTRIBUTE = "drawingname";
+    private static final String TAG_CLOSE = "</excalidraw-drawing>";
+
+    private DrawingTagScanner() {
+    }
+
+    /**
+     * 按出现顺序返回所有命中的标签
+     */
+    static List<Tag> scan(String content) {
+        List<Tag> tags = new ArrayList<>();
+        int length = content.length();
+        int from = 0;
+        while (from < length) {
+            int tagStart = content.indexOf('<', from);
+            if (tagStart < 0) {
+                break;
+            }
+            if (!regionMatchesIgnoreCase(content, tagStart, TAG_OPEN)) {
+                from = tagStart + 1;
+                continue;
+            }
+            Tag tag = matchTag(content, tagStart);
+            if (tag == null) {
+                from = tagStart + 1;
+                continue;
+            }
+            tags.add(tag);
+            from = tag.end();
+        }
+        return tags;
+    }
+
+    private static Tag matchTag(String content, int tagStart) {
+        int length = content.length();
+        // 属性可以出现在开始标签第一个 '>' 之前的任意位置，依次尝试每个候选
+        for (int i = tagStart + TAG_OPEN.length(); i < length; i++) {
+            char c = content.charAt(i);
+            if (c == '>') {
+                return null;
+            }
+            if ((c | 0x20) == 'd' && regionMatchesIgnoreCase(content, i, ATTRIBUTE)) {
+                Tag tag = matchAttributeValue(content, tagStart, i + ATTRIBUTE.length());
+                if (tag != null) {
+                    return tag;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Tag matchAttributeValue(String content, int tagStart, int index) {
+        int length = content.length();
+        int i = skipWhitespace(content, index);
+        if (i >= length || content.charAt(i) != '=') {
+            return null;
+        }
+        i = skipWhitespace(content, i + 1);
+        if (i >= length || !isQuote(content.charAt(i))) {
+            return null;
+        }
+        int valueStart = ++i;
+        while (i < length && !isQuote(content.charAt(i))) {
+            i++;
+        }
+        if (i == valueStart || i >= length) {
+            return null;
+        }
+        int valueEnd = i;
+        int tagEnd = content.indexOf('>', i + 1);
+        if (tagEnd < 0) {
+            return null;
+        }
+        int end = tagEnd + 1;
+        if (regionMatchesIgnoreCase(content, end, TAG_CLOSE)) {
+            end += TAG_CLOSE.length();
+        }
+        return new Tag(tagStart, end, content.substring(valueStart, valueEnd));
+    }
+
+    /**
+     * 读取命中标签上的其他属性，如编辑器写入的 {@code height}
+     *
+     * @param lowerCaseName 全小写的属性名，前面必须是空白字符，避免匹配到 {@code data-height} 等属性
+     * @return 属性值，属性不存在或值为空时返回 null
+     */
+    @Nullable
+    static String attribute(String content, Tag tag, String lowerCaseName) {
+        int end = tag.end();
+        for (int i = tag.start() + TAG_OPEN.length(); i < end; i++) {
+            if (!isWhitespace(content.charAt(i - 1)) || !regionMatchesIgnoreCase(content, i, lowerCaseName)) {
+                continue;
+            }
+            int j = skipWhitespace(content, i + lowerCaseName.length());
+            if (j >= end || content.charAt(j) != '=') {
+                continue;
+            }
+            j = skipWhitespace(content, j + 1);
+            if (j >= end || !isQuote(content.charAt(j))) {
+                continue;
+            }
+            int valueEnd = content.indexOf(content.charAt(j), j + 1);
+            if (valueEnd < 0 || valueEnd >= end || valueEnd == j + 1) {
+                return null;
+            }
+            return content.substring(j + 1, valueEnd);
+        }
+        return null;
+    }
+
+    private static int skipWhitespace(String content, int index) {
+        int length = content.length();
+        while (index < length && isWhitespace(content.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * 与正则 {@code \s} 相同的空白字符集合
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '"' || c == '\'';
+    }
+
+    /**
+     * 仅对 ASCII 字母忽略大小写，与未开启 UNICODE_CASE 的正则一致
+     *
+     * @param lowerCase 全小写的待匹配文本
+     */
+    private static boolean regionMatchesIgnoreCase(String content, int offset, String lowerCase) {
+        int length = lowerCase.length();
+        if (offset + length > content.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char expected = lowerCase.charAt(i);
+            char actual = content.charAt(offset + i);
+            if (actual == expected) {
+                continue;
+            }
+            if (expected < 'a' || expected > 'z' || (actual | 0x20) != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 命中的标签
+     *
+     * @param start 标签起始位置（包含）
+     * @param end 标签结束位置（不包含），包括可选的结束标签
+     * @param drawingName 绘图名称
+     */
+    record Tag(int start, int end, String drawingName) {
+    }
+}
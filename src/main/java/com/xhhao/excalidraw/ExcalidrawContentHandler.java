@@ -1,28 +1,50 @@
 package com.xhhao.excalidraw;
 
+import static run.halo.app.extension.index.query.Queries.in;
+
+import com.xhhao.excalidraw.DrawingTagScanner.Tag;
 import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.service.SettingConfigGetter;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.ListOptions;
 import run.halo.app.extension.ReactiveExtensionClient;
 import run.halo.app.theme.ReactivePostContentHandler;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ExcalidrawContentHandler implements ReactivePostContentHandler {
 
     private final ReactiveExtensionClient client;
+    private final DrawingFragmentCache fragmentCache;
+    private final ExcalidrawMetrics metrics;
+    private final SettingConfigGetter settingConfigGetter;
+    private final PreviewInlineCache inlineCache;
+    private final PreviewInlineLoader inlineLoader;
+    private final DrawingPreviewTokens previewTokens;
 
-    // 匹配 <excalidraw-drawing drawingName="xxx" ...> 或 <excalidraw-drawing drawingname="xxx" ...>
-    private static final Pattern EXCALIDRAW_PATTERN = Pattern.compile(
-        "<excalidraw-drawing[^>]*?(?:drawingName|drawingname)\\s*=\\s*[\"']([^\"']+)[\"'][^>]*?>(?:</excalidraw-drawing>)?",
-        Pattern.CASE_INSENSITIVE
-    );
+    // 每个替换片段预留的长度，用于预分配结果缓冲区
+    private static final int FRAGMENT_SIZE_HINT = 256;
+
+    // 延迟加载占位符进入可视区域后请求预览片段的脚本，同一页面只执行一次
+    private static final String LAZY_LOAD_SCRIPT =
+        "<script src=\"/plugins/excalidraw/assets/static/js/lazy-drawing.js\" defer></script>";
+    // 编辑器在标签上记录的高度，只接受像素值，避免写入任意样式
+    private static final Pattern PIXEL_LENGTH = Pattern.compile("\\d{1,5}(?:\\.\\d{1,2})?px");
 
     @Override
     public Mono<PostContentContext> handle(PostContentContext context) {
@@ -31,75 +53,317 @@ public class ExcalidrawContentHandler implements ReactivePostContentHandler {
             return Mono.just(context);
         }
 
-        return replaceExcalidrawTags(content)
+        return metrics.timeContentRender(previewSettings()
+                .flatMap(settings -> settings.isLazyLoad()
+                    ? previewTokens.signer().map(signer -> replaceWithLazyPlaceholders(content, signer))
+                    : replaceExcalidrawTags(content, inlineMaxBytes(settings))))
             .map(newContent -> {
                 context.setContent(newContent);
                 return context;
             });
     }
 
-    private Mono<String> replaceExcalidrawTags(String content) {
-        Matcher matcher = EXCALIDRAW_PATTERN.matcher(content);
-        StringBuilder result = new StringBuilder();
-        return processMatches(content, matcher, result, 0);
+    /**
+     * 单个绘图的预览片段，供延迟加载的占位符进入可视区域后请求
+     *
+     * <p>只按名称读取一个绘图，不存在的绘图返回占位片段但不写入片段缓存，
+     * 避免匿名请求用任意名称填满共享缓存
+     *
+     * @return 与渲染时加载输出的片段相同
+     */
+    public Mono<String> renderFragment(String drawingName) {
+        String cached = fragmentCache.get(drawingName);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return previewSettings()
+            .flatMap(settings -> client.fetch(Drawing.class, drawingName)
+                .filter(drawing -> !ExtensionUtil.isDeleted(drawing))
+                .map(drawing -> {
+                    var fragment = toPreview(drawing, inlineMaxBytes(settings));
+                    fragmentCache.put(drawingName, drawing.getMetadata().getVersion(), fragment);
+                    return fragment;
+                }))
+            .switchIfEmpty(Mono.fromSupplier(() -> {
+                metrics.recordPlaceholder("missing");
+                return createPlaceholder(drawingName);
+            }));
     }
 
-    private Mono<String> processMatches(String content, Matcher matcher, 
-                                         StringBuilder result, int lastEnd) {
-        if (!matcher.find()) {
-            result.append(content.substring(lastEnd));
-            return Mono.just(result.toString());
-        }
+    private Mono<SettingConfigGetter.PreviewSettings> previewSettings() {
+        return settingConfigGetter.getBasicConfig()
+            .mapNotNull(SettingConfigGetter.BasicConfig::getPreviewSettings)
+            .defaultIfEmpty(new SettingConfigGetter.PreviewSettings());
+    }
+
+    /**
+     * 设置中的内联阈值（KB）换算为字节，不超过 {@link PreviewInlineCache#MAX_INLINE_BYTES}，0 表示不内联
+     */
+    private static int inlineMaxBytes(SettingConfigGetter.PreviewSettings settings) {
+        return Math.min(Math.max(settings.getInlineMaxSize(), 0) * 1024, PreviewInlineCache.MAX_INLINE_BYTES);
+    }
 
-        String drawingName = matcher.group(1);
-        int matchStart = matcher.start();
-        int matchEnd = matcher.end();
+    /**
+     * 延迟加载：不查询绘图，片段缓存命中时直接输出，否则输出带令牌的占位区域并在内容末尾引入加载脚本
+     */
+    private String replaceWithLazyPlaceholders(String content, DrawingPreviewTokens.Signer signer) {
+        List<Tag> tags = DrawingTagScanner.scan(content);
+        if (tags.isEmpty()) {
+            return content;
+        }
+        StringBuilder result = new StringBuilder(content.length() + tags.size() * FRAGMENT_SIZE_HINT);
+        Set<String> drawingNames = new LinkedHashSet<>();
+        boolean pending = false;
+        int lastEnd = 0;
+        for (Tag tag : tags) {
+            drawingNames.add(tag.drawingName());
+            result.append(content, lastEnd, tag.start());
+            String fragment = fragmentCache.get(tag.drawingName());
+            if (fragment == null) {
+                metrics.recordPlaceholder("lazy");
+                fragment = createLazyPlaceholder(tag.drawingName(), signer.sign(tag.drawingName()),
+                    DrawingTagScanner.attribute(content, tag, "height"));
+                pending = true;
+            }
+            result.append(fragment);
+            lastEnd = tag.end();
+        }
+        result.append(content, lastEnd, content.length());
+        if (pending) {
+            result.append(LAZY_LOAD_SCRIPT);
+        }
+        metrics.recordDrawingsPerPost(drawingNames.size());
+        return result.toString();
+    }
 
-        // 添加匹配之前的内容
-        result.append(content, lastEnd, matchStart);
+    private Mono<String> replaceExcalidrawTags(String content, int inlineMaxBytes) {
+        // 单次扫描收集所有标签及去重后的绘图名称，再一次性查询，避免逐个标签串行请求
+        List<Tag> tags = DrawingTagScanner.scan(content);
+        if (tags.isEmpty()) {
+            return Mono.just(content);
+        }
+        Set<String> drawingNames = new LinkedHashSet<>();
+        for (Tag tag : tags) {
+            drawingNames.add(tag.drawingName());
+        }
+        metrics.recordDrawingsPerPost(drawingNames.size());
 
-        return getDrawingPreview(drawingName)
-            .defaultIfEmpty(createPlaceholder(drawingName))
-            .flatMap(preview -> {
-                result.append(preview);
-                return processMatches(content, matcher, result, matchEnd);
+        return fetchDrawingPreviews(drawingNames, inlineMaxBytes)
+            .map(previews -> {
+                StringBuilder result =
+                    new StringBuilder(content.length() + tags.size() * FRAGMENT_SIZE_HINT);
+                int lastEnd = 0;
+                for (Tag tag : tags) {
+                    result.append(content, lastEnd, tag.start());
+                    String preview = previews.get(tag.drawingName());
+                    if (preview == null) {
+                        // 批量加载失败，占位符不缓存
+                        metrics.recordPlaceholder("error");
+                        preview = createPlaceholder(tag.drawingName());
+                    }
+                    result.append(preview);
+                    lastEnd = tag.end();
+                }
+                result.append(content, lastEnd, content.length());
+                return result.toString();
             });
     }
 
-    private Mono<String> getDrawingPreview(String drawingName) {
-        return client.fetch(Drawing.class, drawingName)
-            .map(drawing -> {
-                var spec = drawing.getSpec();
-                String displayName = spec.getDisplayName();
-                String previewUrl = spec.getPreviewUrl();
-                
-                if (previewUrl != null && !previewUrl.isBlank()) {
-                    return wrapImage(previewUrl, displayName);
-                }
-                
-                return createPlaceholder(drawingName);
+    /**
+     * 优先从片段缓存读取，未命中的绘图通过一次 metadata.name in 查询批量加载，
+     * 返回绘图名称到预览 HTML 的映射
+     */
+    private Mono<Map<String, String>> fetchDrawingPreviews(Set<String> drawingNames, int inlineMaxBytes) {
+        Map<String, String> previews = new HashMap<>(drawingNames.size() * 2);
+        Set<String> missingNames = new LinkedHashSet<>();
+        for (String drawingName : drawingNames) {
+            String fragment = fragmentCache.get(drawingName);
+            if (fragment != null) {
+                previews.put(drawingName, fragment);
+            } else {
+                missingNames.add(drawingName);
+            }
+        }
+        if (missingNames.isEmpty()) {
+            return Mono.just(previews);
+        }
+
+        var listOptions = ListOptions.builder()
+            .andQuery(in("metadata.name", missingNames))
+            .build();
+        long start = System.nanoTime();
+        return client.listAll(Drawing.class, listOptions, Sort.unsorted())
+            .doOnNext(drawing -> {
+                var name = drawing.getMetadata().getName();
+                var fragment = toPreview(drawing, inlineMaxBytes);
+                fragmentCache.put(name, drawing.getMetadata().getVersion(), fragment);
+                previews.put(name, fragment);
             })
+            .then(Mono.fromSupplier(() -> {
+                // 不存在的绘图同样缓存占位符，创建后由协调器失效
+                for (String drawingName : missingNames) {
+                    if (!previews.containsKey(drawingName)) {
+                        metrics.recordPlaceholder("missing");
+                        String placeholder = createPlaceholder(drawingName);
+                        fragmentCache.put(drawingName, null, placeholder);
+                        previews.put(drawingName, placeholder);
+                    }
+                }
+                metrics.recordDrawingFetch(System.nanoTime() - start, "success");
+                return previews;
+            }))
             .onErrorResume(e -> {
-                log.warn("加载绘图 {} 失败: {}", drawingName, e.getMessage());
-                return Mono.just(createPlaceholder(drawingName));
+                metrics.recordDrawingFetch(System.nanoTime() - start, "error");
+                log.warn("批量加载绘图 {} 失败: {}", missingNames, e.getMessage());
+                return Mono.just(previews);
             });
     }
 
+    private String toPreview(Drawing drawing, int inlineMaxBytes) {
+        var spec = drawing.getSpec();
+        if (spec == null) {
+            metrics.recordPlaceholder("no_preview");
+            return createPlaceholder(drawing.getMetadata().getName());
+        }
+        String displayName = spec.getDisplayName();
+        String previewUrl = spec.getPreviewUrl();
+
+        if (previewUrl != null && !previewUrl.isBlank()) {
+            var attachmentName = spec.getPreviewAttachmentName();
+            if (inlineMaxBytes > 0 && attachmentName != null && !attachmentName.isBlank()) {
+                var inline = inlineCache.get(attachmentName);
+                if (inline == null) {
+                    // 本次输出图片链接，加载完成后片段缓存失效，下次渲染改为内联
+                    inlineLoader.load(drawing.getMetadata().getName(), attachmentName, previewUrl,
+                        PreviewInlineCache.mediaTypeOf(spec.getPreviewFormat()));
+                } else if (inline.fits(inlineMaxBytes)) {
+                    return wrapInline(inline, displayName, dimensions(drawing));
+                }
+            }
+            return wrapImage(previewUrl, displayName, spec, dimensions(drawing));
+        }
+
+        metrics.recordPlaceholder("no_preview");
+        return createPlaceholder(drawing.getMetadata().getName());
+    }
+
     private static final String CONTAINER_STYLE = 
         "width:100%;max-width:100%;margin:1rem 0;overflow-x:auto;";
     private static final String IMG_STYLE = 
         "max-width:100%;height:auto;display:block;";
 
-    private String wrapImage(String url, String displayName) {
-        return String.format(
-            "<figure class=\"excalidraw-drawing\" data-name=\"%s\" style=\"%s\">" +
-            "<img src=\"%s\" alt=\"%s\" style=\"%s\" loading=\"lazy\"/></figure>",
-            escapeHtml(displayName != null ? displayName : ""),
-            CONTAINER_STYLE,
-            escapeHtml(url),
-            escapeHtml(displayName != null ? displayName : "Excalidraw Drawing"),
-            IMG_STYLE
-        );
+    private static final String WEBP = "image/webp";
+
+    /**
+     * 绘图的原始尺寸 {width, height}，优先使用场景保存后计算的统计信息，
+     * 其次使用生成多尺寸预览时记录的尺寸；都没有时返回 null
+     */
+    @Nullable
+    static int[] dimensions(Drawing drawing) {
+        var status = drawing.getStatus();
+        if (status != null && status.getSceneWidth() != null && status.getSceneHeight() != null) {
+            return new int[] {status.getSceneWidth(), status.getSceneHeight()};
+        }
+        var spec = drawing.getSpec();
+        if (spec != null && spec.getPreviewWidth() != null && spec.getPreviewHeight() != null) {
+            return new int[] {spec.getPreviewWidth(), spec.getPreviewHeight()};
+        }
+        return null;
+    }
+
+    /**
+     * 输出预览图；有与当前预览图对应的多尺寸版本时附带 srcset/sizes。已知尺寸时写入 width/height 避免布局偏移，
+     * 样式中的 height:auto 使图片加载后仍按实际宽高比显示。
+     * WebP 版本放在 picture 的 source 中，不支持的浏览器回退到原预览图。
+     */
+    private String wrapImage(String url, String displayName, Drawing.DrawingSpec spec, @Nullable int[] size) {
+        var variants = spec.getPreviewVariants();
+        String srcset = variants != null && !variants.isEmpty()
+            && Objects.equals(spec.getPreviewVariantsSource(), spec.getPreviewAttachmentName())
+            ? srcset(variants) : "";
+        boolean responsive = !srcset.isEmpty();
+        String sizes = responsive && size != null
+            ? "(max-width: " + size[0] + "px) 100vw, " + size[0] + "px"
+            : "100vw";
+        boolean webp = responsive && WEBP.equals(variants.get(0).getMediaType());
+
+        var html = new StringBuilder(FRAGMENT_SIZE_HINT + srcset.length() * 2)
+            .append("<figure class=\"excalidraw-drawing\" data-name=\"")
+            .append(escapeHtml(displayName != null ? displayName : ""))
+            .append("\" style=\"").append(CONTAINER_STYLE).append("\">");
+        if (webp) {
+            html.append("<picture><source type=\"").append(WEBP).append("\" srcset=\"")
+                .append(srcset).append("\" sizes=\"").append(sizes).append("\"/>");
+        }
+        html.append("<img src=\"").append(escapeHtml(url)).append('"');
+        if (responsive && !webp) {
+            html.append(" srcset=\"").append(srcset).append("\" sizes=\"").append(sizes).append('"');
+        }
+        html.append(" alt=\"").append(escapeHtml(displayName != null ? displayName : "Excalidraw Drawing"))
+            .append("\" style=\"").append(IMG_STYLE).append('"');
+        if (size != null) {
+            html.append(" width=\"").append(size[0]).append("\" height=\"").append(size[1]).append('"');
+        }
+        html.append(" loading=\"lazy\" decoding=\"async\"/>");
+        if (webp) {
+            html.append("</picture>");
+        }
+        return html.append("</figure>").toString();
+    }
+
+    /**
+     * 直接输出预览图内容，省去一次图片请求：SVG 为清理后的标记，位图为 data URL
+     */
+    private String wrapInline(PreviewInlineCache.InlinePreview inline, String displayName,
+                              @Nullable int[] size) {
+        var alt = escapeHtml(displayName != null ? displayName : "Excalidraw Drawing");
+        var html = new StringBuilder(inline.content().length() + FRAGMENT_SIZE_HINT)
+            .append("<figure class=\"excalidraw-drawing\" data-name=\"")
+            .append(escapeHtml(displayName != null ? displayName : ""))
+            .append("\" style=\"").append(CONTAINER_STYLE).append("\">");
+        if (inline.svg()) {
+            // 属性插入在最前，与 SVG 自带的同名属性重复时以此为准
+            html.append("<svg role=\"img\" aria-label=\"").append(alt)
+                .append("\" style=\"").append(IMG_STYLE).append('"')
+                .append(inline.content(), "<svg".length(), inline.content().length());
+        } else {
+            html.append("<img src=\"").append(inline.content()).append("\" alt=\"").append(alt)
+                .append("\" style=\"").append(IMG_STYLE).append('"');
+            if (size != null) {
+                html.append(" width=\"").append(size[0]).append("\" height=\"").append(size[1]).append('"');
+            }
+            html.append(" decoding=\"async\"/>");
+        }
+        return html.append("</figure>").toString();
+    }
+
+    private static String srcset(List<Drawing.PreviewVariant> variants) {
+        var srcset = new StringJoiner(", ");
+        for (var variant : variants) {
+            if (variant.getUrl() != null && !variant.getUrl().isBlank() && variant.getWidth() != null) {
+                // srcset 以逗号和空白分隔候选项，URL 中的这两种字符需要编码
+                srcset.add(escapeHtml(variant.getUrl()).replace(",", "%2C").replace(" ", "%20")
+                    + " " + variant.getWidth() + "w");
+            }
+        }
+        return srcset.toString();
+    }
+
+    /**
+     * 延迟加载的占位区域，按编辑器中的高度预留空间，加载后由预览片段整体替换
+     *
+     * @param token 请求预览片段时携带，证明绘图出现在已渲染的内容中
+     */
+    private static String createLazyPlaceholder(String drawingName, String token, @Nullable String height) {
+        var html = new StringBuilder(FRAGMENT_SIZE_HINT)
+            .append("<figure class=\"excalidraw-drawing excalidraw-lazy\" data-name=\"")
+            .append(escapeHtml(drawingName))
+            .append("\" data-token=\"").append(token)
+            .append("\" style=\"").append(CONTAINER_STYLE);
+        if (height != null && PIXEL_LENGTH.matcher(height).matches()) {
+            html.append("min-height:").append(height).append(';');
+        }
+        return html.append("\"></figure>").toString();
     }
 
     private String createPlaceholder(String drawingName) {
@@ -110,7 +374,7 @@ public class ExcalidrawContentHandler implements ReactivePostContentHandler {
         );
     }
 
-    private String escapeHtml(String text) {
+    static String escapeHtml(String text) {
         if (text == null) return "";
         return text.replace("&", "&amp;")
                    .replace("<", "&lt;")
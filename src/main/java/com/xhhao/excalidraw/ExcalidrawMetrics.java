@@ -0,0 +1,273 @@
+package com.xhhao.excalidraw;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+/**
+ * 插件的 Micrometer 指标，注册到 Halo 应用的 MeterRegistry，可由 Prometheus 端点导出
+ *
+ * <p>所有标签取值都是有限集合（路由模板、格式、结果），不包含绘图名称等无界取值。
+ * 带标签的计时器在首次使用时创建并缓存，之后记录一次只是一次 Map 查找和原子累加。
+ *
+ * @author Handsome
+ */
+@Component
+public class ExcalidrawMetrics {
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters = new ArrayList<>();
+    // 带动态标签的指标，键为指标名称和标签取值
+    private final Map<String, Meter> taggedMeters = new ConcurrentHashMap<>();
+
+    private final Timer contentRender;
+    private final DistributionSummary drawingsPerPost;
+    private final Counter previewReused;
+    private final Counter previewUploaded;
+    private final Counter attachmentDeleteFailures;
+    private final Counter orphanPreviewsDeleted;
+    private final DistributionSummary svgOriginalBytes;
+    private final DistributionSummary svgOptimizedBytes;
+
+    /**
+     * 使用 Halo 上下文中的 MeterRegistry，插件上下文中获取不到时退回全局注册表
+     */
+    @Autowired
+    public ExcalidrawMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public ExcalidrawMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        contentRender = register(Timer.builder("excalidraw.content.render")
+            .description("文章内容中绘图标签替换耗时")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_EXPECTED)
+            .maximumExpectedValue(MAX_EXPECTED)
+            .register(meterRegistry));
+        drawingsPerPost = register(DistributionSummary.builder("excalidraw.content.drawings")
+            .description("每篇文章引用的绘图数量（去重后）")
+            .register(meterRegistry));
+        previewReused = register(Counter.builder("excalidraw.preview.uploads")
+            .tag("result", "reused")
+            .description("内容未变化而复用已有附件的预览图次数")
+            .register(meterRegistry));
+        previewUploaded = register(Counter.builder("excalidraw.preview.uploads")
+            .tag("result", "uploaded")
+            .description("实际上传的预览图次数")
+            .register(meterRegistry));
+        attachmentDeleteFailures = register(Counter.builder("excalidraw.attachment.delete.failures")
+            .description("删除旧预览附件失败次数")
+            .register(meterRegistry));
+        orphanPreviewsDeleted = register(Counter.builder("excalidraw.preview.orphans.deleted")
+            .description("清理的未被任何绘图引用的预览附件数")
+            .register(meterRegistry));
+        svgOriginalBytes = register(DistributionSummary.builder("excalidraw.preview.svg.bytes")
+            .tag("stage", "original")
+            .baseUnit("bytes")
+            .description("SVG 预览图压缩前大小")
+            .register(meterRegistry));
+        svgOptimizedBytes = register(DistributionSummary.builder("excalidraw.preview.svg.bytes")
+            .tag("stage", "optimized")
+            .baseUnit("bytes")
+            .description("SVG 预览图压缩后大小")
+            .register(meterRegistry));
+    }
+
+    /**
+     * 为端点的每个路由记录耗时，标签为路由模板、请求方法和响应状态
+     */
+    public HandlerFilterFunction<ServerResponse, ServerResponse> endpointFilter() {
+        return this::timeRoute;
+    }
+
+    private Mono<ServerResponse> timeRoute(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        var route = request.attribute(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE)
+            .map(pattern -> pattern instanceof PathPattern pathPattern
+                ? pathPattern.getPatternString() : pattern.toString())
+            .orElse("unknown");
+        var method = request.method().name();
+        long start = System.nanoTime();
+        return next.handle(request)
+            .doOnSuccess(response -> endpointTimer(route, method,
+                response == null ? "200" : String.valueOf(response.statusCode().value()))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+            .doOnError(e -> endpointTimer(route, method, "error")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    private Timer endpointTimer(String route, String method, String status) {
+        return meter("endpoint|" + route + "|" + method + "|" + status,
+            () -> Timer.builder("excalidraw.endpoint.requests")
+                .tag("route", route)
+                .tag("method", method)
+                .tag("status", status)
+                .description("插件端点请求耗时")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 包装文章内容处理，记录整体耗时
+     */
+    public <T> Mono<T> timeContentRender(Mono<T> render) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return render.doFinally(signal -> contentRender.record(System.nanoTime() - start,
+                TimeUnit.NANOSECONDS));
+        });
+    }
+
+    public void recordDrawingsPerPost(int count) {
+        drawingsPerPost.record(count);
+    }
+
+    /**
+     * 记录批量加载绘图的耗时
+     *
+     * @param outcome success 或 error
+     */
+    public void recordDrawingFetch(long nanos, String outcome) {
+        Timer timer = meter("fetch|" + outcome,
+            () -> Timer.builder("excalidraw.drawing.fetch")
+                .tag("outcome", outcome)
+                .description("文章渲染时批量加载绘图耗时")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry));
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 记录输出占位符而不是预览图的次数
+     *
+     * @param reason missing（绘图不存在）、no_preview（没有预览图）或 error（加载失败）
+     */
+    public void recordPlaceholder(String reason) {
+        Counter counter = meter("placeholder|" + reason,
+            () -> Counter.builder("excalidraw.content.placeholders")
+                .tag("reason", reason)
+                .description("文章中输出占位符的次数")
+                .register(meterRegistry));
+        counter.increment();
+    }
+
+    /**
+     * 记录一次预览图上传到附件存储的耗时和大小
+     *
+     * @param outcome success 或 error
+     */
+    public void recordPreviewUpload(String format, long nanos, long bytes, String outcome) {
+        var normalizedFormat = normalizeFormat(format);
+        Timer timer = meter("upload|" + normalizedFormat + "|" + outcome,
+            () -> Timer.builder("excalidraw.preview.upload")
+                .tag("format", normalizedFormat)
+                .tag("outcome", outcome)
+                .description("预览图上传耗时")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry));
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+        if ("success".equals(outcome)) {
+            DistributionSummary summary = meter("upload.bytes|" + normalizedFormat,
+                () -> DistributionSummary.builder("excalidraw.preview.upload.bytes")
+                    .tag("format", normalizedFormat)
+                    .baseUnit("bytes")
+                    .description("上传的预览图大小")
+                    .register(meterRegistry));
+            summary.record(bytes);
+        }
+    }
+
+    public void recordPreviewReused() {
+        previewReused.increment();
+    }
+
+    public void recordPreviewUploaded() {
+        previewUploaded.increment();
+    }
+
+    public void recordAttachmentDeleteFailure() {
+        attachmentDeleteFailures.increment();
+    }
+
+    public void recordOrphanPreviewDeleted() {
+        orphanPreviewsDeleted.increment();
+    }
+
+    /**
+     * 记录因并发已满被拒绝的上传
+     *
+     * @param reason global（总数已满）或 user（单个用户已满）
+     */
+    public void recordUploadRejected(String reason) {
+        Counter counter = meter("upload.rejected|" + reason,
+            () -> Counter.builder("excalidraw.upload.rejections")
+                .tag("reason", reason)
+                .description("因并发已满被拒绝的上传次数")
+                .register(meterRegistry));
+        counter.increment();
+    }
+
+    public void recordSvgOptimized(long originalBytes, long optimizedBytes) {
+        svgOriginalBytes.record(originalBytes);
+        svgOptimizedBytes.record(optimizedBytes);
+    }
+
+    @PreDestroy
+    void destroy() {
+        meters.forEach(meterRegistry::remove);
+        taggedMeters.values().forEach(meterRegistry::remove);
+        taggedMeters.clear();
+    }
+
+    private static String normalizeFormat(String format) {
+        if (format == null) {
+            return "png";
+        }
+        var lower = format.toLowerCase(Locale.ROOT);
+        return switch (lower) {
+            case "svg", "png", "webp" -> lower;
+            default -> "other";
+        };
+    }
+
+    private <M extends Meter> M register(M meter) {
+        meters.add(meter);
+        return meter;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M extends Meter> M meter(String key, Supplier<M> factory) {
+        return (M) taggedMeters.computeIfAbsent(key, k -> factory.get());
+    }
+}
@@ -1,7 +1,13 @@
 package com.xhhao.excalidraw;
 
 import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.extension.PreviewRegenerationJob;
+import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import run.halo.app.extension.Scheme;
@@ -28,18 +34,54 @@ public class ExcalidrawPlugin extends BasePlugin {
 
     @Override
     public void start() {
-        schemeManager.register(Drawing.class, indexSpecs -> 
+        schemeManager.register(Drawing.class, indexSpecs -> {
             indexSpecs.add(IndexSpecs.<Drawing, String>single("spec.displayName", String.class)
                 .indexFunc(drawing -> Optional.ofNullable(drawing.getSpec())
                     .map(Drawing.DrawingSpec::getDisplayName)
-                    .orElse(null)))
-        );
+                    .orElse(null)));
+            // 多个绘图可能共享同一个预览附件，删除前需要按附件名查询引用
+            indexSpecs.add(IndexSpecs.<Drawing, String>single("spec.previewAttachmentName", String.class)
+                .indexFunc(drawing -> Optional.ofNullable(drawing.getSpec())
+                    .map(Drawing.DrawingSpec::getPreviewAttachmentName)
+                    .orElse(null)));
+            indexSpecs.add(IndexSpecs.<Drawing, String>multi("spec.previewVariants.attachmentName", String.class)
+                .indexFunc(drawing -> Optional.ofNullable(drawing.getSpec())
+                    .map(Drawing.DrawingSpec::getPreviewVariants)
+                    .<Set<String>>map(variants -> variants.stream()
+                        .map(Drawing.PreviewVariant::getAttachmentName)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                    .orElseGet(Set::of)));
+            // 场景文本的检索词条，每个词条一个索引项
+            indexSpecs.add(IndexSpecs.<Drawing, String>multi("status.textTerms", String.class)
+                .indexFunc(drawing -> Optional.ofNullable(drawing.getStatus())
+                    .map(Drawing.DrawingStatus::getTextTerms)
+                    .<Set<String>>map(LinkedHashSet::new)
+                    .orElseGet(Set::of)));
+            // 场景统计信息，用于按复杂度排序和过滤
+            indexSpecs.add(IndexSpecs.<Drawing, Integer>single("status.elementCount", Integer.class)
+                .indexFunc(drawing -> Optional.ofNullable(drawing.getStatus())
+                    .map(Drawing.DrawingStatus::getElementCount)
+                    .orElse(null)));
+            indexSpecs.add(IndexSpecs.<Drawing, Long>single("status.imageBytes", Long.class)
+                .indexFunc(drawing -> Optional.ofNullable(drawing.getStatus())
+                    .map(Drawing.DrawingStatus::getImageBytes)
+                    .orElse(null)));
+            indexSpecs.add(IndexSpecs.<Drawing, Integer>single("status.textLength", Integer.class)
+                .indexFunc(drawing -> Optional.ofNullable(drawing.getStatus())
+                    .map(Drawing.DrawingStatus::getTextLength)
+                    .orElse(null)));
+        });
+        schemeManager.register(DrawingScene.class);
+        schemeManager.register(PreviewRegenerationJob.class);
         log.info("Excalidraw 插件启动成功！");
     }
 
     @Override
     public void stop() {
         schemeManager.unregister(Scheme.buildFromType(Drawing.class));
+        schemeManager.unregister(Scheme.buildFromType(DrawingScene.class));
+        schemeManager.unregister(Scheme.buildFromType(PreviewRegenerationJob.class));
         log.info("Excalidraw 插件已停止！");
     }
 }
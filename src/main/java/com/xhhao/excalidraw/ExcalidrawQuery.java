@@ -2,15 +2,21 @@ package com.xhhao.excalidraw;
 
 import static org.springdoc.core.fn.builders.parameter.Builder.parameterBuilder;
 import static run.halo.app.extension.index.query.Queries.contains;
+import static run.halo.app.extension.index.query.Queries.equal;
+import static run.halo.app.extension.index.query.Queries.greaterThanOrEqual;
+import static run.halo.app.extension.index.query.Queries.lessThanOrEqual;
 import static run.halo.app.extension.index.query.Queries.or;
 import static run.halo.app.extension.router.QueryParamBuildUtil.sortParameter;
 
+import com.xhhao.excalidraw.scene.SceneAnalyzer;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.springdoc.core.fn.builders.operation.Builder;
 import org.springframework.lang.Nullable;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebInputException;
 import run.halo.app.extension.ListOptions;
 import run.halo.app.extension.router.IListRequest;
 import run.halo.app.extension.router.SortableRequest;
@@ -29,28 +35,93 @@ public class ExcalidrawQuery extends SortableRequest {
         return queryParams.getFirst("keyword");
     }
 
+    @Nullable
+    public String getText() {
+        return queryParams.getFirst("text");
+    }
+
     @Override
     public ListOptions toListOptions() {
         var builder = ListOptions.builder(super.toListOptions());
+        applyFilters(builder, getKeyword(), getText());
+        applyElementFilters(builder, queryParams);
+        return builder.build();
+    }
+
+    /**
+     * 按元素数量范围过滤，统计信息尚未计算的绘图不参与过滤
+     */
+    static void applyElementFilters(ListOptions.ListOptionsBuilder builder,
+        MultiValueMap<String, String> queryParams) {
+        Optional.ofNullable(intParam(queryParams, "minElements"))
+            .ifPresent(value -> builder.andQuery(greaterThanOrEqual("status.elementCount", value)));
+        Optional.ofNullable(intParam(queryParams, "maxElements"))
+            .ifPresent(value -> builder.andQuery(lessThanOrEqual("status.elementCount", value)));
+    }
+
+    @Nullable
+    private static Integer intParam(MultiValueMap<String, String> queryParams, String name) {
+        var value = queryParams.getFirst(name);
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException(name + " 必须是整数");
+        }
+    }
 
-        Optional.ofNullable(getKeyword())
+    /**
+     * 按名称关键字和文字内容过滤，偏移分页与游标分页共用
+     */
+    static void applyFilters(ListOptions.ListOptionsBuilder builder, @Nullable String keyword,
+        @Nullable String text) {
+        Optional.ofNullable(keyword)
             .filter(StringUtils::isNotBlank)
-            .ifPresent(keyword -> builder.andQuery(or(
-                contains("spec.displayName", keyword),
-                contains("metadata.name", keyword)
+            .ifPresent(value -> builder.andQuery(or(
+                contains("spec.displayName", value),
+                contains("metadata.name", value)
             )));
 
-        return builder.build();
+        // 每个词条走一次多值索引查找，要求全部命中
+        SceneAnalyzer.queryTerms(text)
+            .forEach(term -> builder.andQuery(equal("status.textTerms", term)));
     }
 
-    public static void buildParameters(Builder builder) {
-        IListRequest.buildParameters(builder);
-        builder.parameter(sortParameter())
+    static Builder filterParameters(Builder builder) {
+        return builder
             .parameter(parameterBuilder()
                 .in(ParameterIn.QUERY)
                 .name("keyword")
                 .description("按名称关键字过滤绘图")
                 .implementation(String.class)
+                .required(false))
+            .parameter(parameterBuilder()
+                .in(ParameterIn.QUERY)
+                .name("text")
+                .description("按绘图中的文字内容检索，多个词需全部包含")
+                .implementation(String.class)
+                .required(false))
+            .parameter(parameterBuilder()
+                .in(ParameterIn.QUERY)
+                .name("minElements")
+                .description("元素数量下限")
+                .implementation(Integer.class)
+                .required(false))
+            .parameter(parameterBuilder()
+                .in(ParameterIn.QUERY)
+                .name("maxElements")
+                .description("元素数量上限")
+                .implementation(Integer.class)
                 .required(false));
     }
+
+    /**
+     * 排序支持 status.elementCount、status.imageBytes、status.textLength 等已建立索引的字段
+     */
+    public static void buildParameters(Builder builder) {
+        IListRequest.buildParameters(builder);
+        filterParameters(builder.parameter(sortParameter()));
+    }
 }
@@ -0,0 +1,151 @@
+package com.xhhao.excalidraw;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 可内联到文章中的小尺寸预览图的内存缓存
+ *
+ * <p>以预览附件名称为键。附件内容不会被修改（预览图更新时会上传为新附件），因此条目不需要按绘图版本失效。
+ * 缓存保存的是可直接输出的内容：SVG 为清理后的标记，位图为 data URL，渲染时不再解析或编码。
+ * 总大小有上限，按最近访问淘汰。无法内联的附件（过大或加载失败）也会记录，一段时间内不再重复加载。
+ *
+ * @author Handsome
+ */
+@Component
+public class PreviewInlineCache {
+
+    /**
+     * 可内联的预览图大小上限，设置中的阈值不能超过此值
+     */
+    public static final int MAX_INLINE_BYTES = 64 * 1024;
+
+    static final String SVG = "image/svg+xml";
+    static final long MAX_TOTAL_CHARS = 16L * 1024 * 1024;
+    static final Duration UNAVAILABLE_TTL = Duration.ofMinutes(10);
+
+    private long totalChars;
+
+    private final Map<String, InlinePreview> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, InlinePreview> eldest) {
+            if (totalChars > MAX_TOTAL_CHARS) {
+                totalChars -= eldest.getValue().length();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * 预览格式对应的媒体类型
+     */
+    public static String mediaTypeOf(@Nullable String previewFormat) {
+        if ("svg".equalsIgnoreCase(previewFormat)) {
+            return SVG;
+        }
+        return "webp".equalsIgnoreCase(previewFormat) ? "image/webp" : "image/png";
+    }
+
+    /**
+     * 获取缓存的内联内容；没有缓存或不可内联的记录已过期时返回 null
+     */
+    @Nullable
+    public InlinePreview get(String attachmentName) {
+        synchronized (entries) {
+            var entry = entries.get(attachmentName);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                remove(attachmentName);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * 转换并缓存预览图内容
+     *
+     * @param mediaType 预览图的媒体类型
+     */
+    public InlinePreview put(String attachmentName, String mediaType, byte[] content) {
+        InlinePreview entry;
+        if (content.length > MAX_INLINE_BYTES) {
+            entry = InlinePreview.unavailable();
+        } else if (SVG.equals(mediaType)) {
+            var markup = SvgSanitizer.sanitize(content, "ex-" + Integer.toHexString(attachmentName.hashCode()) + "-");
+            entry = markup == null ? InlinePreview.unavailable()
+                : new InlinePreview(content.length, markup, true, 0);
+        } else {
+            var dataUrl = "data:" + mediaType + ";base64," + Base64.getEncoder().encodeToString(content);
+            entry = new InlinePreview(content.length, dataUrl, false, 0);
+        }
+        store(attachmentName, entry);
+        return entry;
+    }
+
+    /**
+     * 记录附件无法内联
+     */
+    public void putUnavailable(String attachmentName) {
+        store(attachmentName, InlinePreview.unavailable());
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            totalChars = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void store(String attachmentName, InlinePreview entry) {
+        synchronized (entries) {
+            remove(attachmentName);
+            totalChars += entry.length();
+            entries.put(attachmentName, entry);
+        }
+    }
+
+    private void remove(String attachmentName) {
+        var previous = entries.remove(attachmentName);
+        if (previous != null) {
+            totalChars -= previous.length();
+        }
+    }
+
+    /**
+     * 内联内容
+     *
+     * @param size 原始预览图字节数，用于和阈值比较
+     * @param content SVG 标记或 data URL；无法内联时为 null
+     * @param svg content 是否为 SVG 标记
+     * @param expiresAt 无法内联的记录的过期时间（System.nanoTime），可内联的记录为 0
+     */
+    public record InlinePreview(int size, @Nullable String content, boolean svg, long expiresAt) {
+
+        static InlinePreview unavailable() {
+            return new InlinePreview(Integer.MAX_VALUE, null, false, System.nanoTime() + UNAVAILABLE_TTL.toNanos());
+        }
+
+        public boolean fits(int maxBytes) {
+            return content != null && size <= maxBytes;
+        }
+
+        boolean isExpired(long now) {
+            return content == null && now - expiresAt > 0;
+        }
+
+        int length() {
+            return content == null ? 0 : content.length();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.xhhao.excalidraw;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import run.halo.app.core.extension.attachment.Attachment;
+import run.halo.app.core.extension.service.AttachmentService;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.infra.ExternalLinkProcessor;
+
+/**
+ * 在后台把预览图加载到 {@link PreviewInlineCache}
+ *
+ * <p>文章渲染时缓存未命中不会等待加载，本次仍输出图片链接，加载完成后使该绘图的片段缓存失效，
+ * 之后的渲染改为内联。同一附件同时只加载一次，响应体超过 {@link PreviewInlineCache#MAX_INLINE_BYTES} 时立即中止。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreviewInlineLoader {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final PreviewInlineCache inlineCache;
+    private final DrawingFragmentCache fragmentCache;
+    private final ExternalLinkProcessor externalLinkProcessor;
+    private final ReactiveExtensionClient client;
+    private final AttachmentService attachmentService;
+
+    private final WebClient webClient = WebClient.create();
+    private final Set<String> loading = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 异步加载预览图，已在加载中时忽略
+     *
+     * <p>只从 {@code attachmentName} 指定的附件的永久链接下载，且要求绘图中的预览地址与该链接一致；
+     * 预览地址可以通过扩展 API 随意修改，不能作为服务端请求的目标。
+     *
+     * @param drawingName 加载完成后需要重新渲染的绘图
+     */
+    public void load(String drawingName, String attachmentName, String previewUrl, String mediaType) {
+        if (!loading.add(attachmentName)) {
+            return;
+        }
+        client.fetch(Attachment.class, attachmentName)
+            .filter(attachment -> !ExtensionUtil.isDeleted(attachment))
+            .flatMap(attachmentService::getPermalink)
+            .map(URI::toString)
+            .filter(permalink -> {
+                if (!permalink.equals(previewUrl)) {
+                    log.warn("绘图 {} 的预览地址与附件 {} 的链接不一致，不内联", drawingName, attachmentName);
+                    return false;
+                }
+                return true;
+            })
+            .mapNotNull(externalLinkProcessor::processLink)
+            .filter(url -> {
+                if (!url.startsWith("http://") && !url.startsWith("https://")) {
+                    // 未配置外部访问地址时无法解析相对链接
+                    log.debug("预览图地址 {} 无法解析为绝对地址，不内联", url);
+                    return false;
+                }
+                return true;
+            })
+            .flatMap(this::download)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .timeout(TIMEOUT)
+            .publishOn(Schedulers.boundedElastic())
+            .doFinally(signal -> loading.remove(attachmentName))
+            .subscribe(content -> content.ifPresentOrElse(bytes -> {
+                    if (inlineCache.put(attachmentName, mediaType, bytes).content() != null) {
+                        fragmentCache.invalidate(drawingName);
+                    }
+                }, () -> inlineCache.putUnavailable(attachmentName)),
+                e -> {
+                    if (!(e instanceof DataBufferLimitException)) {
+                        log.debug("加载预览图 {} 失败: {}", attachmentName, e.getMessage());
+                    }
+                    inlineCache.putUnavailable(attachmentName);
+                });
+    }
+
+    private Mono<byte[]> download(String url) {
+        return DataBufferUtils.join(webClient.get().uri(url).retrieve().bodyToFlux(DataBuffer.class),
+                PreviewInlineCache.MAX_INLINE_BYTES)
+            .map(buffer -> {
+                try {
+                    var bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    return bytes;
+                } finally {
+                    DataBufferUtils.release(buffer);
+                }
+            });
+    }
+}
@@ -0,0 +1,222 @@
+package com.xhhao.excalidraw;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.springframework.lang.Nullable;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * 将 SVG 预览图清理为可以直接嵌入文章 HTML 的标记
+ *
+ * <p>只保留绘图用到的元素白名单，删除事件属性和指向外部的链接，{@code <style>} 中只保留 {@code @font-face}，
+ * 避免影响页面其他部分的样式。元素 id 加上前缀，同一页面嵌入多个绘图时引用不会串到其他绘图。
+ *
+ * @author Handsome
+ */
+final class SvgSanitizer {
+
+    private static final String SVG_NS = "http://www.w3.org/2000/svg";
+    private static final String XLINK_NS = "http://www.w3.org/1999/xlink";
+
+    private static final Set<String> ALLOWED_ELEMENTS = Set.of(
+        "svg", "g", "defs", "symbol", "use", "title", "desc", "style",
+        "path", "rect", "circle", "ellipse", "line", "polyline", "polygon",
+        "text", "tspan", "textPath", "image",
+        "clipPath", "mask", "pattern", "marker",
+        "linearGradient", "radialGradient", "stop",
+        "filter", "feGaussianBlur", "feOffset", "feFlood", "feComposite", "feMerge", "feMergeNode",
+        "feColorMatrix", "feBlend", "feMorphology", "feDropShadow");
+
+    private static final Pattern FONT_FACE = Pattern.compile("@font-face\\s*\\{[^}]*}");
+    private static final Pattern URL_REFERENCE = Pattern.compile("url\\(\\s*['\"]?#([^)'\"\\s]+)['\"]?\\s*\\)");
+    private static final Pattern URL_TARGET = Pattern.compile("url\\(\\s*['\"]?\\s*([^)'\"\\s]*)");
+
+    private SvgSanitizer() {
+    }
+
+    /**
+     * 清理 SVG
+     *
+     * @param idPrefix 加在所有 id 前的前缀
+     * @return 不含 XML 声明的 {@code <svg>} 标记；无法解析或根元素不是 svg 时返回 null
+     */
+    @Nullable
+    static String sanitize(byte[] svg, String idPrefix) {
+        try {
+            var builder = newDocumentBuilderFactory().newDocumentBuilder();
+            builder.setErrorHandler(new DefaultHandler());
+            var document = builder.parse(new ByteArrayInputStream(svg));
+            var root = document.getDocumentElement();
+            if (root == null || !"svg".equals(root.getLocalName()) || !SVG_NS.equals(root.getNamespaceURI())) {
+                return null;
+            }
+            Set<String> ids = new HashSet<>();
+            List<Element> elements = new ArrayList<>();
+            clean(root, ids, elements);
+            for (Element element : elements) {
+                rewriteReferences(element, ids, idPrefix);
+            }
+
+            var output = new StringWriter(svg.length);
+            var factory = TransformerFactory.newInstance();
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+            var transformer = factory.newTransformer();
+            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+            transformer.setOutputProperty(OutputKeys.INDENT, "no");
+            transformer.transform(new DOMSource(root), new StreamResult(output));
+            return output.toString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void clean(Element element, Set<String> ids, List<Element> elements) {
+        elements.add(element);
+        var attributes = element.getAttributes();
+        List<Attr> removed = new ArrayList<>();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            var attribute = (Attr) attributes.item(i);
+            if (!isSafeAttribute(element, attribute)) {
+                removed.add(attribute);
+            }
+        }
+        removed.forEach(element::removeAttributeNode);
+        var id = element.getAttribute("id");
+        if (!id.isEmpty()) {
+            ids.add(id);
+        }
+        if ("style".equals(element.getLocalName())) {
+            element.setTextContent(fontFacesOf(element.getTextContent()));
+            return;
+        }
+
+        Node child = element.getFirstChild();
+        while (child != null) {
+            Node next = child.getNextSibling();
+            switch (child.getNodeType()) {
+                case Node.ELEMENT_NODE -> {
+                    if (SVG_NS.equals(child.getNamespaceURI())
+                        && ALLOWED_ELEMENTS.contains(child.getLocalName())) {
+                        clean((Element) child, ids, elements);
+                    } else {
+                        element.removeChild(child);
+                    }
+                }
+                case Node.TEXT_NODE, Node.CDATA_SECTION_NODE -> {
+                }
+                default -> element.removeChild(child);
+            }
+            child = next;
+        }
+    }
+
+    private static boolean isSafeAttribute(Element element, Attr attribute) {
+        var name = attribute.getLocalName() != null ? attribute.getLocalName() : attribute.getName();
+        var lowerName = name.toLowerCase(Locale.ROOT);
+        var value = attribute.getValue().trim().toLowerCase(Locale.ROOT);
+        if (lowerName.startsWith("on")) {
+            return false;
+        }
+        if ("href".equals(lowerName)) {
+            // 只允许文档内引用和图片元素中的内嵌位图
+            return value.startsWith("#")
+                || "image".equals(element.getLocalName()) && value.startsWith("data:image/")
+                && !value.startsWith("data:image/svg");
+        }
+        if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())) {
+            return true;
+        }
+        if (attribute.getNamespaceURI() != null && !XLINK_NS.equals(attribute.getNamespaceURI())
+            && !XMLConstants.XML_NS_URI.equals(attribute.getNamespaceURI())) {
+            return false;
+        }
+        if (value.contains("javascript:") || value.contains("expression(") || value.contains("image-set(")) {
+            return false;
+        }
+        // CSS 转义可以把 url( 写成其他形式，含转义的函数调用一律删除
+        if (value.indexOf('\\') >= 0 && value.indexOf('(') >= 0) {
+            return false;
+        }
+        Matcher matcher = URL_TARGET.matcher(value);
+        while (matcher.find()) {
+            if (!isEmbeddedReference(matcher.group(1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 文档内的 #id 引用或内嵌位图，读者的浏览器不会因此请求其他地址
+     */
+    private static boolean isEmbeddedReference(String target) {
+        return target.startsWith("#")
+            || target.startsWith("data:image/") && !target.startsWith("data:image/svg");
+    }
+
+    private static String fontFacesOf(String css) {
+        var fontFaces = new StringBuilder();
+        Matcher matcher = FONT_FACE.matcher(css);
+        while (matcher.find()) {
+            var rule = matcher.group();
+            var lower = rule.toLowerCase(Locale.ROOT);
+            // 字体只允许内嵌的 data URL
+            if (!lower.contains("url(") || lower.replaceAll("url\\(\\s*['\"]?data:", "").contains("url(")) {
+                continue;
+            }
+            fontFaces.append(rule);
+        }
+        return fontFaces.toString();
+    }
+
+    private static void rewriteReferences(Element element, Set<String> ids, String prefix) {
+        var attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            var attribute = (Attr) attributes.item(i);
+            var name = attribute.getLocalName() != null ? attribute.getLocalName() : attribute.getName();
+            var value = attribute.getValue();
+            if ("id".equals(name)) {
+                attribute.setValue(prefix + value);
+            } else if ("href".equals(name) && value.startsWith("#") && ids.contains(value.substring(1))) {
+                attribute.setValue("#" + prefix + value.substring(1));
+            } else if (value.contains("url(")) {
+                Matcher matcher = URL_REFERENCE.matcher(value);
+                var result = new StringBuilder(value.length() + prefix.length());
+                while (matcher.find()) {
+                    var target = matcher.group(1);
+                    matcher.appendReplacement(result, Matcher.quoteReplacement(ids.contains(target)
+                        ? "url(#" + prefix + target + ")" : matcher.group()));
+                }
+                matcher.appendTail(result);
+                attribute.setValue(result.toString());
+            }
+        }
+    }
+
+    private static DocumentBuilderFactory newDocumentBuilderFactory() throws Exception {
+        var factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setXIncludeAware(false);
+        factory.setExpandEntityReferences(false);
+        return factory;
+    }
+}
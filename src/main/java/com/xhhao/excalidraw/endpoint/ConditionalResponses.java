@@ -0,0 +1,83 @@
+package com.xhhao.excalidraw.endpoint;
+
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 基于 ETag 的条件请求处理
+ *
+ * <p>能预先得到版本的响应在加载内容之前计算 ETag，客户端携带的 If-None-Match 匹配时直接返回 304，不再执行查询。
+ *
+ * @author Handsome
+ */
+final class ConditionalResponses {
+
+    /**
+     * 列表每次都需向服务端确认，未变化时只返回 304
+     */
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * @param version 响应内容的版本，生成弱 ETag
+     * @param body 版本不匹配时才订阅
+     */
+    static Mono<ServerResponse> ok(ServerRequest request, String version, CacheControl cacheControl,
+        Supplier<Mono<?>> body) {
+        var etag = "W/\"" + version + "\"";
+        if (matches(request, etag)) {
+            return notModified(etag, cacheControl);
+        }
+        return body.get()
+            .flatMap(value -> ServerResponse.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .bodyValue(value));
+    }
+
+    /**
+     * 内容无法预先得到版本时，按已生成的 HTML 计算 ETag，匹配时省去响应体的传输
+     */
+    static Mono<ServerResponse> html(ServerRequest request, String html, CacheControl cacheControl) {
+        var etag = "W/\"" + Integer.toHexString(html.hashCode()) + "-" + Integer.toHexString(html.length()) + "\"";
+        if (matches(request, etag)) {
+            return notModified(etag, cacheControl);
+        }
+        return ServerResponse.ok()
+            .contentType(MediaType.TEXT_HTML)
+            .eTag(etag)
+            .cacheControl(cacheControl)
+            .bodyValue(html);
+    }
+
+    private static Mono<ServerResponse> notModified(String etag, CacheControl cacheControl) {
+        return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(cacheControl)
+            .build();
+    }
+
+    /**
+     * 按弱比较匹配 If-None-Match，忽略 {@code W/} 前缀
+     */
+    private static boolean matches(ServerRequest request, String etag) {
+        var expected = stripWeak(etag);
+        for (var candidate : request.headers().asHttpHeaders().getIfNoneMatch()) {
+            if ("*".equals(candidate) || expected.equals(stripWeak(candidate))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -1,19 +1,39 @@
 package com.xhhao.excalidraw.endpoint;
 
 import static org.springdoc.core.fn.builders.apiresponse.Builder.responseBuilder;
+import static org.springdoc.core.fn.builders.content.Builder.contentBuilder;
+import static org.springdoc.core.fn.builders.parameter.Builder.parameterBuilder;
 import static org.springdoc.core.fn.builders.requestbody.Builder.requestBodyBuilder;
+import static org.springdoc.core.fn.builders.schema.Builder.schemaBuilder;
 
+import com.xhhao.excalidraw.DrawingListVersion;
+import com.xhhao.excalidraw.DrawingPreviewTokens;
+import com.xhhao.excalidraw.DrawingSummaryQuery;
+import com.xhhao.excalidraw.ExcalidrawContentHandler;
+import com.xhhao.excalidraw.ExcalidrawMetrics;
 import com.xhhao.excalidraw.ExcalidrawQuery;
 import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.PreviewRegenerationJob;
+import com.xhhao.excalidraw.render.PreviewRenderer;
+import com.xhhao.excalidraw.scene.ScenePatch;
+import com.xhhao.excalidraw.service.DrawingSceneService;
 import com.xhhao.excalidraw.service.ExcalidrawService;
+import com.xhhao.excalidraw.service.PreviewRegenerationService;
+import com.xhhao.excalidraw.service.SettingConfigGetter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import java.time.Duration;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.webflux.core.fn.SpringdocRouteBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 import run.halo.app.core.extension.endpoint.CustomEndpoint;
 import run.halo.app.extension.GroupVersion;
@@ -28,6 +48,14 @@ import run.halo.app.extension.ListResult;
 public class ExcalidrawEndpoint implements CustomEndpoint {
 
     private final ExcalidrawService excalidrawService;
+    private final DrawingSceneService drawingSceneService;
+    private final PreviewRenderer previewRenderer;
+    private final PreviewRegenerationService previewRegenerationService;
+    private final ExcalidrawMetrics metrics;
+    private final DrawingListVersion listVersion;
+    private final SettingConfigGetter settingConfigGetter;
+    private final ExcalidrawContentHandler contentHandler;
+    private final DrawingPreviewTokens previewTokens;
 
     @Override
     public RouterFunction<ServerResponse> endpoint() {
@@ -36,7 +64,7 @@ public class ExcalidrawEndpoint implements CustomEndpoint {
             .GET("drawings", this::listDrawings, builder -> {
                     builder.operationId("ListDrawings")
                         .tag(tag)
-                        .description("分页查询绘图列表")
+                        .description("分页查询绘图列表，响应带 ETag，绘图未变化时条件请求返回 304")
                         .response(
                             responseBuilder()
                                 .implementation(ListResult.generateGenericClass(Drawing.class))
@@ -44,6 +72,81 @@ public class ExcalidrawEndpoint implements CustomEndpoint {
                     ExcalidrawQuery.buildParameters(builder);
                 }
             )
+            .GET("drawing-summaries", this::listDrawingSummaries, builder -> {
+                    builder.operationId("ListDrawingSummaries")
+                        .tag(tag)
+                        .description("按游标分页查询绘图摘要，按创建时间倒序，翻页耗时不随页数增长。"
+                            + "响应带 ETag，绘图未变化时条件请求返回 304")
+                        .response(responseBuilder().implementation(ExcalidrawService.DrawingSummaryPage.class));
+                    DrawingSummaryQuery.buildParameters(builder);
+                }
+            )
+            .GET("drawings/{name}/scene", this::getDrawingScene, builder ->
+                builder.operationId("GetDrawingScene")
+                    .tag(tag)
+                    .description("获取绘图场景数据")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.PATH)
+                        .name("name")
+                        .description("绘图名称")
+                        .required(true)
+                        .implementation(String.class))
+                    .response(responseBuilder().implementation(SceneContent.class))
+            )
+            .PUT("drawings/{name}/scene", this::updateDrawingScene, builder ->
+                builder.operationId("UpdateDrawingScene")
+                    .tag(tag)
+                    .description("保存绘图场景数据，与 SaveDrawing 一样校验并递增保存次数，"
+                        + "revision 不一致时返回 409，绘图不存在时返回 404")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.PATH)
+                        .name("name")
+                        .description("绘图名称")
+                        .required(true)
+                        .implementation(String.class))
+                    .parameter(revisionParameter())
+                    .requestBody(requestBodyBuilder().implementation(SceneContent.class))
+                    .response(responseBuilder().implementation(Drawing.class))
+            )
+            .PATCH("drawings/{name}/scene", this::patchDrawingScene, builder ->
+                builder.operationId("PatchDrawingScene")
+                    .tag(tag)
+                    .description("按元素提交场景的增量修改，元素版本或 revision 与服务端不一致时返回 409 且不应用任何修改，"
+                        + "绘图不存在时返回 404")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.PATH)
+                        .name("name")
+                        .description("绘图名称")
+                        .required(true)
+                        .implementation(String.class))
+                    .parameter(revisionParameter())
+                    .requestBody(requestBodyBuilder().required(true).implementation(ScenePatch.class))
+                    .response(responseBuilder().implementation(ScenePatchResult.class))
+            )
+            .POST("drawings/{name}/save", this::saveDrawing, builder ->
+                builder.operationId("SaveDrawing")
+                    .tag(tag)
+                    .description("一次请求完成保存：上传预览图、保存场景、创建或更新绘图。"
+                        + "revision 与绘图当前的保存次数不一致时返回 409，旧预览附件在绘图更新后才删除")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.PATH)
+                        .name("name")
+                        .description("绘图名称")
+                        .required(true)
+                        .implementation(String.class))
+                    .requestBody(requestBodyBuilder().required(true)
+                        .implementation(ExcalidrawService.SaveDrawingRequest.class))
+                    .response(responseBuilder().implementation(Drawing.class))
+            )
+            .POST("drawings/bulk-delete", this::bulkDeleteDrawings, builder ->
+                builder.operationId("BulkDeleteDrawings")
+                    .tag(tag)
+                    .description("按名称或标签选择器批量删除绘图，返回每个绘图的处理结果。"
+                        + "场景数据、预览附件和 .excalidraw 文件在绘图最终删除前由协调器清理")
+                    .requestBody(requestBodyBuilder().required(true)
+                        .implementation(ExcalidrawService.BulkDeleteRequest.class))
+                    .response(responseBuilder().implementation(ExcalidrawService.BulkDeleteResult.class))
+            )
             .POST("drawings/upload", this::uploadExcalidrawFile, builder -> 
                 builder.operationId("UploadExcalidrawFile")
                     .tag(tag)
@@ -58,19 +161,224 @@ public class ExcalidrawEndpoint implements CustomEndpoint {
                     .requestBody(requestBodyBuilder().implementation(UploadPreviewRequest.class))
                     .response(responseBuilder().implementation(UploadResponse.class))
             )
+            .POST("drawings/upload/stream", this::streamUploadExcalidrawFile, builder ->
+                builder.operationId("StreamUploadExcalidrawFile")
+                    .tag(tag)
+                    .description("以原始请求体流式上传 .excalidraw 文件到附件库。文件名为绘图名称时作为该绘图的备份，"
+                        + "内容与最新备份相同时不上传并返回 unchanged，旧备份按设置保留历史版本")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("fileName")
+                        .description("文件名（不含扩展名）")
+                        .required(true)
+                        .implementation(String.class))
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("contentHash")
+                        .description("文件内容的 SHA-256（base64url，无填充），与最新备份相同时跳过上传")
+                        .implementation(String.class))
+                    .requestBody(requestBodyBuilder()
+                        .required(true)
+                        .content(contentBuilder()
+                            .mediaType(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                            .schema(schemaBuilder().type("string").format("binary"))))
+                    .response(responseBuilder().implementation(UploadResponse.class))
+            )
+            .POST("drawings/upload-preview/stream", this::streamUploadPreviewImage, builder ->
+                builder.operationId("StreamUploadPreviewImage")
+                    .tag(tag)
+                    .description("以原始请求体流式上传预览图到附件库，"
+                        + "PNG 以 text/plain 发送时按 base64（可带 data URL 前缀）边接收边解码")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("fileName")
+                        .description("文件名（不含扩展名）")
+                        .required(true)
+                        .implementation(String.class))
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("format")
+                        .description("格式：svg 或 png")
+                        .required(true)
+                        .implementation(String.class))
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("oldAttachmentName")
+                        .description("旧附件名称，用于删除")
+                        .implementation(String.class))
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("contentHash")
+                        .description("解码后内容的 SHA-256（base64url，无填充），已有相同内容的附件时直接复用")
+                        .implementation(String.class))
+                    .requestBody(requestBodyBuilder()
+                        .required(true)
+                        .content(contentBuilder()
+                            .mediaType(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                            .schema(schemaBuilder().type("string").format("binary"))))
+                    .response(responseBuilder().implementation(UploadResponse.class))
+            )
+            .POST("drawings/{name}/preview", this::renderDrawingPreview, builder ->
+                builder.operationId("RenderDrawingPreview")
+                    .tag(tag)
+                    .description("在服务端根据场景数据渲染预览图，上传到附件库并更新绘图")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.PATH)
+                        .name("name")
+                        .description("绘图名称")
+                        .required(true)
+                        .implementation(String.class))
+                    .response(responseBuilder().implementation(UploadResponse.class))
+            )
+            .GET("drawings/{name}/preview", this::getRenderedPreview, builder ->
+                builder.operationId("GetRenderedPreview")
+                    .tag(tag)
+                    .description("在服务端渲染绘图预览图并直接返回图片，不上传附件")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.PATH)
+                        .name("name")
+                        .description("绘图名称")
+                        .required(true)
+                        .implementation(String.class))
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("format")
+                        .description("格式：svg 或 png，默认使用插件设置")
+                        .implementation(String.class))
+                    .response(responseBuilder()
+                        .content(contentBuilder()
+                            .mediaType(PreviewRenderer.IMAGE_SVG.toString())
+                            .schema(schemaBuilder().type("string").format("binary")))
+                        .content(contentBuilder()
+                            .mediaType(MediaType.IMAGE_PNG_VALUE)
+                            .schema(schemaBuilder().type("string").format("binary"))))
+            )
+            .GET("drawingpreviews/{name}", this::resolveDrawingPreview, builder ->
+                builder.operationId("ResolveDrawingPreview")
+                    .tag(tag)
+                    .description("获取文章中绘图的预览片段（HTML），供延迟加载的占位符进入可视区域后替换。"
+                        + "匿名可访问，但只接受文章渲染时为该绘图签发的令牌，名称或令牌无效时返回 404；"
+                        + "响应带 ETag 并可缓存五分钟")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.PATH)
+                        .name("name")
+                        .description("绘图名称")
+                        .required(true)
+                        .implementation(String.class))
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("token")
+                        .description("占位符 data-token 属性中的令牌")
+                        .required(true)
+                        .implementation(String.class))
+                    .response(responseBuilder()
+                        .content(contentBuilder()
+                            .mediaType(MediaType.TEXT_HTML_VALUE)
+                            .schema(schemaBuilder().type("string"))))
+            )
+            .POST("previews/regenerate", this::startPreviewRegeneration, builder ->
+                builder.operationId("StartPreviewRegeneration")
+                    .tag(tag)
+                    .description("创建后台任务，按当前设置批量重新生成所有绘图的预览图，进度见任务的 status")
+                    .requestBody(requestBodyBuilder()
+                        .implementation(PreviewRegenerationJob.PreviewRegenerationJobSpec.class))
+                    .response(responseBuilder().implementation(PreviewRegenerationJob.class))
+            )
             .GET("settings/preview-format", this::getPreviewFormat, builder ->
                 builder.operationId("GetPreviewFormat")
                     .tag(tag)
-                    .description("获取预览格式设置")
+                    .description("获取预览格式设置，响应带 ETag 并可缓存一分钟")
                     .response(responseBuilder().implementation(PreviewFormatResponse.class))
             )
+            .filter(metrics.endpointFilter())
             .build();
     }
 
     Mono<ServerResponse> listDrawings(ServerRequest serverRequest) {
         ExcalidrawQuery query = new ExcalidrawQuery(serverRequest);
-        return excalidrawService.listDrawings(query)
-            .flatMap(drawings -> ServerResponse.ok().bodyValue(drawings));
+        return ConditionalResponses.ok(serverRequest, listVersion.current(), ConditionalResponses.REVALIDATE,
+            () -> excalidrawService.listDrawings(query));
+    }
+
+    Mono<ServerResponse> listDrawingSummaries(ServerRequest serverRequest) {
+        var query = new DrawingSummaryQuery(serverRequest);
+        return ConditionalResponses.ok(serverRequest, listVersion.current(), ConditionalResponses.REVALIDATE,
+            () -> excalidrawService.listDrawingSummaries(query));
+    }
+
+    Mono<ServerResponse> getDrawingScene(ServerRequest request) {
+        var name = request.pathVariable("name");
+        return drawingSceneService.getSceneData(name)
+            .flatMap(data -> ServerResponse.ok().bodyValue(new SceneContent(data)))
+            .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    Mono<ServerResponse> updateDrawingScene(ServerRequest request) {
+        var name = request.pathVariable("name");
+        return revisionOf(request)
+            .flatMap(revision -> request.bodyToMono(SceneContent.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("请求体不能为空")))
+                .map(content -> {
+                    var body = new ExcalidrawService.SaveDrawingRequest();
+                    body.setRevision(revision);
+                    body.setSceneData(content.getData());
+                    return body;
+                }))
+            .flatMap(body -> excalidrawService.saveScene(name, body))
+            .onErrorMap(IllegalArgumentException.class, e -> new ServerWebInputException(e.getMessage()))
+            .flatMap(result -> ServerResponse.ok().bodyValue(result.drawing()));
+    }
+
+    Mono<ServerResponse> patchDrawingScene(ServerRequest request) {
+        var name = request.pathVariable("name");
+        return revisionOf(request)
+            .flatMap(revision -> request.bodyToMono(ScenePatch.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("请求体不能为空")))
+                .map(patch -> {
+                    var body = new ExcalidrawService.SaveDrawingRequest();
+                    body.setRevision(revision);
+                    body.setScenePatch(patch);
+                    return body;
+                }))
+            .flatMap(body -> excalidrawService.saveScene(name, body))
+            .onErrorMap(IllegalArgumentException.class, e -> new ServerWebInputException(e.getMessage()))
+            .flatMap(result -> ServerResponse.ok().bodyValue(new ScenePatchResult(result)));
+    }
+
+    /**
+     * 场景写入接口必须带上客户端读取到的保存次数
+     */
+    private static Mono<Long> revisionOf(ServerRequest request) {
+        return Mono.justOrEmpty(request.queryParam("revision"))
+            .switchIfEmpty(Mono.error(() -> new ServerWebInputException("revision 不能为空")))
+            .map(Long::parseLong)
+            .onErrorMap(NumberFormatException.class, e -> new ServerWebInputException("revision 格式错误"));
+    }
+
+    private static org.springdoc.core.fn.builders.parameter.Builder revisionParameter() {
+        return parameterBuilder()
+            .in(ParameterIn.QUERY)
+            .name("revision")
+            .description("客户端读取到的绘图保存次数 status.revision，旧绘图没有时为 0")
+            .required(true)
+            .implementation(Long.class);
+    }
+
+    Mono<ServerResponse> saveDrawing(ServerRequest request) {
+        var name = request.pathVariable("name");
+        return request.bodyToMono(ExcalidrawService.SaveDrawingRequest.class)
+            .switchIfEmpty(Mono.error(() -> new ServerWebInputException("请求体不能为空")))
+            .flatMap(body -> excalidrawService.saveDrawing(name, body))
+            .onErrorMap(IllegalArgumentException.class, e -> new ServerWebInputException(e.getMessage()))
+            .flatMap(drawing -> ServerResponse.ok().bodyValue(drawing));
+    }
+
+    Mono<ServerResponse> bulkDeleteDrawings(ServerRequest request) {
+        return request.bodyToMono(ExcalidrawService.BulkDeleteRequest.class)
+            .switchIfEmpty(Mono.error(() -> new ServerWebInputException("请求体不能为空")))
+            .flatMap(excalidrawService::deleteDrawings)
+            .onErrorMap(IllegalArgumentException.class, e -> new ServerWebInputException(e.getMessage()))
+            .flatMap(result -> ServerResponse.ok().bodyValue(result));
     }
 
     Mono<ServerResponse> uploadExcalidrawFile(ServerRequest request) {
@@ -97,9 +405,90 @@ public class ExcalidrawEndpoint implements CustomEndpoint {
             .switchIfEmpty(ServerResponse.ok().bodyValue(new UploadResponse("", null)));
     }
 
+    Mono<ServerResponse> streamUploadExcalidrawFile(ServerRequest request) {
+        var fileName = request.queryParam("fileName").filter(name -> !name.isBlank());
+        if (fileName.isEmpty()) {
+            return ServerResponse.badRequest().build();
+        }
+        return excalidrawService.uploadExcalidrawFile(fileName.get(), request.bodyToFlux(DataBuffer.class),
+                request.queryParam("contentHash").orElse(null))
+            .flatMap(url -> ServerResponse.ok().bodyValue(new UploadResponse(url, null)))
+            .switchIfEmpty(ServerResponse.ok().bodyValue(new UploadResponse("", null)));
+    }
+
+    Mono<ServerResponse> streamUploadPreviewImage(ServerRequest request) {
+        var fileName = request.queryParam("fileName").filter(name -> !name.isBlank());
+        var format = request.queryParam("format").orElse("svg");
+        if (fileName.isEmpty()) {
+            return ServerResponse.badRequest().build();
+        }
+        // 文本请求体视为 base64，二进制请求体直接透传
+        boolean base64 = request.headers().contentType()
+            .map(contentType -> contentType.isCompatibleWith(MediaType.TEXT_PLAIN))
+            .orElse(false);
+        return excalidrawService.uploadPreviewImage(
+                fileName.get(),
+                request.bodyToFlux(DataBuffer.class),
+                format,
+                base64,
+                request.queryParam("oldAttachmentName").orElse(null),
+                request.queryParam("contentHash").orElse(null)
+            )
+            .flatMap(result -> ServerResponse.ok().bodyValue(new UploadResponse(result.getUrl(), result.getAttachmentName())))
+            .switchIfEmpty(ServerResponse.ok().bodyValue(new UploadResponse("", null)));
+    }
+
+    Mono<ServerResponse> renderDrawingPreview(ServerRequest request) {
+        var name = request.pathVariable("name");
+        return excalidrawService.renderPreview(name)
+            .onErrorMap(IllegalArgumentException.class, e -> new ServerWebInputException(e.getMessage()))
+            .flatMap(result -> ServerResponse.ok().bodyValue(new UploadResponse(result.getUrl(), result.getAttachmentName())))
+            .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    Mono<ServerResponse> getRenderedPreview(ServerRequest request) {
+        var name = request.pathVariable("name");
+        var format = request.queryParam("format")
+            .filter(value -> !value.isBlank())
+            .map(Mono::just)
+            .orElseGet(excalidrawService::getPreviewFormat);
+        return Mono.zip(drawingSceneService.getSceneData(name), format)
+            .flatMap(tuple -> previewRenderer.render(tuple.getT1(), tuple.getT2()))
+            .onErrorMap(IllegalArgumentException.class, e -> new ServerWebInputException(e.getMessage()))
+            .flatMap(preview -> ServerResponse.ok()
+                .contentType(preview.mediaType())
+                .bodyValue(preview.content()))
+            .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    Mono<ServerResponse> resolveDrawingPreview(ServerRequest request) {
+        var name = request.pathVariable("name");
+        var token = request.queryParam("token").orElse(null);
+        if (!Drawing.isValidName(name)) {
+            return ServerResponse.notFound().build();
+        }
+        // 与文章内容一致，不存在的绘图同样返回占位片段；绘图更新后最多五分钟内仍可能显示旧预览
+        var cacheControl = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+        return previewTokens.signer()
+            .filter(signer -> signer.verify(name, token))
+            .flatMap(signer -> contentHandler.renderFragment(name))
+            .flatMap(html -> ConditionalResponses.html(request, html, cacheControl))
+            .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    Mono<ServerResponse> startPreviewRegeneration(ServerRequest request) {
+        return request.bodyToMono(PreviewRegenerationJob.PreviewRegenerationJobSpec.class)
+            .defaultIfEmpty(new PreviewRegenerationJob.PreviewRegenerationJobSpec())
+            .flatMap(previewRegenerationService::start)
+            .flatMap(job -> ServerResponse.ok().bodyValue(job));
+    }
+
     Mono<ServerResponse> getPreviewFormat(ServerRequest request) {
-        return excalidrawService.getPreviewFormat()
-            .flatMap(format -> ServerResponse.ok().bodyValue(new PreviewFormatResponse(format)));
+        var cacheControl = CacheControl.maxAge(Duration.ofMinutes(1)).cachePrivate();
+        return settingConfigGetter.getConfigVersion()
+            .flatMap(version -> ConditionalResponses.ok(request, "config-" + version, cacheControl,
+                () -> Mono.zip(excalidrawService.getPreviewFormat(), excalidrawService.getRenderMode())
+                    .map(tuple -> new PreviewFormatResponse(tuple.getT1(), tuple.getT2()))));
     }
 
     @Override
@@ -133,11 +522,42 @@ public class ExcalidrawEndpoint implements CustomEndpoint {
         private String oldAttachmentName;  // 旧附件名称，用于删除
     }
 
+    @Data
+    public static class SceneContent {
+        private String data;  // Excalidraw 场景 JSON
+
+        public SceneContent() {
+        }
+
+        public SceneContent(String data) {
+            this.data = data;
+        }
+    }
+
+    @Data
+    public static class ScenePatchResult {
+        private final int added;
+        private final int updated;
+        private final int deleted;
+        private final int unchanged;  // 重复提交而跳过的修改
+        private final Long revision;  // 保存后的保存次数，下次写入时提交
+        public ScenePatchResult(ExcalidrawService.SceneSaveResult result) {
+            var merge = result.merge();
+            this.added = merge == null ? 0 : merge.added();
+            this.updated = merge == null ? 0 : merge.updated();
+            this.deleted = merge == null ? 0 : merge.deleted();
+            this.unchanged = merge == null ? 0 : merge.unchanged();
+            this.revision = result.drawing().getStatus() == null ? null : result.drawing().getStatus().getRevision();
+        }
+    }
+
     @Data
     public static class PreviewFormatResponse {
         private final String format;
-        public PreviewFormatResponse(String format) {
+        private final String renderMode;  // client 或 server
+        public PreviewFormatResponse(String format, String renderMode) {
             this.format = format;
+            this.renderMode = renderMode;
         }
     }
 }
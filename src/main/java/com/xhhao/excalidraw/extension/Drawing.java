@@ -1,8 +1,11 @@
 package com.xhhao.excalidraw.extension;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.regex.Pattern;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.springframework.lang.Nullable;
 import run.halo.app.extension.AbstractExtension;
 import run.halo.app.extension.GVK;
 
@@ -19,9 +22,32 @@ import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
     plural = "drawings", singular = "drawing")
 public class Drawing extends AbstractExtension {
 
+    /**
+     * 删除前清理场景数据与附件的 finalizer，由协调器在绘图创建后添加
+     */
+    public static final String CLEANUP_FINALIZER = "excalidraw.xhhao.com/cleanup";
+
+    /**
+     * 附件所属绘图的名称，上传的 .excalidraw 文件带有此标签，绘图删除时一并删除
+     */
+    public static final String DRAWING_NAME_LABEL = "excalidraw.xhhao.com/drawing-name";
+
+    /**
+     * 与 Halo 对 metadata.name 的校验一致：小写 DNS 子域名格式，最长 253 个字符
+     */
+    private static final Pattern NAME_PATTERN =
+        Pattern.compile("[a-z0-9]([-a-z0-9]*[a-z0-9])?(\\.[a-z0-9]([-a-z0-9]*[a-z0-9])?)*");
+    private static final int NAME_MAX_LENGTH = 253;
+
     @Schema(requiredMode = REQUIRED)
     private DrawingSpec spec;
 
+    private DrawingStatus status;
+
+    public static boolean isValidName(@Nullable String name) {
+        return name != null && name.length() <= NAME_MAX_LENGTH && NAME_PATTERN.matcher(name).matches();
+    }
+
     @Data
     public static class DrawingSpec {
         /**
@@ -31,7 +57,11 @@ public class Drawing extends AbstractExtension {
 
         /**
          * Excalidraw 绘图数据 (JSON)
+         *
+         * @deprecated 场景数据已迁移到同名的 {@link DrawingScene}，此字段仅用于兼容旧数据，
+         * 写入后会由协调器迁移并清空
          */
+        @Deprecated
         private String data;
         
         /**
@@ -43,10 +73,104 @@ public class Drawing extends AbstractExtension {
          * 预览格式: svg 或 png
          */
         private String previewFormat;
+
+        /**
+         * 生成预览图时请求的格式。png 无法绘制文字时实际保存为 svg，与 previewFormat 不同，
+         * 批量重新生成时据此判断是否已按请求的格式生成过
+         */
+        private String previewRequestedFormat;
         
         /**
          * 预览图附件的 metadata.name，用于更新时删除旧附件
          */
         private String previewAttachmentName;
+
+        /**
+         * 绘图的原始宽度（CSS 像素），用于文章中 img 的 width 属性
+         */
+        private Integer previewWidth;
+
+        /**
+         * 绘图的原始高度（CSS 像素）
+         */
+        private Integer previewHeight;
+
+        /**
+         * 按宽度从小到大排列的多尺寸位图预览，由协调器根据场景生成
+         */
+        private List<PreviewVariant> previewVariants;
+
+        /**
+         * 生成 previewVariants 时对应的 previewAttachmentName，与当前值不同时说明需要重新生成
+         */
+        private String previewVariantsSource;
+
+        /**
+         * 最近一次备份到附件库的 .excalidraw 文件的 metadata.name
+         */
+        private String backupAttachmentName;
+
+        /**
+         * 最近一次备份内容的 SHA-256（base64url），内容未变化时不重复上传
+         */
+        private String backupContentHash;
+
+        /**
+         * 较早的备份附件，从新到旧排列，数量不超过插件设置中保留的历史版本数，超出的附件会被删除
+         */
+        private List<String> backupHistory;
+    }
+
+    @Data
+    public static class PreviewVariant {
+        /**
+         * 图片宽度（像素）
+         */
+        private Integer width;
+
+        private String url;
+
+        private String attachmentName;
+
+        /**
+         * 图片类型，如 image/png 或 image/webp
+         */
+        private String mediaType;
+    }
+
+    @Data
+    public static class DrawingStatus {
+        /**
+         * 场景文本的检索词条，由协调器在场景数据变化后更新
+         */
+        private List<String> textTerms;
+
+        /**
+         * 保存次数，每次通过 SaveDrawing 保存后加一，客户端据此判断绘图是否已被其他人保存过。
+         * 协调器的后台更新也会改变 metadata.version，因此不以其作为客户端的冲突依据
+         */
+        private Long revision;
+
+        /**
+         * 场景外接矩形（含导出边距）的宽度，以下统计信息由协调器在场景保存后计算
+         */
+        private Integer sceneWidth;
+
+        private Integer sceneHeight;
+
+        /**
+         * 未删除的元素数量
+         */
+        private Integer elementCount;
+
+        /**
+         * 内嵌图片的总字节数
+         */
+        private Long imageBytes;
+
+        /**
+         * 文本元素的字符数
+         */
+        private Integer textLength;
     }
 }
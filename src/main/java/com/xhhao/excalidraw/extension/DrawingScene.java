@@ -0,0 +1,41 @@
+package com.xhhao.excalidraw.extension;
+
+import com.xhhao.excalidraw.scene.SceneCodec;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import run.halo.app.extension.AbstractExtension;
+import run.halo.app.extension.GVK;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+
+/**
+ * Excalidraw 绘图场景数据，与同名 {@link Drawing} 一一对应
+ *
+ * <p>场景 JSON 可能包含内嵌图片，体积较大，因此与绘图元数据分开存储，仅在编辑时按需加载。
+ *
+ * @author Handsome
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@GVK(group = "excalidraw.xhhao.com", version = "v1alpha1", kind = "DrawingScene",
+    plural = "drawingscenes", singular = "drawingscene")
+public class DrawingScene extends AbstractExtension {
+
+    @Schema(requiredMode = REQUIRED)
+    private DrawingSceneSpec spec;
+
+    @Data
+    public static class DrawingSceneSpec {
+        /**
+         * Excalidraw 绘图数据，以 {@link SceneCodec} 压缩编码，不含内嵌图片；旧版本保存的为原始 JSON
+         */
+        private String data;
+
+        /**
+         * 场景中的内嵌图片，文件 id -> Excalidraw 文件对象 JSON，不参与压缩
+         */
+        private Map<String, String> files;
+    }
+}
@@ -0,0 +1,100 @@
+package com.xhhao.excalidraw.extension;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import run.halo.app.extension.AbstractExtension;
+import run.halo.app.extension.GVK;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+
+/**
+ * 预览图批量重新生成任务
+ *
+ * <p>由协调器按绘图名称顺序分页处理，每页处理完成后将进度写入 status，插件重启后从上次的位置继续。
+ * 删除任务即取消。
+ *
+ * @author Handsome
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@GVK(group = "excalidraw.xhhao.com", version = "v1alpha1", kind = "PreviewRegenerationJob",
+    plural = "previewregenerationjobs", singular = "previewregenerationjob")
+public class PreviewRegenerationJob extends AbstractExtension {
+
+    @Schema(requiredMode = REQUIRED)
+    private PreviewRegenerationJobSpec spec;
+
+    private PreviewRegenerationJobStatus status;
+
+    public enum Phase {
+        PENDING,
+        RUNNING,
+        SUCCEEDED,
+        FAILED;
+
+        public boolean isTerminal() {
+            return this == SUCCEEDED || this == FAILED;
+        }
+    }
+
+    @Data
+    public static class PreviewRegenerationJobSpec {
+        /**
+         * 目标格式：svg 或 png，为空时使用插件设置
+         */
+        private String format;
+
+        /**
+         * 同时渲染上传的绘图数量
+         */
+        private Integer concurrency;
+
+        /**
+         * 每秒最多处理的绘图数量
+         */
+        private Integer ratePerSecond;
+
+        /**
+         * 是否跳过预览格式已与目标格式一致的绘图
+         */
+        private Boolean onlyMismatched;
+    }
+
+    @Data
+    public static class PreviewRegenerationJobStatus {
+        private Phase phase;
+
+        /**
+         * 任务开始时的绘图总数，仅用于展示进度
+         */
+        private Integer total;
+
+        private Integer processed;
+
+        private Integer succeeded;
+
+        private Integer failed;
+
+        private Integer skipped;
+
+        /**
+         * 最后处理完成的绘图名称，下一页从它之后开始
+         */
+        private String cursor;
+
+        private Instant startTime;
+
+        private Instant completionTime;
+
+        private String lastError;
+
+        /**
+         * 处理失败的绘图名称，最多保留若干条
+         */
+        private List<String> failedDrawings = new ArrayList<>();
+    }
+}
@@ -0,0 +1,103 @@
+package com.xhhao.excalidraw.reconciler;
+
+import static run.halo.app.extension.index.query.Queries.equal;
+import static run.halo.app.extension.index.query.Queries.not;
+import static run.halo.app.extension.index.query.Queries.or;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import run.halo.app.core.extension.attachment.Attachment;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.ListOptions;
+
+/**
+ * 删除绘图引用的附件：预览图、多尺寸预览和带有绘图名称标签的 .excalidraw 文件
+ *
+ * <p>预览附件按内容哈希复用，可能同时被其他绘图引用，仍被引用时保留。
+ * 删除失败时抛出异常，由协调器重试，已删除的附件不会重复处理。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class DrawingAttachmentCleaner {
+
+    private final ExtensionClient client;
+
+    /**
+     * @return 删除的附件数
+     */
+    int cleanUp(Drawing drawing) {
+        var name = drawing.getMetadata().getName();
+        int deleted = 0;
+        for (var attachmentName : previewAttachments(drawing)) {
+            if (isReferencedByOthers(attachmentName, name)) {
+                log.debug("附件 {} 仍被其他绘图引用，保留", attachmentName);
+                continue;
+            }
+            if (delete(attachmentName)) {
+                deleted++;
+            }
+        }
+        var listOptions = ListOptions.builder()
+            .labelSelector().eq(Drawing.DRAWING_NAME_LABEL, name).end()
+            .build();
+        for (var attachment : client.listAll(Attachment.class, listOptions, Sort.unsorted())) {
+            if (!ExtensionUtil.isDeleted(attachment)) {
+                client.delete(attachment);
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            log.info("绘图 {} 已删除，清理附件 {} 个", name, deleted);
+        }
+        return deleted;
+    }
+
+    private static Set<String> previewAttachments(Drawing drawing) {
+        Set<String> names = new LinkedHashSet<>();
+        var spec = drawing.getSpec();
+        if (spec == null) {
+            return names;
+        }
+        if (spec.getPreviewAttachmentName() != null) {
+            names.add(spec.getPreviewAttachmentName());
+        }
+        if (spec.getPreviewVariants() != null) {
+            spec.getPreviewVariants().stream()
+                .map(Drawing.PreviewVariant::getAttachmentName)
+                .filter(Objects::nonNull)
+                .forEach(names::add);
+        }
+        return names;
+    }
+
+    private boolean isReferencedByOthers(String attachmentName, String drawingName) {
+        var listOptions = ListOptions.builder()
+            .andQuery(or(
+                equal("spec.previewAttachmentName", attachmentName),
+                equal("spec.previewVariants.attachmentName", attachmentName)
+            ))
+            .andQuery(not(equal("metadata.name", drawingName)))
+            .build();
+        return !client.listAll(Drawing.class, listOptions, Sort.unsorted()).isEmpty();
+    }
+
+    private boolean delete(String attachmentName) {
+        return client.fetch(Attachment.class, attachmentName)
+            .filter(attachment -> !ExtensionUtil.isDeleted(attachment))
+            .map(attachment -> {
+                client.delete(attachment);
+                return true;
+            })
+            .orElse(false);
+    }
+}
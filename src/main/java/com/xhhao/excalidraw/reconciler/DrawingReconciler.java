@@ -0,0 +1,134 @@
+package com.xhhao.excalidraw.reconciler;
+
+import com.xhhao.excalidraw.DrawingFragmentCache;
+import com.xhhao.excalidraw.DrawingListVersion;
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.scene.SceneCodec;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.controller.Controller;
+import run.halo.app.extension.controller.ControllerBuilder;
+import run.halo.app.extension.controller.Reconciler;
+
+/**
+ * 绘图协调器，监听 Drawing 的新增、更新与删除
+ *
+ * <ul>
+ *     <li>失效对应的渲染片段缓存，更新绘图列表的版本</li>
+ *     <li>将旧版本写入 Drawing.spec.data 的场景数据迁移到 {@link DrawingScene}</li>
+ *     <li>尚未建立检索词条或统计信息的绘图从场景数据中提取</li>
+ *     <li>绘图删除后一并删除其场景数据和附件</li>
+ * </ul>
+ *
+ * <p>绘图创建后添加 {@link Drawing#CLEANUP_FINALIZER}，无论通过插件接口还是扩展 API 删除，
+ * 都在清理完场景数据和附件后才移除 finalizer 真正删除绘图。清理过程中出错时抛出异常由控制器重试。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrawingReconciler implements Reconciler<Reconciler.Request> {
+
+    private final ExtensionClient client;
+    private final DrawingFragmentCache fragmentCache;
+    private final DrawingListVersion listVersion;
+    private final DrawingSceneIndexer sceneIndexer;
+    private final DrawingAttachmentCleaner attachmentCleaner;
+
+    @Override
+    public Result reconcile(Request request) {
+        var name = request.name();
+        listVersion.increment();
+        client.fetch(Drawing.class, name)
+            .ifPresentOrElse(drawing -> {
+                if (ExtensionUtil.isDeleted(drawing)) {
+                    fragmentCache.invalidateDeleted(name);
+                    cleanUp(drawing);
+                    return;
+                }
+                fragmentCache.invalidateIfStale(name, drawing.getMetadata().getVersion());
+                migrateSceneData(drawing);
+                // 场景先于绘图保存时，场景协调器找不到绘图，由这里补建
+                var status = drawing.getStatus();
+                if (status == null || status.getTextTerms() == null || status.getElementCount() == null) {
+                    sceneIndexer.index(name);
+                }
+                addFinalizer(name);
+            }, () -> {
+                fragmentCache.invalidateDeleted(name);
+                deleteScene(name);
+            });
+        return Result.doNotRetry();
+    }
+
+    /**
+     * 已有场景时说明绘图在迁移前已经保存过，场景比旧字段新，只删除旧字段；
+     * 没有场景时以旧字段创建，创建不会覆盖并发保存写入的场景，出错时由控制器重试
+     */
+    @SuppressWarnings("deprecation")
+    private void migrateSceneData(Drawing drawing) {
+        var spec = drawing.getSpec();
+        if (spec == null || StringUtils.isEmpty(spec.getData())) {
+            return;
+        }
+        var name = drawing.getMetadata().getName();
+        if (client.fetch(DrawingScene.class, name).isEmpty()) {
+            var encoded = SceneCodec.encode(spec.getData());
+            var scene = new DrawingScene();
+            var metadata = new Metadata();
+            metadata.setName(name);
+            scene.setMetadata(metadata);
+            scene.setSpec(new DrawingScene.DrawingSceneSpec());
+            scene.getSpec().setData(encoded.data());
+            scene.getSpec().setFiles(encoded.files());
+            client.create(scene);
+            log.info("绘图 {} 的场景数据已迁移到 DrawingScene", name);
+        }
+        spec.setData(null);
+        client.update(drawing);
+    }
+
+    private void cleanUp(Drawing drawing) {
+        deleteScene(drawing.getMetadata().getName());
+        attachmentCleaner.cleanUp(drawing);
+        if (ExtensionUtil.removeFinalizers(drawing.getMetadata(), Set.of(Drawing.CLEANUP_FINALIZER))) {
+            client.update(drawing);
+        }
+    }
+
+    /**
+     * 迁移场景和更新检索词条都可能修改了绘图，重新读取后再添加
+     */
+    private void addFinalizer(String name) {
+        client.fetch(Drawing.class, name)
+            .filter(drawing -> !ExtensionUtil.isDeleted(drawing))
+            .filter(drawing -> ExtensionUtil.addFinalizers(drawing.getMetadata(),
+                Set.of(Drawing.CLEANUP_FINALIZER)))
+            .ifPresent(client::update);
+    }
+
+    private void deleteScene(String name) {
+        client.fetch(DrawingScene.class, name).ifPresent(scene -> {
+            if (!ExtensionUtil.isDeleted(scene)) {
+                client.delete(scene);
+            }
+        });
+    }
+
+    @Override
+    public Controller setupWith(ControllerBuilder builder) {
+        return builder
+            .extension(new Drawing())
+            // 为已有的绘图补上 finalizer
+            .syncAllOnStart(true)
+            .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.xhhao.excalidraw.reconciler;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.scene.SceneAnalyzer;
+import com.xhhao.excalidraw.scene.SceneCodec;
+import com.xhhao.excalidraw.scene.SceneStats;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.ExtensionUtil;
+
+/**
+ * 根据场景数据更新 Drawing.status 中的检索词条和场景统计信息
+ *
+ * <p>只在单个绘图的场景变化时解析一次，查询时直接使用 {@code status.textTerms} 多值索引，
+ * 渲染文章和按复杂度排序、过滤时直接读取 status 中的尺寸与元素数量。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class DrawingSceneIndexer {
+
+    private final ExtensionClient client;
+
+    /**
+     * 重新提取绘图的检索词条和统计信息，都未变化时不写入
+     */
+    void index(Drawing drawing) {
+        var name = drawing.getMetadata().getName();
+        List<String> terms = List.of();
+        SceneStats stats = null;
+        try {
+            var scene = readScene(drawing).orElse(null);
+            var root = scene == null ? null : SceneAnalyzer.readScene(scene.data());
+            if (root != null) {
+                terms = SceneAnalyzer.textTerms(root);
+                stats = SceneStats.of(root, scene.files());
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("绘图 {} 的场景数据无法解析，跳过检索词条和统计信息更新: {}", name, e.getMessage());
+        }
+        if (drawing.getStatus() == null) {
+            drawing.setStatus(new Drawing.DrawingStatus());
+        }
+        var status = drawing.getStatus();
+        var changed = !Objects.equals(status.getTextTerms(), terms);
+        changed |= applyStats(status, stats);
+        if (!changed) {
+            return;
+        }
+        status.setTextTerms(terms);
+        client.update(drawing);
+    }
+
+    /**
+     * 按名称重新提取，绘图不存在或已删除时忽略
+     */
+    void index(String name) {
+        client.fetch(Drawing.class, name)
+            .filter(drawing -> !ExtensionUtil.isDeleted(drawing))
+            .ifPresent(this::index);
+    }
+
+    /**
+     * @return 统计信息是否有变化
+     */
+    private static boolean applyStats(Drawing.DrawingStatus status, @Nullable SceneStats stats) {
+        Integer width = stats == null ? null : stats.width();
+        Integer height = stats == null ? null : stats.height();
+        Integer elementCount = stats == null ? null : stats.elementCount();
+        Long imageBytes = stats == null ? null : stats.imageBytes();
+        Integer textLength = stats == null ? null : stats.textLength();
+        boolean changed = !Objects.equals(status.getSceneWidth(), width)
+            || !Objects.equals(status.getSceneHeight(), height)
+            || !Objects.equals(status.getElementCount(), elementCount)
+            || !Objects.equals(status.getImageBytes(), imageBytes)
+            || !Objects.equals(status.getTextLength(), textLength);
+        status.setSceneWidth(width);
+        status.setSceneHeight(height);
+        status.setElementCount(elementCount);
+        status.setImageBytes(imageBytes);
+        status.setTextLength(textLength);
+        return changed;
+    }
+
+    @SuppressWarnings("deprecation")
+    private Optional<StoredScene> readScene(Drawing drawing) {
+        return client.fetch(DrawingScene.class, drawing.getMetadata().getName())
+            .filter(scene -> !ExtensionUtil.isDeleted(scene))
+            .map(DrawingScene::getSpec)
+            // 元素中不需要内嵌图片，图片大小直接从单独保存的文件统计
+            .map(spec -> new StoredScene(SceneCodec.decode(spec.getData(), null), spec.getFiles()))
+            .or(() -> Optional.ofNullable(drawing.getSpec())
+                .map(Drawing.DrawingSpec::getData)
+                .map(data -> new StoredScene(data, null)))
+            .filter(scene -> StringUtils.isNotEmpty(scene.data()));
+    }
+
+    /**
+     * @param files 单独保存的文件，旧版本未压缩的场景为空，图片仍在 data 中
+     */
+    private record StoredScene(String data, @Nullable Map<String, String> files) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.xhhao.excalidraw.reconciler;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.scene.SceneCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.controller.Controller;
+import run.halo.app.extension.controller.ControllerBuilder;
+import run.halo.app.extension.controller.Reconciler;
+
+/**
+ * 场景数据协调器
+ *
+ * <ul>
+ *     <li>将旧版本保存的未压缩场景改为 {@link SceneCodec} 编码</li>
+ *     <li>场景保存后更新对应绘图的检索词条和统计信息</li>
+ *     <li>删除没有对应绘图的场景</li>
+ * </ul>
+ *
+ * <p>插件启动时会对已有的全部场景执行一次，从而为升级前保存的绘图补建索引并压缩场景。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrawingSceneReconciler implements Reconciler<Reconciler.Request> {
+
+    private final ExtensionClient client;
+    private final DrawingSceneIndexer sceneIndexer;
+
+    @Override
+    public Result reconcile(Request request) {
+        if (client.fetch(Drawing.class, request.name()).isEmpty()) {
+            // 场景只随绘图存在，旧版本绕过绘图直接写入的场景在这里删除
+            client.fetch(DrawingScene.class, request.name())
+                .filter(scene -> !ExtensionUtil.isDeleted(scene))
+                .ifPresent(scene -> {
+                    client.delete(scene);
+                    log.info("绘图 {} 不存在，已删除其场景数据", request.name());
+                });
+            return Result.doNotRetry();
+        }
+        client.fetch(DrawingScene.class, request.name())
+            .filter(scene -> !ExtensionUtil.isDeleted(scene))
+            .filter(scene -> scene.getSpec() != null && SceneCodec.isLegacy(scene.getSpec().getData()))
+            .ifPresent(this::compress);
+        sceneIndexer.index(request.name());
+        return Result.doNotRetry();
+    }
+
+    private void compress(DrawingScene scene) {
+        var spec = scene.getSpec();
+        int originalLength = spec.getData().length();
+        var encoded = SceneCodec.encode(spec.getData());
+        spec.setData(encoded.data());
+        spec.setFiles(encoded.files());
+        client.update(scene);
+        log.info("绘图 {} 的场景数据已压缩: {} -> {} 个字符", scene.getMetadata().getName(), originalLength,
+            encoded.data().length());
+    }
+
+    @Override
+    public Controller setupWith(ControllerBuilder builder) {
+        return builder
+            .extension(new DrawingScene())
+            .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.xhhao.excalidraw.reconciler;
+
+import static run.halo.app.extension.index.query.Queries.equal;
+import static run.halo.app.extension.index.query.Queries.or;
+
+import com.xhhao.excalidraw.ExcalidrawMetrics;
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.service.impl.ContentHash;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import run.halo.app.core.extension.attachment.Attachment;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.ListOptions;
+import run.halo.app.extension.controller.Controller;
+import run.halo.app.extension.controller.ControllerBuilder;
+import run.halo.app.extension.controller.Reconciler;
+
+/**
+ * 孤立预览附件清理，删除没有任何绘图引用的预览附件
+ *
+ * <p>只处理带有内容哈希标签、即由本插件上传的预览附件。上传与绘图更新之间存在时间差，
+ * 附件创建后 {@link #GRACE_PERIOD} 内不清理；仍被引用的附件每隔 {@link #RECHECK_INTERVAL} 重新检查一次，
+ * 绘图删除或预览替换时未能删除的附件最终都会被清理。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanPreviewReconciler implements Reconciler<Reconciler.Request> {
+
+    static final Duration GRACE_PERIOD = Duration.ofHours(1);
+    static final Duration RECHECK_INTERVAL = Duration.ofHours(12);
+
+    private final ExtensionClient client;
+    private final ExcalidrawMetrics metrics;
+
+    @Override
+    public Result reconcile(Request request) {
+        var attachment = client.fetch(Attachment.class, request.name()).orElse(null);
+        if (attachment == null || ExtensionUtil.isDeleted(attachment) || !isPreview(attachment)) {
+            return Result.doNotRetry();
+        }
+        var created = attachment.getMetadata().getCreationTimestamp();
+        var age = created == null ? GRACE_PERIOD : Duration.between(created, Instant.now());
+        if (age.compareTo(GRACE_PERIOD) < 0) {
+            return new Result(true, GRACE_PERIOD.minus(age));
+        }
+        if (isReferenced(request.name())) {
+            return new Result(true, RECHECK_INTERVAL);
+        }
+        client.delete(attachment);
+        metrics.recordOrphanPreviewDeleted();
+        log.info("预览附件 {} 未被任何绘图引用，已删除", request.name());
+        return Result.doNotRetry();
+    }
+
+    private static boolean isPreview(Attachment attachment) {
+        var labels = attachment.getMetadata().getLabels();
+        return labels != null && labels.containsKey(ContentHash.LABEL);
+    }
+
+    private boolean isReferenced(String attachmentName) {
+        var listOptions = ListOptions.builder()
+            .andQuery(or(
+                equal("spec.previewAttachmentName", attachmentName),
+                equal("spec.previewVariants.attachmentName", attachmentName)
+            ))
+            .build();
+        return !client.listAll(Drawing.class, listOptions, Sort.unsorted()).isEmpty();
+    }
+
+    @Override
+    public Controller setupWith(ControllerBuilder builder) {
+        return builder
+            .extension(new Attachment())
+            .syncAllOnStart(true)
+            .build();
+    }
+}
@@ -0,0 +1,249 @@
+package com.xhhao.excalidraw.reconciler;
+
+import static run.halo.app.extension.index.query.Queries.greaterThan;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.PreviewRegenerationJob;
+import com.xhhao.excalidraw.extension.PreviewRegenerationJob.Phase;
+import com.xhhao.excalidraw.extension.PreviewRegenerationJob.PreviewRegenerationJobSpec;
+import com.xhhao.excalidraw.extension.PreviewRegenerationJob.PreviewRegenerationJobStatus;
+import com.xhhao.excalidraw.service.ExcalidrawService;
+import com.xhhao.excalidraw.service.SettingConfigGetter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.ListOptions;
+import run.halo.app.extension.PageRequestImpl;
+import run.halo.app.extension.controller.Controller;
+import run.halo.app.extension.controller.ControllerBuilder;
+import run.halo.app.extension.controller.Reconciler;
+
+/**
+ * 预览图批量重新生成任务协调器
+ *
+ * <p>每次协调按绘图名称顺序处理一页，处理完成后把游标和计数写回 status 再重新入队，
+ * 因此插件重启后会从上次完成的位置继续。渲染在 {@link com.xhhao.excalidraw.render.PreviewRenderer}
+ * 的独立调度器上执行，并按任务设置限制并发数和速率，不占用请求线程。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreviewRegenerationJobReconciler implements Reconciler<Reconciler.Request> {
+
+    static final int PAGE_SIZE = 20;
+    static final int DEFAULT_CONCURRENCY = 2;
+    static final int MAX_CONCURRENCY = 8;
+    static final int DEFAULT_RATE_PER_SECOND = 5;
+    static final int MAX_RATE_PER_SECOND = 50;
+    static final int MAX_FAILED_DRAWINGS = 100;
+
+    // 单页处理超时，超时后由控制器重试当前页
+    private static final Duration PAGE_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration NEXT_PAGE_DELAY = Duration.ofMillis(200);
+
+    private final ExtensionClient client;
+    private final ExcalidrawService excalidrawService;
+    private final SettingConfigGetter settingConfigGetter;
+
+    @Override
+    public Result reconcile(Request request) {
+        var job = client.fetch(PreviewRegenerationJob.class, request.name()).orElse(null);
+        // 任务被删除即视为取消，正在处理的一页完成后不再继续
+        if (job == null || ExtensionUtil.isDeleted(job)) {
+            return Result.doNotRetry();
+        }
+        if (job.getSpec() == null) {
+            job.setSpec(new PreviewRegenerationJobSpec());
+        }
+        if (job.getStatus() == null) {
+            job.setStatus(new PreviewRegenerationJobStatus());
+        }
+        var status = job.getStatus();
+        if (status.getPhase() != null && status.getPhase().isTerminal()) {
+            return Result.doNotRetry();
+        }
+        if (status.getPhase() != Phase.RUNNING) {
+            return begin(job);
+        }
+        return processNextPage(job);
+    }
+
+    private Result begin(PreviewRegenerationJob job) {
+        var status = job.getStatus();
+        status.setStartTime(Instant.now());
+        if (!hasStoragePolicy()) {
+            return complete(job, Phase.FAILED, "未配置附件存储策略，无法上传预览图");
+        }
+        var total = client.listBy(Drawing.class, ListOptions.builder().build(), PageRequestImpl.ofSize(1))
+            .getTotal();
+        status.setPhase(Phase.RUNNING);
+        status.setTotal((int) total);
+        status.setProcessed(0);
+        status.setSucceeded(0);
+        status.setFailed(0);
+        status.setSkipped(0);
+        status.setCursor(null);
+        status.setFailedDrawings(new ArrayList<>());
+        client.update(job);
+        log.info("预览图重新生成任务 {} 开始，共 {} 个绘图", job.getMetadata().getName(), total);
+        return new Result(true, NEXT_PAGE_DELAY);
+    }
+
+    private Result processNextPage(PreviewRegenerationJob job) {
+        var spec = job.getSpec();
+        var status = job.getStatus();
+        var format = StringUtils.isNotBlank(spec.getFormat())
+            ? spec.getFormat().toLowerCase()
+            : excalidrawService.getPreviewFormat().blockOptional().orElse("svg");
+
+        var options = ListOptions.builder();
+        if (status.getCursor() != null) {
+            options.andQuery(greaterThan("metadata.name", status.getCursor()));
+        }
+        var page = client.listBy(Drawing.class, options.build(),
+            PageRequestImpl.of(1, PAGE_SIZE, Sort.by("metadata.name")));
+        if (page.getItems().isEmpty()) {
+            return complete(job, Phase.SUCCEEDED, null);
+        }
+
+        var interval = Duration.ofMillis(1000L / clamp(spec.getRatePerSecond(),
+            DEFAULT_RATE_PER_SECOND, MAX_RATE_PER_SECOND));
+        var outcomes = Flux.fromIterable(page.getItems())
+            .delayElements(interval)
+            .flatMap(drawing -> regenerate(drawing, format, !Boolean.FALSE.equals(spec.getOnlyMismatched())),
+                clamp(spec.getConcurrency(), DEFAULT_CONCURRENCY, MAX_CONCURRENCY))
+            .collectList()
+            .block(PAGE_TIMEOUT);
+
+        // 处理期间任务可能已被删除，重新读取后再写回进度
+        var latest = client.fetch(PreviewRegenerationJob.class, job.getMetadata().getName())
+            .filter(fetched -> !ExtensionUtil.isDeleted(fetched))
+            .orElse(null);
+        if (latest == null) {
+            log.info("预览图重新生成任务 {} 已取消", job.getMetadata().getName());
+            return Result.doNotRetry();
+        }
+        latest.setStatus(status);
+        record(status, Objects.requireNonNull(outcomes));
+        status.setCursor(page.getItems().get(page.getItems().size() - 1).getMetadata().getName());
+        client.update(latest);
+        return new Result(true, NEXT_PAGE_DELAY);
+    }
+
+    private Mono<Outcome> regenerate(Drawing drawing, String format, boolean onlyMismatched) {
+        var name = drawing.getMetadata().getName();
+        if (ExtensionUtil.isDeleted(drawing)) {
+            return Mono.just(new Outcome(name, Outcome.Type.SKIPPED, null));
+        }
+        if (onlyMismatched && generatedAs(drawing.getSpec(), format)) {
+            return Mono.just(new Outcome(name, Outcome.Type.SKIPPED, null));
+        }
+        return excalidrawService.renderPreview(name, format)
+            .map(result -> result.getAttachmentName() != null
+                ? new Outcome(name, Outcome.Type.SUCCEEDED, null)
+                : new Outcome(name, Outcome.Type.FAILED, "预览图上传失败"))
+            // 没有场景数据的绘图无需生成预览
+            .defaultIfEmpty(new Outcome(name, Outcome.Type.SKIPPED, null))
+            .onErrorResume(e -> {
+                log.warn("重新生成绘图 {} 的预览图失败: {}", name, e.getMessage());
+                return Mono.just(new Outcome(name, Outcome.Type.FAILED, e.getMessage()));
+            });
+    }
+
+    /**
+     * 已有按该格式生成的预览图。png 无法绘制文字时保存为 svg，按请求的格式比较，
+     * 否则这些绘图每次任务都会重新渲染上传
+     */
+    static boolean generatedAs(Drawing.DrawingSpec spec, String format) {
+        if (spec == null || StringUtils.isBlank(spec.getPreviewUrl())) {
+            return false;
+        }
+        var generated = StringUtils.isNotBlank(spec.getPreviewRequestedFormat())
+            ? spec.getPreviewRequestedFormat() : spec.getPreviewFormat();
+        return format.equalsIgnoreCase(generated);
+    }
+
+    private static void record(PreviewRegenerationJobStatus status, List<Outcome> outcomes) {
+        var failedDrawings = status.getFailedDrawings() == null
+            ? new ArrayList<String>() : new ArrayList<>(status.getFailedDrawings());
+        for (var outcome : outcomes) {
+            switch (outcome.type()) {
+                case SUCCEEDED -> status.setSucceeded(valueOf(status.getSucceeded()) + 1);
+                case FAILED -> {
+                    status.setFailed(valueOf(status.getFailed()) + 1);
+                    status.setLastError(outcome.name() + ": " + outcome.error());
+                    if (failedDrawings.size() < MAX_FAILED_DRAWINGS) {
+                        failedDrawings.add(outcome.name());
+                    }
+                }
+                case SKIPPED -> status.setSkipped(valueOf(status.getSkipped()) + 1);
+            }
+        }
+        status.setFailedDrawings(failedDrawings);
+        status.setProcessed(valueOf(status.getProcessed()) + outcomes.size());
+    }
+
+    private Result complete(PreviewRegenerationJob job, Phase phase, String error) {
+        var status = job.getStatus();
+        status.setPhase(phase);
+        status.setCompletionTime(Instant.now());
+        if (error != null) {
+            status.setLastError(error);
+        }
+        client.update(job);
+        log.info("预览图重新生成任务 {} 结束: {}，成功 {}，失败 {}，跳过 {}", job.getMetadata().getName(),
+            phase, valueOf(status.getSucceeded()), valueOf(status.getFailed()), valueOf(status.getSkipped()));
+        return Result.doNotRetry();
+    }
+
+    private boolean hasStoragePolicy() {
+        return settingConfigGetter.getBasicConfig()
+            .mapNotNull(SettingConfigGetter.BasicConfig::getAttachmentSettings)
+            .map(settings -> StringUtils.isNotBlank(settings.getFilePolicy()))
+            .blockOptional()
+            .orElse(false);
+    }
+
+    private static int clamp(Integer value, int defaultValue, int max) {
+        if (value == null || value <= 0) {
+            return defaultValue;
+        }
+        return Math.min(value, max);
+    }
+
+    private static int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * 单个绘图的处理结果
+     */
+    private record Outcome(String name, Type type, String error) {
+        enum Type {
+            SUCCEEDED,
+            FAILED,
+            // 已删除、格式已一致或没有场景数据
+            SKIPPED
+        }
+    }
+
+    @Override
+    public Controller setupWith(ControllerBuilder builder) {
+        return builder
+            .extension(new PreviewRegenerationJob())
+            .build();
+    }
+}
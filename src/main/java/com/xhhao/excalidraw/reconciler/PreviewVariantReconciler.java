@@ -0,0 +1,61 @@
+package com.xhhao.excalidraw.reconciler;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.service.ExcalidrawService;
+import java.time.Duration;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.controller.Controller;
+import run.halo.app.extension.controller.ControllerBuilder;
+import run.halo.app.extension.controller.Reconciler;
+
+/**
+ * 多尺寸预览协调器，绘图的预览图变化后按当前场景重新生成各宽度的位图版本
+ *
+ * <p>与 {@link DrawingReconciler} 分开运行，渲染和上传较慢时不影响片段缓存的失效。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreviewVariantReconciler implements Reconciler<Reconciler.Request> {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final ExtensionClient client;
+    private final ExcalidrawService excalidrawService;
+
+    @Override
+    public Result reconcile(Request request) {
+        client.fetch(Drawing.class, request.name())
+            .filter(drawing -> !ExtensionUtil.isDeleted(drawing))
+            .filter(PreviewVariantReconciler::isStale)
+            .ifPresent(drawing -> {
+                excalidrawService.generatePreviewVariants(request.name()).block(TIMEOUT);
+                log.debug("绘图 {} 的多尺寸预览已更新", request.name());
+            });
+        return Result.doNotRetry();
+    }
+
+    /**
+     * 多尺寸预览不是根据当前预览图生成的
+     */
+    private static boolean isStale(Drawing drawing) {
+        var spec = drawing.getSpec();
+        return spec != null && StringUtils.isNotBlank(spec.getPreviewAttachmentName())
+            && !Objects.equals(spec.getPreviewAttachmentName(), spec.getPreviewVariantsSource());
+    }
+
+    @Override
+    public Controller setupWith(ControllerBuilder builder) {
+        return builder
+            .extension(new Drawing())
+            .build();
+    }
+}
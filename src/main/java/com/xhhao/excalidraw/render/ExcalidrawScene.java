@@ -0,0 +1,278 @@
+package com.xhhao.excalidraw.render;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 服务端渲染使用的简化场景模型
+ *
+ * <p>只解析渲染预览图所需的字段：基础图形、线条、箭头、自由绘制、文本和图片。
+ * 手绘风格的抖动与阴影线填充不做还原，非实心填充以半透明色块近似。
+ *
+ * @author Handsome
+ */
+public record ExcalidrawScene(List<Element> elements, Map<String, String> files,
+                              String background, boolean exportBackground) {
+
+    static final double EXPORT_PADDING = 10;
+    static final double DEFAULT_LINE_HEIGHT = 1.25;
+
+    /**
+     * 解析 Excalidraw 场景 JSON，已删除的元素会被跳过
+     *
+     * @throws IllegalArgumentException 场景 JSON 无法解析时
+     */
+    public static ExcalidrawScene parse(String json) {
+        JsonNode root;
+        try {
+            root = JsonUtils.DEFAULT_JSON_MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("无法解析场景数据: " + e.getOriginalMessage(), e);
+        }
+        return parse(root);
+    }
+
+    /**
+     * 从已解析的场景 JSON 构建，已删除的元素会被跳过
+     *
+     * @throws IllegalArgumentException 场景不是 JSON 对象时
+     */
+    public static ExcalidrawScene parse(JsonNode root) {
+        if (root == null || !root.isObject()) {
+            throw new IllegalArgumentException("场景数据不是 JSON 对象");
+        }
+
+        List<Element> elements = new ArrayList<>();
+        for (JsonNode node : root.path("elements")) {
+            if (!node.path("isDeleted").asBoolean(false)) {
+                elements.add(Element.from(node));
+            }
+        }
+
+        Map<String, String> files = new HashMap<>();
+        root.path("files").fields().forEachRemaining(entry -> {
+            String dataUrl = entry.getValue().path("dataURL").asText(null);
+            if (dataUrl != null) {
+                files.put(entry.getKey(), dataUrl);
+            }
+        });
+
+        JsonNode appState = root.path("appState");
+        return new ExcalidrawScene(elements, files,
+            appState.path("viewBackgroundColor").asText("#ffffff"),
+            appState.path("exportBackground").asBoolean(true));
+    }
+
+    /**
+     * 所有元素（含旋转）的外接矩形，已加上导出边距：{minX, minY, width, height}
+     */
+    public double[] bounds() {
+        if (elements.isEmpty()) {
+            return new double[] {0, 0, EXPORT_PADDING * 2, EXPORT_PADDING * 2};
+        }
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (Element element : elements) {
+            for (double[] corner : element.corners()) {
+                minX = Math.min(minX, corner[0]);
+                minY = Math.min(minY, corner[1]);
+                maxX = Math.max(maxX, corner[0]);
+                maxY = Math.max(maxY, corner[1]);
+            }
+        }
+        return new double[] {
+            minX - EXPORT_PADDING,
+            minY - EXPORT_PADDING,
+            maxX - minX + EXPORT_PADDING * 2,
+            maxY - minY + EXPORT_PADDING * 2
+        };
+    }
+
+    /**
+     * 场景中的单个元素，坐标为场景坐标，线条的点相对于 (x, y)
+     */
+    public record Element(String type, double x, double y, double width, double height,
+                          double angle, String strokeColor, String backgroundColor,
+                          String fillStyle, double strokeWidth, String strokeStyle,
+                          int roundness, double opacity, List<double[]> points,
+                          String startArrowhead, String endArrowhead, String text,
+                          double fontSize, int fontFamily, String textAlign,
+                          double lineHeight, String fileId) {
+
+        static Element from(JsonNode node) {
+            List<double[]> points = new ArrayList<>();
+            for (JsonNode point : node.path("points")) {
+                points.add(new double[] {point.path(0).asDouble(), point.path(1).asDouble()});
+            }
+            JsonNode roundness = node.path("roundness");
+            return new Element(
+                node.path("type").asText("rectangle"),
+                node.path("x").asDouble(),
+                node.path("y").asDouble(),
+                node.path("width").asDouble(),
+                node.path("height").asDouble(),
+                node.path("angle").asDouble(),
+                node.path("strokeColor").asText("#1e1e1e"),
+                node.path("backgroundColor").asText("transparent"),
+                node.path("fillStyle").asText("solid"),
+                node.path("strokeWidth").asDouble(1),
+                node.path("strokeStyle").asText("solid"),
+                roundness.isObject() ? roundness.path("type").asInt(0) : 0,
+                node.path("opacity").asDouble(100) / 100,
+                points,
+                node.path("startArrowhead").asText(null),
+                node.path("endArrowhead").asText(null),
+                node.path("text").asText(""),
+                node.path("fontSize").asDouble(20),
+                node.path("fontFamily").asInt(1),
+                node.path("textAlign").asText("left"),
+                node.path("lineHeight").asDouble(DEFAULT_LINE_HEIGHT),
+                node.path("fileId").asText(null)
+            );
+        }
+
+        public boolean isLinear() {
+            return "line".equals(type) || "arrow".equals(type) || "freedraw".equals(type);
+        }
+
+        public double centerX() {
+            return x + width / 2;
+        }
+
+        public double centerY() {
+            return y + height / 2;
+        }
+
+        public boolean hasFill() {
+            return backgroundColor != null && !"transparent".equals(backgroundColor)
+                && !backgroundColor.isBlank();
+        }
+
+        /**
+         * 非实心填充（阴影线、交叉线等）以半透明色块近似
+         */
+        public double fillOpacity() {
+            return "solid".equals(fillStyle) ? 1 : 0.35;
+        }
+
+        /**
+         * 圆角半径：比例圆角取短边的 25%，自适应圆角最大 32
+         */
+        public double cornerRadius() {
+            return switch (roundness) {
+                case 2 -> Math.min(width, height) * 0.25;
+                case 3 -> Math.min(32, Math.min(width, height) * 0.25);
+                default -> 0;
+            };
+        }
+
+        /**
+         * 与 Excalidraw 一致的虚线参数，实线返回 null
+         */
+        public double[] dashArray() {
+            return switch (strokeStyle) {
+                case "dashed" -> new double[] {8, 8 + strokeWidth};
+                case "dotted" -> new double[] {1.5, 6 + strokeWidth};
+                default -> null;
+            };
+        }
+
+        /**
+         * Excalidraw 字体编号对应的 CSS 字体族，服务端没有手写字体时回退到通用字体
+         */
+        public String fontFamilyCss() {
+            return switch (fontFamily) {
+                case 1 -> "Virgil, Segoe UI Emoji, sans-serif";
+                case 2 -> "Helvetica, Segoe UI Emoji, sans-serif";
+                case 3 -> "Cascadia, Segoe UI Emoji, monospace";
+                case 6 -> "Nunito, Segoe UI Emoji, sans-serif";
+                case 7 -> "Lilita One, Segoe UI Emoji, sans-serif";
+                case 8 -> "Comic Shanns, Segoe UI Emoji, monospace";
+                case 9 -> "Liberation Sans, Segoe UI Emoji, sans-serif";
+                default -> "Excalifont, Xiaolai, Segoe UI Emoji, sans-serif";
+            };
+        }
+
+        public boolean isMonospace() {
+            return fontFamily == 3 || fontFamily == 8;
+        }
+
+        public String[] lines() {
+            return text.split("\r?\n", -1);
+        }
+
+        /**
+         * 第 {@code index} 行文本基线相对元素顶部的偏移
+         */
+        public double baselineOffset(int index) {
+            return fontSize * lineHeight * (index + 0.5) + fontSize * 0.35;
+        }
+
+        /**
+         * 箭头两翼的端点，{@code end} 为 true 时取终点方向；没有箭头时返回 null
+         */
+        public double[][] arrowhead(boolean end) {
+            String head = end ? endArrowhead : startArrowhead;
+            if (head == null || head.isBlank() || "null".equals(head) || points.size() < 2) {
+                return null;
+            }
+            double[] tip = end ? points.get(points.size() - 1) : points.get(0);
+            double[] from = end ? points.get(points.size() - 2) : points.get(1);
+            double dx = tip[0] - from[0];
+            double dy = tip[1] - from[1];
+            double segment = Math.hypot(dx, dy);
+            if (segment == 0) {
+                return null;
+            }
+            double size = Math.min(30, segment * 0.5);
+            double angleOfLine = Math.atan2(dy, dx);
+            double spread = Math.toRadians(25);
+            double tipX = x + tip[0];
+            double tipY = y + tip[1];
+            return new double[][] {
+                {tipX - size * Math.cos(angleOfLine - spread), tipY - size * Math.sin(angleOfLine - spread)},
+                {tipX, tipY},
+                {tipX - size * Math.cos(angleOfLine + spread), tipY - size * Math.sin(angleOfLine + spread)}
+            };
+        }
+
+        /**
+         * 元素外接矩形旋转后的四个角
+         */
+        List<double[]> corners() {
+            double minX = x;
+            double minY = y;
+            double maxX = x + width;
+            double maxY = y + height;
+            if (isLinear() && !points.isEmpty()) {
+                minX = minY = Double.POSITIVE_INFINITY;
+                maxX = maxY = Double.NEGATIVE_INFINITY;
+                for (double[] point : points) {
+                    minX = Math.min(minX, x + point[0]);
+                    minY = Math.min(minY, y + point[1]);
+                    maxX = Math.max(maxX, x + point[0]);
+                    maxY = Math.max(maxY, y + point[1]);
+                }
+            }
+            double[][] box = {{minX, minY}, {maxX, minY}, {maxX, maxY}, {minX, maxY}};
+            List<double[]> corners = new ArrayList<>(4);
+            double cos = Math.cos(angle);
+            double sin = Math.sin(angle);
+            double cx = centerX();
+            double cy = centerY();
+            for (double[] corner : box) {
+                double dx = corner[0] - cx;
+                double dy = corner[1] - cy;
+                corners.add(new double[] {cx + dx * cos - dy * sin, cy + dx * sin + dy * cos});
+            }
+            return corners;
+        }
+    }
+}
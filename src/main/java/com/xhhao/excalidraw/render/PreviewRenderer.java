@@ -0,0 +1,147 @@
+package com.xhhao.excalidraw.render;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 服务端预览图渲染
+ *
+ * <p>渲染是 CPU 密集型操作，在独立的有界调度器上执行，避免占用请求线程和公共的 boundedElastic。
+ * 位图渲染另受 {@link RasterSceneRenderer#MEMORY_BUDGET_BYTES} 限制，线程数只决定 CPU 并发。
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+public class PreviewRenderer {
+
+    public static final MediaType IMAGE_SVG = MediaType.valueOf("image/svg+xml");
+
+    // 并发渲染线程数与排队任务上限
+    static final int MAX_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    static final int MAX_QUEUED_TASKS = 64;
+
+    /**
+     * 多尺寸预览图的候选宽度（像素），另外总会生成一张两倍原始尺寸的版本
+     */
+    static final int[] VARIANT_WIDTHS = {480, 960, 1600};
+    static final int MAX_VARIANT_WIDTH = 2400;
+
+    // JDK 自带 ImageIO 不支持写入 WebP，classpath 中有纯 Java 编码器时才使用
+    private static final String VARIANT_FORMAT = RasterSceneRenderer.canWrite("webp") ? "webp" : "png";
+
+    private final Scheduler scheduler =
+        Schedulers.newBoundedElastic(MAX_THREADS, MAX_QUEUED_TASKS, "excalidraw-render");
+
+    /**
+     * 渲染场景预览图
+     *
+     * @param sceneJson Excalidraw 场景 JSON
+     * @param format svg 或 png；png 在无法绘制文字时退回 svg，以结果中的 format 为准
+     */
+    public Mono<RenderedPreview> render(String sceneJson, String format) {
+        boolean png = "png".equalsIgnoreCase(format);
+        return Mono.fromCallable(() -> {
+                var scene = ExcalidrawScene.parse(sceneJson);
+                // 无法绘制文字时改为 SVG，文字交给浏览器渲染
+                if (png && canRasterize(scene)) {
+                    return new RenderedPreview(RasterSceneRenderer.renderPng(scene), "png",
+                        MediaType.IMAGE_PNG);
+                }
+                return new RenderedPreview(
+                    SvgSceneRenderer.render(scene).getBytes(StandardCharsets.UTF_8), "svg", IMAGE_SVG);
+            })
+            .subscribeOn(scheduler);
+    }
+
+    /**
+     * 渲染多个宽度的位图版本，供文章中的 srcset 按屏幕宽度选择
+     *
+     * <p>宽度从小到大，不超过两倍原始尺寸，也不超过 {@link #MAX_VARIANT_WIDTH}。
+     * 当前环境无法绘制文字且场景含文字时不生成，文章中只输出原预览图。
+     *
+     * @param sceneJson Excalidraw 场景 JSON
+     */
+    public Mono<PreviewVariants> renderVariants(String sceneJson) {
+        return Mono.fromCallable(() -> {
+                var scene = ExcalidrawScene.parse(sceneJson);
+                if (!canRasterize(scene)) {
+                    return null;
+                }
+                double[] bounds = scene.bounds();
+                int fullWidth = Math.min(MAX_VARIANT_WIDTH,
+                    (int) Math.ceil(bounds[2] * RasterSceneRenderer.DEFAULT_SCALE));
+                List<Integer> widths = new ArrayList<>();
+                for (int width : VARIANT_WIDTHS) {
+                    if (width < fullWidth) {
+                        widths.add(width);
+                    }
+                }
+                widths.add(fullWidth);
+
+                var mediaType = MediaType.valueOf("image/" + VARIANT_FORMAT);
+                List<RenderedVariant> variants = new ArrayList<>(widths.size());
+                for (int width : widths) {
+                    variants.add(new RenderedVariant(width, new RenderedPreview(
+                        RasterSceneRenderer.render(scene, width, VARIANT_FORMAT), VARIANT_FORMAT, mediaType)));
+                }
+                return new PreviewVariants((int) Math.round(bounds[2]), (int) Math.round(bounds[3]), variants);
+            })
+            .subscribeOn(scheduler);
+    }
+
+    /**
+     * 缺少字体时位图中的文字会丢失，含文字的场景不光栅化
+     */
+    private static boolean canRasterize(ExcalidrawScene scene) {
+        return RasterSceneRenderer.isTextSupported() || !RasterSceneRenderer.hasText(scene);
+    }
+
+    @PostConstruct
+    public void checkFonts() {
+        if (!RasterSceneRenderer.isTextSupported()) {
+            log.warn("Java2D 无法加载字体（通常是缺少 fontconfig 或系统字体），"
+                + "含文字的绘图将以 SVG 生成预览且不生成多尺寸位图");
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    /**
+     * 渲染结果
+     *
+     * @param content 图片内容
+     * @param format svg 或 png
+     * @param mediaType 对应的媒体类型
+     */
+    public record RenderedPreview(byte[] content, String format, MediaType mediaType) {
+    }
+
+    /**
+     * 指定宽度的位图版本
+     */
+    public record RenderedVariant(int width, RenderedPreview preview) {
+    }
+
+    /**
+     * 多尺寸渲染结果
+     *
+     * @param width 绘图的原始宽度（CSS 像素），用于 img 的 width 属性
+     * @param height 绘图的原始高度（CSS 像素）
+     * @param variants 按宽度从小到大排列
+     */
+    public record PreviewVariants(int width, int height, List<RenderedVariant> variants) {
+    }
+}
@@ -0,0 +1,363 @@
+package com.xhhao.excalidraw.render;
+
+import com.xhhao.excalidraw.render.ExcalidrawScene.Element;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import javax.imageio.ImageIO;
+
+/**
+ * 使用 Java2D 将场景光栅化为 PNG，与 {@link SvgSceneRenderer} 的图形规则保持一致
+ *
+ * @author Handsome
+ */
+public final class RasterSceneRenderer {
+
+    static final double DEFAULT_SCALE = 2;
+
+    // 单张预览图的最大像素数，超过时按比例缩小；ARGB 每像素 4 字节，单张最多约 32MB
+    static final double MAX_PIXELS = 4096d * 2048d;
+
+    /**
+     * 所有并发渲染中的位图合计可占用的内存，取最大堆的八分之一且不少于单张上限；
+     * 超出时后来的渲染在渲染线程上等待，不会因并发渲染大图耗尽堆内存
+     */
+    static final long MEMORY_BUDGET_BYTES =
+        Math.max((long) MAX_PIXELS * 4, Runtime.getRuntime().maxMemory() / 8);
+    // 许可以 KB 计
+    private static final Semaphore MEMORY_BUDGET = new Semaphore((int) (MEMORY_BUDGET_BYTES / 1024));
+
+    /**
+     * Java2D 绘制文字依赖系统的 fontconfig 和字体，精简的容器镜像中可能都没有，启动时探测一次
+     */
+    static final boolean TEXT_SUPPORTED = probeText();
+
+    private RasterSceneRenderer() {
+    }
+
+    public static byte[] renderPng(ExcalidrawScene scene) {
+        return render(scene, DEFAULT_SCALE, "png");
+    }
+
+    /**
+     * 按指定宽度光栅化，宽度以像素计，高度按比例计算
+     *
+     * @param format ImageIO 支持写入的格式名，如 png 或 webp
+     */
+    public static byte[] render(ExcalidrawScene scene, int width, String format) {
+        return render(scene, width / scene.bounds()[2], format);
+    }
+
+    /**
+     * 场景中是否有文字，{@link #TEXT_SUPPORTED} 为 false 时这些文字无法光栅化
+     */
+    public static boolean hasText(ExcalidrawScene scene) {
+        for (Element element : scene.elements()) {
+            if ("text".equals(element.type())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isTextSupported() {
+        return TEXT_SUPPORTED;
+    }
+
+    /**
+     * 在内存预算内绘制并编码，位图在编码完成后才释放预算
+     */
+    private static byte[] render(ExcalidrawScene scene, double maxScale, String format) {
+        int[] size = size(scene, maxScale);
+        int permits = (int) Math.min(MEMORY_BUDGET_BYTES / 1024, (long) size[0] * size[1] * 4 / 1024 + 1);
+        try {
+            MEMORY_BUDGET.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("等待渲染内存时被中断", e);
+        }
+        try {
+            return encode(rasterize(scene, maxScale), format);
+        } finally {
+            MEMORY_BUDGET.release(permits);
+        }
+    }
+
+    /**
+     * 以给定缩放比例绘制后的像素尺寸：{width, height}
+     */
+    static int[] size(ExcalidrawScene scene, double maxScale) {
+        double[] bounds = scene.bounds();
+        return size(bounds, scale(bounds, maxScale));
+    }
+
+    private static int[] size(double[] bounds, double scale) {
+        return new int[] {
+            Math.max(1, (int) Math.ceil(bounds[2] * scale)),
+            Math.max(1, (int) Math.ceil(bounds[3] * scale))
+        };
+    }
+
+    private static double scale(double[] bounds, double maxScale) {
+        return Math.min(maxScale, Math.sqrt(MAX_PIXELS / (bounds[2] * bounds[3])));
+    }
+
+    /**
+     * 以给定缩放比例绘制场景，像素数超过 {@link #MAX_PIXELS} 时按比例缩小
+     */
+    static BufferedImage rasterize(ExcalidrawScene scene, double maxScale) {
+        double[] bounds = scene.bounds();
+        double scale = scale(bounds, maxScale);
+        int[] size = size(bounds, scale);
+        int width = size[0];
+        int height = size[1];
+
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            if (scene.exportBackground()) {
+                g.setColor(parseColor(scene.background(), Color.WHITE));
+                g.fillRect(0, 0, width, height);
+            }
+            g.scale(scale, scale);
+            g.translate(-bounds[0], -bounds[1]);
+            AffineTransform base = g.getTransform();
+            for (Element element : scene.elements()) {
+                g.setTransform(base);
+                if (element.angle() != 0) {
+                    g.rotate(element.angle(), element.centerX(), element.centerY());
+                }
+                renderElement(g, element, scene);
+            }
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * 缺少 fontconfig 时 JDK 在首次使用字体时抛出 Error 而不是异常
+     */
+    private static boolean probeText() {
+        try {
+            var image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            try {
+                g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
+                g.getFontMetrics().stringWidth("Aa");
+                g.drawString("Aa", 0, 0);
+                return true;
+            } finally {
+                g.dispose();
+            }
+        } catch (RuntimeException | LinkageError | InternalError e) {
+            return false;
+        }
+    }
+
+    /**
+     * 是否有可写入该格式的 ImageIO 编码器，例如 classpath 中存在纯 Java 的 WebP 编码器时
+     */
+    public static boolean canWrite(String format) {
+        return ImageIO.getImageWritersByFormatName(format).hasNext();
+    }
+
+    static byte[] encode(BufferedImage image, String format) {
+        var output = new ByteArrayOutputStream(image.getWidth() * image.getHeight() / 4);
+        try {
+            if (!ImageIO.write(image, format, output)) {
+                throw new IllegalStateException("不支持的图片格式: " + format);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static void renderElement(Graphics2D g, Element element, ExcalidrawScene scene) {
+        switch (element.type()) {
+            case "rectangle", "frame", "magicframe", "embeddable", "iframe" -> {
+                double radius = element.cornerRadius();
+                var shape = radius > 0
+                    ? new RoundRectangle2D.Double(element.x(), element.y(), element.width(),
+                        element.height(), radius * 2, radius * 2)
+                    : new Rectangle2D.Double(element.x(), element.y(), element.width(), element.height());
+                fillAndStroke(g, element, shape);
+            }
+            case "ellipse" -> fillAndStroke(g, element,
+                new Ellipse2D.Double(element.x(), element.y(), element.width(), element.height()));
+            case "diamond" -> {
+                var path = new Path2D.Double();
+                path.moveTo(element.centerX(), element.y());
+                path.lineTo(element.x() + element.width(), element.centerY());
+                path.lineTo(element.centerX(), element.y() + element.height());
+                path.lineTo(element.x(), element.centerY());
+                path.closePath();
+                fillAndStroke(g, element, path);
+            }
+            case "line", "arrow", "freedraw" -> renderLinear(g, element);
+            case "text" -> renderText(g, element);
+            case "image" -> renderImage(g, element, scene);
+            default -> {
+                // 未知类型不渲染
+            }
+        }
+    }
+
+    private static void renderLinear(Graphics2D g, Element element) {
+        List<double[]> points = element.points();
+        if (points.isEmpty()) {
+            return;
+        }
+        var path = new Path2D.Double();
+        for (int i = 0; i < points.size(); i++) {
+            double[] point = points.get(i);
+            if (i == 0) {
+                path.moveTo(element.x() + point[0], element.y() + point[1]);
+            } else {
+                path.lineTo(element.x() + point[0], element.y() + point[1]);
+            }
+        }
+        boolean closed = !"freedraw".equals(element.type()) && points.size() > 2
+            && points.get(0)[0] == points.get(points.size() - 1)[0]
+            && points.get(0)[1] == points.get(points.size() - 1)[1];
+        if (closed) {
+            path.closePath();
+            fillAndStroke(g, element, path);
+        } else {
+            g.setColor(color(element.strokeColor(), element.opacity()));
+            g.setStroke(stroke(element));
+            g.draw(path);
+        }
+        for (boolean end : new boolean[] {false, true}) {
+            double[][] head = element.arrowhead(end);
+            if (head != null) {
+                var arrow = new Path2D.Double();
+                arrow.moveTo(head[0][0], head[0][1]);
+                arrow.lineTo(head[1][0], head[1][1]);
+                arrow.lineTo(head[2][0], head[2][1]);
+                g.setColor(color(element.strokeColor(), element.opacity()));
+                g.setStroke(new BasicStroke((float) element.strokeWidth(),
+                    BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                g.draw(arrow);
+            }
+        }
+    }
+
+    private static void renderText(Graphics2D g, Element element) {
+        if (!TEXT_SUPPORTED) {
+            return;
+        }
+        var font = new Font(element.isMonospace() ? Font.MONOSPACED : Font.SANS_SERIF, Font.PLAIN, 1)
+            .deriveFont((float) element.fontSize());
+        g.setFont(font);
+        g.setColor(color(element.strokeColor(), element.opacity()));
+        FontMetrics metrics = g.getFontMetrics();
+        String[] lines = element.lines();
+        for (int i = 0; i < lines.length; i++) {
+            double lineWidth = metrics.getStringBounds(lines[i], g).getWidth();
+            double x = switch (element.textAlign()) {
+                case "center" -> element.centerX() - lineWidth / 2;
+                case "right" -> element.x() + element.width() - lineWidth;
+                default -> element.x();
+            };
+            g.drawString(lines[i], (float) x, (float) (element.y() + element.baselineOffset(i)));
+        }
+    }
+
+    private static void renderImage(Graphics2D g, Element element, ExcalidrawScene scene) {
+        String dataUrl = element.fileId() != null ? scene.files().get(element.fileId()) : null;
+        if (dataUrl == null || !dataUrl.contains(",")) {
+            return;
+        }
+        try {
+            byte[] bytes = Base64.getDecoder().decode(dataUrl.substring(dataUrl.indexOf(',') + 1));
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+            if (image == null) {
+                // SVG 等 ImageIO 不支持的格式跳过
+                return;
+            }
+            var transform = new AffineTransform();
+            transform.translate(element.x(), element.y());
+            transform.scale(element.width() / image.getWidth(), element.height() / image.getHeight());
+            g.drawImage(image, transform, null);
+        } catch (IOException | IllegalArgumentException e) {
+            // 图片损坏时忽略该元素
+        }
+    }
+
+    private static void fillAndStroke(Graphics2D g, Element element, Shape shape) {
+        if (element.hasFill()) {
+            g.setColor(color(element.backgroundColor(), element.opacity() * element.fillOpacity()));
+            g.fill(shape);
+        }
+        g.setColor(color(element.strokeColor(), element.opacity()));
+        g.setStroke(stroke(element));
+        g.draw(shape);
+    }
+
+    private static Stroke stroke(Element element) {
+        double[] dash = element.dashArray();
+        float width = (float) element.strokeWidth();
+        if (dash == null) {
+            return new BasicStroke(width, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+        }
+        return new BasicStroke(width, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND, 10f,
+            new float[] {(float) dash[0], (float) dash[1]}, 0f);
+    }
+
+    private static Color color(String value, double opacity) {
+        Color color = parseColor(value, Color.BLACK);
+        int alpha = (int) Math.round(color.getAlpha() * Math.max(0, Math.min(1, opacity)));
+        return new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
+    }
+
+    /**
+     * 解析 #rgb、#rrggbb、#rrggbbaa 格式的颜色，其他格式返回默认值
+     */
+    static Color parseColor(String value, Color fallback) {
+        if (value == null || !value.startsWith("#")) {
+            return "transparent".equals(value) ? new Color(0, 0, 0, 0) : fallback;
+        }
+        String hex = value.substring(1);
+        try {
+            return switch (hex.length()) {
+                case 3 -> new Color(
+                    Integer.parseInt(hex.substring(0, 1).repeat(2), 16),
+                    Integer.parseInt(hex.substring(1, 2).repeat(2), 16),
+                    Integer.parseInt(hex.substring(2, 3).repeat(2), 16));
+                case 6 -> new Color(Integer.parseInt(hex, 16));
+                case 8 -> new Color(
+                    Integer.parseInt(hex.substring(0, 2), 16),
+                    Integer.parseInt(hex.substring(2, 4), 16),
+                    Integer.parseInt(hex.substring(4, 6), 16),
+                    Integer.parseInt(hex.substring(6, 8), 16));
+                default -> fallback;
+            };
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
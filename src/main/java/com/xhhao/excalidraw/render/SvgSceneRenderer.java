@@ -0,0 +1,220 @@
+package com.xhhao.excalidraw.render;
+
+import com.xhhao.excalidraw.render.ExcalidrawScene.Element;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 将场景渲染为 SVG 文本
+ *
+ * <p>不嵌入字体和场景数据，输出只包含绘制所需的图形元素，体积远小于浏览器导出的 SVG。
+ *
+ * @author Handsome
+ */
+public final class SvgSceneRenderer {
+
+    private SvgSceneRenderer() {
+    }
+
+    public static String render(ExcalidrawScene scene) {
+        double[] bounds = scene.bounds();
+        double offsetX = -bounds[0];
+        double offsetY = -bounds[1];
+        StringBuilder svg = new StringBuilder(256 + scene.elements().size() * 192);
+        svg.append("<svg version=\"1.1\" xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ")
+            .append(num(bounds[2])).append(' ').append(num(bounds[3]))
+            .append("\" width=\"").append(num(bounds[2]))
+            .append("\" height=\"").append(num(bounds[3])).append("\">");
+        if (scene.exportBackground()) {
+            svg.append("<rect x=\"0\" y=\"0\" width=\"").append(num(bounds[2]))
+                .append("\" height=\"").append(num(bounds[3]))
+                .append("\" fill=\"").append(escape(scene.background())).append("\"/>");
+        }
+        svg.append("<g transform=\"translate(").append(num(offsetX)).append(' ')
+            .append(num(offsetY)).append(")\">");
+        for (Element element : scene.elements()) {
+            renderElement(svg, element, scene);
+        }
+        return svg.append("</g></svg>").toString();
+    }
+
+    private static void renderElement(StringBuilder svg, Element element, ExcalidrawScene scene) {
+        svg.append("<g");
+        if (element.angle() != 0) {
+            svg.append(" transform=\"rotate(").append(num(Math.toDegrees(element.angle())))
+                .append(' ').append(num(element.centerX()))
+                .append(' ').append(num(element.centerY())).append(")\"");
+        }
+        if (element.opacity() < 1) {
+            svg.append(" opacity=\"").append(num(element.opacity())).append('"');
+        }
+        svg.append('>');
+        switch (element.type()) {
+            case "rectangle", "frame", "magicframe", "embeddable", "iframe" -> {
+                svg.append("<rect x=\"").append(num(element.x()))
+                    .append("\" y=\"").append(num(element.y()))
+                    .append("\" width=\"").append(num(element.width()))
+                    .append("\" height=\"").append(num(element.height())).append('"');
+                double radius = element.cornerRadius();
+                if (radius > 0) {
+                    svg.append(" rx=\"").append(num(radius)).append('"');
+                }
+                shapeStyle(svg, element);
+                svg.append("/>");
+            }
+            case "ellipse" -> {
+                svg.append("<ellipse cx=\"").append(num(element.centerX()))
+                    .append("\" cy=\"").append(num(element.centerY()))
+                    .append("\" rx=\"").append(num(element.width() / 2))
+                    .append("\" ry=\"").append(num(element.height() / 2)).append('"');
+                shapeStyle(svg, element);
+                svg.append("/>");
+            }
+            case "diamond" -> {
+                svg.append("<polygon points=\"")
+                    .append(num(element.centerX())).append(',').append(num(element.y())).append(' ')
+                    .append(num(element.x() + element.width())).append(',').append(num(element.centerY())).append(' ')
+                    .append(num(element.centerX())).append(',').append(num(element.y() + element.height())).append(' ')
+                    .append(num(element.x())).append(',').append(num(element.centerY()))
+                    .append('"');
+                shapeStyle(svg, element);
+                svg.append("/>");
+            }
+            case "line", "arrow", "freedraw" -> renderLinear(svg, element);
+            case "text" -> renderText(svg, element);
+            case "image" -> {
+                String dataUrl = element.fileId() != null ? scene.files().get(element.fileId()) : null;
+                if (dataUrl != null) {
+                    svg.append("<image x=\"").append(num(element.x()))
+                        .append("\" y=\"").append(num(element.y()))
+                        .append("\" width=\"").append(num(element.width()))
+                        .append("\" height=\"").append(num(element.height()))
+                        .append("\" preserveAspectRatio=\"none\" href=\"").append(escape(dataUrl))
+                        .append("\"/>");
+                }
+            }
+            default -> {
+                // 未知类型不渲染
+            }
+        }
+        svg.append("</g>");
+    }
+
+    private static void renderLinear(StringBuilder svg, Element element) {
+        List<double[]> points = element.points();
+        if (points.isEmpty()) {
+            return;
+        }
+        boolean closed = !"freedraw".equals(element.type()) && points.size() > 2
+            && points.get(0)[0] == points.get(points.size() - 1)[0]
+            && points.get(0)[1] == points.get(points.size() - 1)[1];
+        svg.append("<path d=\"");
+        for (int i = 0; i < points.size(); i++) {
+            double[] point = points.get(i);
+            svg.append(i == 0 ? 'M' : 'L').append(num(element.x() + point[0]))
+                .append(' ').append(num(element.y() + point[1]));
+        }
+        if (closed) {
+            svg.append('Z');
+        }
+        svg.append('"');
+        if (closed && element.hasFill()) {
+            fill(svg, element);
+        } else {
+            svg.append(" fill=\"none\"");
+        }
+        stroke(svg, element);
+        svg.append(" stroke-linecap=\"round\" stroke-linejoin=\"round\"/>");
+        for (boolean end : new boolean[] {false, true}) {
+            double[][] head = element.arrowhead(end);
+            if (head != null) {
+                svg.append("<path d=\"M").append(num(head[0][0])).append(' ').append(num(head[0][1]))
+                    .append('L').append(num(head[1][0])).append(' ').append(num(head[1][1]))
+                    .append('L').append(num(head[2][0])).append(' ').append(num(head[2][1]))
+                    .append("\" fill=\"none\"");
+                svg.append(" stroke=\"").append(escape(element.strokeColor()))
+                    .append("\" stroke-width=\"").append(num(element.strokeWidth()))
+                    .append("\" stroke-linecap=\"round\" stroke-linejoin=\"round\"/>");
+            }
+        }
+    }
+
+    private static void renderText(StringBuilder svg, Element element) {
+        String anchor = switch (element.textAlign()) {
+            case "center" -> "middle";
+            case "right" -> "end";
+            default -> "start";
+        };
+        double x = switch (element.textAlign()) {
+            case "center" -> element.centerX();
+            case "right" -> element.x() + element.width();
+            default -> element.x();
+        };
+        String[] lines = element.lines();
+        for (int i = 0; i < lines.length; i++) {
+            svg.append("<text x=\"").append(num(x))
+                .append("\" y=\"").append(num(element.y() + element.baselineOffset(i)))
+                .append("\" font-family=\"").append(escape(element.fontFamilyCss()))
+                .append("\" font-size=\"").append(num(element.fontSize()))
+                .append("px\" fill=\"").append(escape(element.strokeColor()))
+                .append("\" text-anchor=\"").append(anchor)
+                .append("\" style=\"white-space: pre;\">")
+                .append(escape(lines[i]))
+                .append("</text>");
+        }
+    }
+
+    private static void shapeStyle(StringBuilder svg, Element element) {
+        if (element.hasFill()) {
+            fill(svg, element);
+        } else {
+            svg.append(" fill=\"none\"");
+        }
+        stroke(svg, element);
+    }
+
+    private static void fill(StringBuilder svg, Element element) {
+        svg.append(" fill=\"").append(escape(element.backgroundColor())).append('"');
+        if (element.fillOpacity() < 1) {
+            svg.append(" fill-opacity=\"").append(num(element.fillOpacity())).append('"');
+        }
+    }
+
+    private static void stroke(StringBuilder svg, Element element) {
+        svg.append(" stroke=\"").append(escape(element.strokeColor()))
+            .append("\" stroke-width=\"").append(num(element.strokeWidth())).append('"');
+        double[] dash = element.dashArray();
+        if (dash != null) {
+            svg.append(" stroke-dasharray=\"").append(num(dash[0])).append(' ')
+                .append(num(dash[1])).append('"');
+        }
+    }
+
+    /**
+     * 数值最多保留两位小数，去掉多余的 0
+     */
+    static String num(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        String formatted = String.format(Locale.ROOT, "%.2f", value);
+        int end = formatted.length();
+        while (formatted.charAt(end - 1) == '0') {
+            end--;
+        }
+        if (formatted.charAt(end - 1) == '.') {
+            end--;
+        }
+        return formatted.substring(0, end);
+    }
+
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("&", "&amp;")
+            .replace("<", "&lt;")
+            .replace(">", "&gt;")
+            .replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,155 @@
+package com.xhhao.excalidraw.scene;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.lang.Nullable;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 从场景 JSON 中提取可检索的文本词条
+ *
+ * <p>索引与查询使用同一套分词规则：
+ * <ul>
+ *     <li>字母和数字组成的连续片段转为小写后作为一个词条；</li>
+ *     <li>中日韩文字按单字和相邻两字各生成词条，查询时两字以上只使用相邻两字。</li>
+ * </ul>
+ * 词条保存在 Drawing 的 status 中，由多值索引支持按词条精确查找。
+ *
+ * @author Handsome
+ */
+public final class SceneAnalyzer {
+
+    /**
+     * 单个绘图最多保留的词条数量，超出部分不参与检索
+     */
+    public static final int MAX_TERMS = 512;
+
+    static final int MAX_TERM_LENGTH = 32;
+
+    private SceneAnalyzer() {
+    }
+
+    /**
+     * 提取场景中未删除的文本元素和 frame 名称的词条
+     *
+     * @throws IllegalArgumentException 场景 JSON 无法解析时
+     */
+    public static List<String> textTerms(String sceneJson) {
+        return textTerms(readScene(sceneJson));
+    }
+
+    /**
+     * 从已解析的场景中提取词条，与统计信息共用一次解析
+     */
+    public static List<String> textTerms(@Nullable JsonNode root) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (root == null) {
+            return List.of();
+        }
+        for (JsonNode element : root.path("elements")) {
+            if (terms.size() >= MAX_TERMS) {
+                break;
+            }
+            if (element.path("isDeleted").asBoolean(false)) {
+                continue;
+            }
+            var type = element.path("type").asText();
+            if ("text".equals(type)) {
+                tokenize(element.path("originalText").asText(element.path("text").asText("")), true, terms);
+            } else if (type.endsWith("frame")) {
+                tokenize(element.path("name").asText(""), true, terms);
+            }
+        }
+        var result = new ArrayList<>(terms);
+        if (result.size() > MAX_TERMS) {
+            result.subList(MAX_TERMS, result.size()).clear();
+        }
+        result.sort(null);
+        return result;
+    }
+
+    /**
+     * 解析场景 JSON
+     *
+     * @throws IllegalArgumentException 场景 JSON 无法解析时
+     */
+    @Nullable
+    public static JsonNode readScene(String sceneJson) {
+        try {
+            return JsonUtils.DEFAULT_JSON_MAPPER.readTree(sceneJson);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("无法解析场景数据: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * 将查询文本拆分为词条，绘图需要包含全部词条才算匹配
+     */
+    public static List<String> queryTerms(@Nullable String text) {
+        if (text == null) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(text, false, terms);
+        return List.copyOf(terms);
+    }
+
+    private static void tokenize(String text, boolean indexing, Set<String> terms) {
+        var word = new StringBuilder();
+        var cjk = new ArrayList<Integer>();
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                flushWord(word, terms);
+                cjk.add(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushCjk(cjk, indexing, terms);
+                if (word.length() < MAX_TERM_LENGTH) {
+                    word.appendCodePoint(codePoint);
+                }
+            } else {
+                flushWord(word, terms);
+                flushCjk(cjk, indexing, terms);
+            }
+        }
+        flushWord(word, terms);
+        flushCjk(cjk, indexing, terms);
+    }
+
+    private static void flushWord(StringBuilder word, Set<String> terms) {
+        if (!word.isEmpty()) {
+            terms.add(word.toString().toLowerCase(Locale.ROOT));
+            word.setLength(0);
+        }
+    }
+
+    private static void flushCjk(List<Integer> run, boolean indexing, Set<String> terms) {
+        if (run.isEmpty()) {
+            return;
+        }
+        // 索引时保留单字以支持单字查询；查询时两字以上用相邻两字即可，匹配更精确
+        if (indexing || run.size() == 1) {
+            run.forEach(codePoint -> terms.add(Character.toString(codePoint)));
+        }
+        for (int j = 0; j + 1 < run.size(); j++) {
+            terms.add(new StringBuilder().appendCodePoint(run.get(j)).appendCodePoint(run.get(j + 1))
+                .toString());
+        }
+        run.clear();
+    }
+
+    private static boolean isCjk(int codePoint) {
+        var script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA
+            || script == Character.UnicodeScript.HANGUL;
+    }
+}
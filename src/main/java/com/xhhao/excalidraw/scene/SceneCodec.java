@@ -0,0 +1,248 @@
+package com.xhhao.excalidraw.scene;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import org.springframework.lang.Nullable;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 场景数据的存储编码
+ *
+ * <p>场景 JSON 中的元素属性名、seed、versionNonce 等重复内容很多，去掉 {@code files} 后以 deflate 压缩，
+ * 再以 base64 编码并加上 {@value #DEFLATE_PREFIX} 前缀保存。{@code files} 中的内嵌图片单独保存：
+ * 其 dataURL 已是 base64 编码的 PNG/JPEG，压缩几乎没有收益，放在压缩内容之外还可以避免二次 base64 膨胀。
+ * 压缩内容中保留空的 {@code "files":{}} 占位，解码时文件插回原来的位置，字段顺序不变；
+ * {@code files} 对象内部的空白不保留。
+ * 没有前缀的数据是旧版本保存的原始 JSON，解码时原样返回。
+ *
+ * @author Handsome
+ */
+public final class SceneCodec {
+
+    /**
+     * 压缩数据的格式标记
+     */
+    public static final String DEFLATE_PREFIX = "deflate:";
+
+    private static final JsonFactory FACTORY = JsonUtils.DEFAULT_JSON_MAPPER.getFactory();
+
+    private SceneCodec() {
+    }
+
+    /**
+     * 是否为旧版本保存的未压缩数据
+     */
+    public static boolean isLegacy(@Nullable String data) {
+        return data != null && !data.isEmpty() && !data.startsWith(DEFLATE_PREFIX);
+    }
+
+    /**
+     * 编码场景 JSON；顶层不是对象或无法解析时整体压缩，不拆分文件
+     *
+     * @return 压缩后的数据与拆分出的文件
+     */
+    public static Encoded encode(@Nullable String sceneJson) {
+        if (sceneJson == null || sceneJson.isEmpty()) {
+            return new Encoded(sceneJson, null);
+        }
+        Map<String, String> files = new LinkedHashMap<>();
+        byte[] json;
+        try {
+            json = stripFiles(sceneJson, files);
+        } catch (IOException | IllegalStateException e) {
+            files.clear();
+            json = sceneJson.getBytes(StandardCharsets.UTF_8);
+        }
+        return new Encoded(DEFLATE_PREFIX + Base64.getEncoder().encodeToString(deflate(json)),
+            files.isEmpty() ? null : files);
+    }
+
+    /**
+     * 还原完整的场景 JSON，拆分出的文件放回 {@code files}
+     *
+     * @param files 文件 id -> 文件对象 JSON，为空时不输出 {@code files}
+     * @throws IllegalArgumentException 压缩数据损坏时
+     */
+    @Nullable
+    public static String decode(@Nullable String data, @Nullable Map<String, String> files) {
+        if (data == null || !data.startsWith(DEFLATE_PREFIX)) {
+            return data;
+        }
+        var json = new String(inflate(decodeBase64(data.substring(DEFLATE_PREFIX.length()))),
+            StandardCharsets.UTF_8);
+        if (files == null || files.isEmpty() || !json.startsWith("{")) {
+            return json;
+        }
+        int insertAt = filesPlaceholder(json);
+        boolean append = insertAt < 0;
+        if (append) {
+            // 旧版本编码时连同字段一起去掉了 files，拼接在顶层对象末尾
+            insertAt = json.lastIndexOf('}');
+            if (insertAt < 0) {
+                return json;
+            }
+        }
+        var sb = new StringBuilder(json.length() + estimateSize(files) + 16);
+        sb.append(json, 0, insertAt);
+        if (append) {
+            if (!json.substring(1, insertAt).isBlank()) {
+                sb.append(',');
+            }
+            sb.append("\"files\":{");
+        }
+        boolean first = true;
+        for (var entry : files.entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            sb.append('"');
+            JsonStringEncoder.getInstance().quoteAsString(entry.getKey(), sb);
+            sb.append("\":").append(entry.getValue());
+        }
+        if (append) {
+            sb.append('}');
+        }
+        sb.append(json, insertAt, json.length());
+        return sb.toString();
+    }
+
+    /**
+     * 顶层 {@code "files":{}} 占位中右括号的位置，文件从这里插回；没有占位时返回 -1
+     *
+     * <p>只逐个跳过顶层字段，不构建树，也不解析元素中的数字。
+     */
+    private static int filesPlaceholder(String json) {
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var field = parser.currentName();
+                var value = parser.nextToken();
+                if ("files".equals(field) && value == JsonToken.START_OBJECT) {
+                    return parser.nextToken() == JsonToken.END_OBJECT
+                        ? (int) parser.currentTokenLocation().getCharOffset() : -1;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * 按词法位置从原文中截取 {@code files} 中的各个文件，字段本身以 {@code "files":{}} 留在原位，
+     * 其余内容原样保留，不重新序列化元素中的数字
+     */
+    private static byte[] stripFiles(String sceneJson, Map<String, String> files) throws IOException {
+        int filesStart = -1;
+        int filesEnd = -1;
+        try (JsonParser parser = FACTORY.createParser(sceneJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("场景数据不是 JSON 对象");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var field = parser.currentName();
+                var value = parser.nextToken();
+                if (filesStart < 0 && "files".equals(field) && value == JsonToken.START_OBJECT) {
+                    int valueStart = (int) parser.currentTokenLocation().getCharOffset();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        var fileId = parser.currentName();
+                        parser.nextToken();
+                        int fileStart = (int) parser.currentTokenLocation().getCharOffset();
+                        parser.skipChildren();
+                        files.put(fileId, sceneJson.substring(fileStart,
+                            (int) parser.currentLocation().getCharOffset()));
+                    }
+                    // 没有文件时保留原样，解码结果与原文一致
+                    if (!files.isEmpty()) {
+                        filesStart = valueStart;
+                        filesEnd = (int) parser.currentLocation().getCharOffset();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                throw new IllegalStateException("场景数据不是单个 JSON 对象");
+            }
+        }
+        if (filesStart < 0) {
+            return sceneJson.getBytes(StandardCharsets.UTF_8);
+        }
+        return (sceneJson.substring(0, filesStart) + "{}" + sceneJson.substring(filesEnd))
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] content) {
+        var deflater = new Deflater(Deflater.BEST_SPEED, true);
+        var out = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (var stream = new DeflaterOutputStream(out, deflater, 8192)) {
+            stream.write(content);
+        } catch (IOException e) {
+            // ByteArrayOutputStream 不会抛出 IOException
+            throw new IllegalStateException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] content) {
+        var inflater = new Inflater(true);
+        try {
+            inflater.setInput(content);
+            var out = new ByteArrayOutputStream(content.length * 6);
+            var buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("场景数据不完整");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("场景数据已损坏: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] decodeBase64(String content) {
+        try {
+            return Base64.getDecoder().decode(content);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("场景数据已损坏: " + e.getMessage(), e);
+        }
+    }
+
+    private static int estimateSize(Map<String, String> files) {
+        int size = 0;
+        for (var entry : files.entrySet()) {
+            size += entry.getKey().length() + entry.getValue().length() + 4;
+        }
+        return size;
+    }
+
+    /**
+     * 编码结果
+     *
+     * @param data 带格式标记的压缩数据
+     * @param files 拆分出的文件，文件 id -> 文件对象 JSON；没有文件时为 null
+     */
+    public record Encoded(@Nullable String data, @Nullable Map<String, String> files) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.xhhao.excalidraw.scene;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 增量修改与服务端当前场景冲突，整批修改均未应用
+ *
+ * @author Handsome
+ */
+@Getter
+public class SceneConflictException extends ResponseStatusException {
+
+    /**
+     * 发生冲突的元素 id
+     */
+    private final List<String> elementIds;
+
+    public SceneConflictException(List<String> elementIds) {
+        super(HttpStatus.CONFLICT, "场景已被修改，冲突的元素: " + String.join(", ", elementIds));
+        this.elementIds = List.copyOf(elementIds);
+    }
+}
@@ -0,0 +1,183 @@
+package com.xhhao.excalidraw.scene;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.lang.Nullable;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 将元素级增量修改合并到已保存的场景 JSON
+ *
+ * <p>合并规则：
+ * <ul>
+ *     <li>每个修改携带客户端修改前的 {@code baseVersion}，服务端元素的 version 必须与之相同，
+ *     新增元素要求服务端不存在该 id；</li>
+ *     <li>服务端元素已经与提交的元素 version 和 versionNonce 相同时视为重复提交，直接跳过；</li>
+ *     <li>删除的元素从场景中移除，不保留墓碑；</li>
+ *     <li>任一元素冲突时整批修改都不应用，抛出 {@link SceneConflictException}；</li>
+ *     <li>提交了 order 时按其重排元素，order 中没有的元素（如其他会话新增的）保持相对顺序排在最后；
+ *     未提交时保持原有顺序，新增元素追加到末尾；</li>
+ *     <li>文件先删除 removedFiles，再按 id 合并 files。</li>
+ * </ul>
+ * 重复提交同一批修改得到相同的场景。
+ *
+ * @author Handsome
+ */
+public final class SceneMerger {
+
+    private static final ObjectMapper MAPPER = JsonUtils.DEFAULT_JSON_MAPPER;
+
+    private SceneMerger() {
+    }
+
+    /**
+     * 合并增量修改
+     *
+     * @param sceneJson 已保存的场景 JSON，为空时从空场景开始
+     * @throws SceneConflictException 存在冲突时
+     * @throws IllegalArgumentException 场景或修改内容不合法时
+     */
+    public static Result merge(@Nullable String sceneJson, ScenePatch patch) {
+        ObjectNode scene = parseScene(sceneJson);
+        ArrayNode storedElements = scene.withArray("/elements");
+
+        // id -> 元素，保持原有顺序
+        Map<String, JsonNode> elements = new LinkedHashMap<>();
+        for (JsonNode element : storedElements) {
+            String id = element.path("id").asText(null);
+            if (id != null) {
+                elements.put(id, element);
+            }
+        }
+
+        List<String> conflicts = new ArrayList<>();
+        int added = 0;
+        int updated = 0;
+        int deleted = 0;
+        int unchanged = 0;
+        for (ScenePatch.ElementChange change : patch.getChanges()) {
+            String id = change.getId();
+            if (id == null || id.isBlank()) {
+                throw new IllegalArgumentException("元素 id 不能为空");
+            }
+            JsonNode stored = elements.get(id);
+            JsonNode incoming = change.getElement() == null ? null : MAPPER.valueToTree(change.getElement());
+            if (!change.isDeleted() && incoming == null) {
+                throw new IllegalArgumentException("元素 " + id + " 缺少内容");
+            }
+            if (incoming != null && !id.equals(incoming.path("id").asText(null))) {
+                throw new IllegalArgumentException("元素 " + id + " 的内容 id 不一致");
+            }
+
+            if (!change.isDeleted() && isSameRevision(stored, incoming)) {
+                unchanged++;
+                continue;
+            }
+            if (change.isDeleted()) {
+                if (stored == null) {
+                    unchanged++;
+                } else if (Objects.equals(change.getBaseVersion(), version(stored))) {
+                    elements.remove(id);
+                    deleted++;
+                } else {
+                    conflicts.add(id);
+                }
+                continue;
+            }
+            if (stored == null) {
+                if (change.getBaseVersion() != null) {
+                    // 客户端修改的元素已被其他会话删除
+                    conflicts.add(id);
+                    continue;
+                }
+                elements.put(id, incoming);
+                added++;
+            } else if (Objects.equals(change.getBaseVersion(), version(stored))) {
+                elements.put(id, incoming);
+                updated++;
+            } else {
+                conflicts.add(id);
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new SceneConflictException(conflicts);
+        }
+
+        storedElements.removeAll();
+        if (patch.getOrder() != null) {
+            for (String id : patch.getOrder()) {
+                JsonNode element = elements.remove(id);
+                if (element != null) {
+                    storedElements.add(element);
+                }
+            }
+        }
+        elements.values().forEach(storedElements::add);
+        if (patch.getAppState() != null) {
+            scene.set("appState", MAPPER.valueToTree(patch.getAppState()));
+        }
+        if (patch.getRemovedFiles() != null && !patch.getRemovedFiles().isEmpty()
+            && scene.get("files") instanceof ObjectNode files) {
+            files.remove(patch.getRemovedFiles());
+        }
+        if (patch.getFiles() != null && !patch.getFiles().isEmpty()) {
+            ObjectNode files = scene.withObject("/files");
+            patch.getFiles().forEach((fileId, file) -> files.set(fileId, MAPPER.valueToTree(file)));
+        }
+        try {
+            return new Result(MAPPER.writeValueAsString(scene), added, updated, deleted, unchanged);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("无法序列化场景数据", e);
+        }
+    }
+
+    private static ObjectNode parseScene(@Nullable String sceneJson) {
+        if (sceneJson == null || sceneJson.isBlank()) {
+            ObjectNode scene = MAPPER.createObjectNode();
+            scene.put("type", "excalidraw");
+            scene.put("version", 2);
+            scene.put("source", "halo-plugin-excalidraw");
+            scene.putArray("elements");
+            scene.putObject("appState");
+            scene.putObject("files");
+            return scene;
+        }
+        try {
+            JsonNode node = MAPPER.readTree(sceneJson);
+            if (node instanceof ObjectNode scene) {
+                return scene;
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("已保存的场景数据无法解析: " + e.getOriginalMessage(), e);
+        }
+        throw new IllegalArgumentException("已保存的场景数据不是 JSON 对象");
+    }
+
+    private static boolean isSameRevision(@Nullable JsonNode stored, JsonNode incoming) {
+        return stored != null
+            && Objects.equals(version(stored), version(incoming))
+            && stored.path("versionNonce").asLong() == incoming.path("versionNonce").asLong();
+    }
+
+    @Nullable
+    private static Long version(JsonNode element) {
+        JsonNode version = element.path("version");
+        return version.isIntegralNumber() ? version.asLong() : null;
+    }
+
+    /**
+     * 合并结果
+     *
+     * @param data 合并后的场景 JSON
+     */
+    public record Result(String data, int added, int updated, int deleted, int unchanged) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.xhhao.excalidraw.scene;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+
+/**
+ * 场景的增量修改，按元素 id 提交自上次保存以来变化的元素
+ *
+ * @author Handsome
+ */
+@Data
+public class ScenePatch {
+
+    /**
+     * 元素级修改，按顺序应用
+     */
+    @Schema(requiredMode = REQUIRED)
+    private List<ElementChange> changes = new ArrayList<>();
+
+    /**
+     * 新的 appState，为空时保留原值
+     */
+    private Map<String, Object> appState;
+
+    /**
+     * 新增或替换的文件（按文件 id 合并），为空时保留原值
+     */
+    private Map<String, Object> files;
+
+    /**
+     * 删除的文件 id，先于 files 应用
+     */
+    private List<String> removedFiles;
+
+    /**
+     * 修改后全部元素的 id 顺序，元素顺序变化时提交；为空时保持原有顺序，新增元素追加到末尾
+     */
+    private List<String> order;
+
+    @Data
+    public static class ElementChange {
+        /**
+         * 元素 id
+         */
+        @Schema(requiredMode = REQUIRED)
+        private String id;
+
+        /**
+         * 客户端修改前该元素的 version，新增元素为空；与服务端当前版本不一致时视为冲突
+         */
+        private Long baseVersion;
+
+        /**
+         * 修改后的完整元素，删除时可为空
+         */
+        private Map<String, Object> element;
+
+        /**
+         * 是否删除该元素
+         */
+        private boolean deleted;
+    }
+}
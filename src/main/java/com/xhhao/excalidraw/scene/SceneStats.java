@@ -0,0 +1,107 @@
+package com.xhhao.excalidraw.scene;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.xhhao.excalidraw.render.ExcalidrawScene;
+import java.io.IOException;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 场景的尺寸与复杂度，保存后计算一次写入 Drawing.status，渲染文章和列表查询时不再解析场景
+ *
+ * @param width 含导出边距的外接矩形宽度（CSS 像素），与服务端渲染的预览图一致
+ * @param height 含导出边距的外接矩形高度
+ * @param elementCount 未删除的元素数量
+ * @param imageBytes 内嵌图片解码后的总字节数
+ * @param textLength 文本元素的字符数
+ * @author Handsome
+ */
+public record SceneStats(int width, int height, int elementCount, long imageBytes, int textLength) {
+
+    /**
+     * @param root 已解析的场景
+     * @param files 单独保存的文件（文件 id -> 文件对象 JSON），为空时统计场景自带的 {@code files}
+     * @throws IllegalArgumentException 场景不是 JSON 对象时
+     */
+    public static SceneStats of(JsonNode root, @Nullable Map<String, String> files) {
+        var scene = ExcalidrawScene.parse(root);
+        double[] bounds = scene.bounds();
+        int textLength = 0;
+        for (var element : scene.elements()) {
+            if ("text".equals(element.type())) {
+                textLength += element.text().codePointCount(0, element.text().length());
+            }
+        }
+        long imageBytes = 0;
+        if (files != null && !files.isEmpty()) {
+            for (var file : files.values()) {
+                imageBytes += fileSize(file);
+            }
+        } else {
+            for (var dataUrl : scene.files().values()) {
+                imageBytes += decodedSize(dataUrl);
+            }
+        }
+        return new SceneStats((int) Math.round(bounds[2]), (int) Math.round(bounds[3]),
+            scene.elements().size(), imageBytes, textLength);
+    }
+
+    /**
+     * 文件对象中 dataURL 的内容字节数
+     *
+     * <p>dataURL 占文件对象的绝大部分，只定位到它在原文中的位置按长度换算，不构建字符串；
+     * 含转义字符时才读取字符串内容。
+     */
+    static long fileSize(String fileJson) {
+        try (JsonParser parser = JsonUtils.DEFAULT_JSON_MAPPER.getFactory().createParser(fileJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return 0;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var field = parser.currentName();
+                var value = parser.nextToken();
+                if ("dataURL".equals(field) && value == JsonToken.VALUE_STRING) {
+                    int start = (int) parser.currentTokenLocation().getCharOffset() + 1;
+                    int end = start;
+                    while (end < fileJson.length() && fileJson.charAt(end) != '"') {
+                        if (fileJson.charAt(end) == '\\') {
+                            return decodedSize(parser.getText());
+                        }
+                        end++;
+                    }
+                    return decodedSize(fileJson, start, end);
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            return 0;
+        }
+        return 0;
+    }
+
+    /**
+     * data URL 的内容字节数，base64 内容按编码长度换算，不实际解码
+     */
+    static long decodedSize(String dataUrl) {
+        return decodedSize(dataUrl, 0, dataUrl.length());
+    }
+
+    private static long decodedSize(String text, int start, int end) {
+        int comma = text.indexOf(',', start);
+        if (comma < 0 || comma >= end) {
+            return 0;
+        }
+        long length = end - comma - 1;
+        if (comma - start < ";base64".length() || !text.startsWith(";base64", comma - ";base64".length())) {
+            return length;
+        }
+        int padding = 0;
+        for (int i = end - 1; i > comma && text.charAt(i) == '=' && padding < 2; i--) {
+            padding++;
+        }
+        return length / 4 * 3 - padding;
+    }
+}
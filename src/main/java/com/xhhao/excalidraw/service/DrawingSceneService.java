@@ -0,0 +1,44 @@
+package com.xhhao.excalidraw.service;
+
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.scene.SceneMerger;
+import com.xhhao.excalidraw.scene.ScenePatch;
+import reactor.core.publisher.Mono;
+
+/**
+ * 绘图场景数据读写
+ *
+ * <p>场景以 {@link com.xhhao.excalidraw.scene.SceneCodec} 压缩编码保存，读写接口始终使用完整的场景 JSON。
+ */
+public interface DrawingSceneService {
+
+    /**
+     * 获取绘图的场景 JSON，尚未迁移的旧绘图回退读取 Drawing.spec.data
+     * @param drawingName 绘图名称
+     * @return 场景 JSON，不存在时为空
+     */
+    Mono<String> getSceneData(String drawingName);
+
+    /**
+     * 保存绘图的场景 JSON，不存在时创建
+     * @param drawingName 绘图名称
+     * @param data 场景 JSON
+     * @return 保存后的场景
+     */
+    Mono<DrawingScene> saveSceneData(String drawingName, String data);
+
+    /**
+     * 将元素级增量修改合并到已保存的场景，读取、合并、写入作为一次操作，并发写入时自动重试
+     * @param drawingName 绘图名称
+     * @param patch 增量修改
+     * @return 合并结果；元素冲突时抛出 {@link com.xhhao.excalidraw.scene.SceneConflictException}
+     */
+    Mono<SceneMerger.Result> patchSceneData(String drawingName, ScenePatch patch);
+
+    /**
+     * 将旧绘图 Drawing.spec.data 中的场景写入 DrawingScene，已有场景时不做任何修改
+     * @param drawingName 绘图名称
+     * @param data 旧字段中的场景 JSON
+     */
+    Mono<Void> migrateLegacySceneData(String drawingName, String data);
+}
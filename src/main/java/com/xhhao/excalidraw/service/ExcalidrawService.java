@@ -1,7 +1,17 @@
 package com.xhhao.excalidraw.service;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.xhhao.excalidraw.DrawingSummaryQuery;
 import com.xhhao.excalidraw.ExcalidrawQuery;
 import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.scene.SceneMerger;
+import com.xhhao.excalidraw.scene.ScenePatch;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import run.halo.app.extension.ListResult;
 
@@ -12,7 +22,19 @@ public interface ExcalidrawService {
      * 分页查询绘图列表
      */
     Mono<ListResult<Drawing>> listDrawings(ExcalidrawQuery query);
+
+    /**
+     * 按游标分页查询绘图摘要，只返回请求的字段
+     * @param query 查询参数，游标为空时从第一页开始
+     * @return 当前页摘要与下一页游标
+     */
+    Mono<DrawingSummaryPage> listDrawingSummaries(DrawingSummaryQuery query);
     
+    /**
+     * 上传结果：内容与绘图最新的备份相同，未重复上传
+     */
+    String BACKUP_UNCHANGED = "unchanged";
+
     /**
      * 上传 .excalidraw 文件到附件库
      * @param fileName 文件名（不含扩展名）
@@ -22,6 +44,19 @@ public interface ExcalidrawService {
      */
     Mono<String> uploadExcalidrawFile(String fileName, String jsonContent, String userName);
 
+    /**
+     * 以数据流方式上传 .excalidraw 文件到附件库，不在内存中缓冲完整内容
+     *
+     * <p>文件名为已有绘图的名称时作为该绘图的备份：内容与最新备份相同则不上传，
+     * 否则上传后替换最新备份，旧备份按设置保留为历史版本，超出的删除。
+     * @param fileName 文件名（不含扩展名）
+     * @param content 文件内容数据流
+     * @param contentHash 内容的 SHA-256（base64url，无填充），与最新备份相同时跳过上传，可为空
+     * @return 上传结果，与 {@link #uploadExcalidrawFile(String, String, String)} 相同，
+     * 内容未变化时为 {@link #BACKUP_UNCHANGED}
+     */
+    Mono<String> uploadExcalidrawFile(String fileName, Flux<DataBuffer> content, String contentHash);
+
     /**
      * 上传预览图到附件库（支持 SVG 和 PNG）
      * @param fileName 文件名（不含扩展名）
@@ -33,12 +68,170 @@ public interface ExcalidrawService {
      */
     Mono<UploadResult> uploadPreviewImage(String fileName, String content, String format, String userName, String oldAttachmentName);
 
+    /**
+     * 以数据流方式上传预览图到附件库（支持 SVG 和 PNG）
+     * @param fileName 文件名（不含扩展名），同时作为绘图名称用于旧附件的引用检查
+     * @param content 图片内容数据流
+     * @param format 格式：svg 或 png
+     * @param base64 PNG 内容是否为 base64 文本（可带 data URL 前缀），是则边接收边解码
+     * @param oldAttachmentName 旧附件名称，没有其他绘图引用时删除
+     * @param contentHash 解码后内容的 SHA-256（base64url），已有相同内容的附件时直接复用，可为空
+     * @return 上传结果（包含 URL 和附件名称）
+     */
+    Mono<UploadResult> uploadPreviewImage(String fileName, Flux<DataBuffer> content, String format,
+        boolean base64, String oldAttachmentName, String contentHash);
+
+    /**
+     * 一次完成绘图的保存：上传预览图、保存场景、创建或更新绘图
+     *
+     * <p>{@link SaveDrawingRequest#getRevision()} 与绘图当前的保存次数不一致时返回 409 且不修改绘图，
+     * 写入本身以 metadata.version 作乐观锁，与协调器的后台更新冲突时重新读取后重试。
+     * 旧预览附件在绘图更新提交后才删除，绘图写入失败时删除本次新上传的附件。
+     * @param name 绘图名称
+     * @return 保存后的绘图，不含场景数据
+     */
+    Mono<Drawing> saveDrawing(String name, SaveDrawingRequest request);
+
+    /**
+     * 只保存已有绘图的场景，与 {@link #saveDrawing} 一样校验并递增保存次数，预览图和名称不变
+     * @param name 绘图名称，绘图不存在时返回 404
+     * @param request revision 必填，sceneData 与 scenePatch 二选一，其余字段忽略
+     * @return 保存后的绘图与增量修改的合并结果
+     */
+    Mono<SceneSaveResult> saveScene(String name, SaveDrawingRequest request);
+
+    /**
+     * 批量删除绘图，以有限的并发逐个删除，单个失败不影响其他绘图
+     *
+     * <p>场景数据、预览附件和 .excalidraw 文件由绘图协调器在 finalizer 移除前清理。
+     * @return 每个绘图的处理结果，顺序与请求一致
+     * @throws IllegalArgumentException 未指定任何绘图或数量超过上限时
+     */
+    Mono<BulkDeleteResult> deleteDrawings(BulkDeleteRequest request);
+
+    /**
+     * 在服务端根据场景数据渲染预览图，上传到附件库并更新绘图的预览信息
+     * @param drawingName 绘图名称
+     * @return 上传结果，绘图或场景数据不存在时为空
+     */
+    Mono<UploadResult> renderPreview(String drawingName);
+
+    /**
+     * 在服务端按指定格式渲染预览图，上传到附件库并更新绘图的预览信息
+     * @param drawingName 绘图名称
+     * @param format svg 或 png
+     * @return 上传结果，绘图或场景数据不存在时为空
+     */
+    Mono<UploadResult> renderPreview(String drawingName, String format);
+
+    /**
+     * 根据场景数据生成多个宽度的位图预览，上传到附件库并记录到绘图，替换掉的旧版本在无其他引用时删除
+     * @param drawingName 绘图名称
+     * @return 更新后的绘图；未配置存储策略、绘图不存在或预览图在生成期间被替换时为空
+     */
+    Mono<Drawing> generatePreviewVariants(String drawingName);
+
     /**
      * 获取预览格式设置
      * @return 预览格式 (svg 或 png)
      */
     Mono<String> getPreviewFormat();
+
+    /**
+     * 获取预览生成方式设置
+     * @return client 或 server
+     */
+    Mono<String> getRenderMode();
     
+    /**
+     * 绘图摘要，未请求的字段为空且不输出
+     */
+    @lombok.Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    class DrawingSummary {
+        private String name;
+        private String displayName;
+        private String previewUrl;
+        private Instant creationTimestamp;
+        private Instant deletionTimestamp;
+        /**
+         * 场景统计信息尚未计算时为空
+         */
+        private Integer elementCount;
+    }
+
+    @lombok.Data
+    @lombok.AllArgsConstructor
+    class DrawingSummaryPage {
+        private List<DrawingSummary> items;
+        /**
+         * 下一页游标，没有更多数据时为空
+         */
+        private String nextCursor;
+    }
+
+    @lombok.Data
+    class SaveDrawingRequest {
+        private String displayName;
+        /**
+         * 客户端读取到的 status.revision（旧绘图没有时为 0），为空表示新建
+         */
+        private Long revision;
+        /**
+         * 完整场景 JSON，与 scenePatch 二选一，都为空时不修改场景
+         */
+        private String sceneData;
+        private ScenePatch scenePatch;
+        /**
+         * 预览图内容（SVG 字符串或 PNG base64），为空时保留现有预览图
+         */
+        private String previewContent;
+        private String previewFormat;
+        /**
+         * 保存后在服务端根据场景渲染预览图，此时忽略 previewContent
+         */
+        private boolean renderOnServer;
+    }
+
+    /**
+     * @param drawing 保存后的绘图，不含场景数据
+     * @param merge 增量修改的合并结果，保存完整场景时为 null
+     */
+    record SceneSaveResult(Drawing drawing, @Nullable SceneMerger.Result merge) {
+    }
+
+    @lombok.Data
+    class BulkDeleteRequest {
+        private List<String> names;
+        /**
+         * 标签选择器，匹配全部标签的绘图与 names 合并后删除
+         */
+        private Map<String, String> labelSelector;
+    }
+
+    @lombok.Data
+    @lombok.AllArgsConstructor
+    class BulkDeleteResult {
+        private List<BulkDeleteItem> items;
+        private int deleted;
+        private int failed;
+    }
+
+    @lombok.Data
+    @lombok.AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    class BulkDeleteItem {
+        private String name;
+        /**
+         * deleted、notFound 或 failed，已在删除中的绘图视为 deleted
+         */
+        private String status;
+        /**
+         * 失败原因
+         */
+        private String message;
+    }
+
     @lombok.Data
     @lombok.AllArgsConstructor
     class UploadResult {
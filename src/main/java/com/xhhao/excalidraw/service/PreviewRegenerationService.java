@@ -0,0 +1,17 @@
+package com.xhhao.excalidraw.service;
+
+import com.xhhao.excalidraw.extension.PreviewRegenerationJob;
+import reactor.core.publisher.Mono;
+
+/**
+ * 预览图批量重新生成
+ */
+public interface PreviewRegenerationService {
+
+    /**
+     * 创建重新生成任务，由协调器在后台分页执行
+     * @param spec 任务参数，为空的字段使用默认值
+     * @return 创建的任务；已有未完成的任务时抛出 409
+     */
+    Mono<PreviewRegenerationJob> start(PreviewRegenerationJob.PreviewRegenerationJobSpec spec);
+}
@@ -4,9 +4,20 @@ import lombok.Data;
 import reactor.core.publisher.Mono;
 
 public interface SettingConfigGetter {
+
+    /**
+     * 插件设置所在的 ConfigMap，与 plugin.yaml 中的 configMapName 一致
+     */
+    String CONFIG_MAP_NAME = "excalidraw-configmap";
     
     Mono<BasicConfig> getBasicConfig();
 
+    /**
+     * 插件设置 ConfigMap 的 metadata.version，设置保存后变化，可作为依赖设置的响应的缓存校验值
+     * @return 版本号，尚未保存过设置时为 0
+     */
+    Mono<Long> getConfigVersion();
+
     @Data
     class BasicConfig {
         public static final String GROUP = "basic";
@@ -18,15 +29,37 @@ public interface SettingConfigGetter {
     @Data
     class PreviewSettings {
         private String previewFormat = "svg";
+        private String renderMode = "client";
+        private boolean responsiveImages = true;
+        /**
+         * 小于此大小（KB）的预览图直接内联到文章中，0 表示不内联
+         */
+        private int inlineMaxSize = 0;
+        /**
+         * 文章中绘图的加载方式：eager 渲染文章时加载，lazy 进入可视区域后由浏览器加载
+         */
+        private String loadMode = "eager";
         
         public boolean isPng() {
             return "png".equalsIgnoreCase(previewFormat);
         }
+
+        public boolean isServerRender() {
+            return "server".equalsIgnoreCase(renderMode);
+        }
+
+        public boolean isLazyLoad() {
+            return "lazy".equalsIgnoreCase(loadMode);
+        }
     }
     
     @Data
     class AttachmentSettings {
         private String filePolicy;
         private String fileGroup;
+        /**
+         * 每个绘图除最新备份外保留的 .excalidraw 历史版本数，0 表示只保留最新备份
+         */
+        private int backupHistoryLimit = 0;
     }
 }
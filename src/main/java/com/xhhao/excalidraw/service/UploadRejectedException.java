@@ -0,0 +1,26 @@
+package com.xhhao.excalidraw.service;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 上传并发已满，请求未执行，客户端可在 Retry-After 秒后重试
+ *
+ * @author Handsome
+ */
+public class UploadRejectedException extends ResponseStatusException {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    public UploadRejectedException(String reason) {
+        super(HttpStatus.TOO_MANY_REQUESTS, reason);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return headers;
+    }
+}
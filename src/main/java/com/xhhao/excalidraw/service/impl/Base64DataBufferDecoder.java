@@ -0,0 +1,107 @@
+package com.xhhao.excalidraw.service.impl;
+
+import java.util.Base64;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 对 base64 文本数据流进行增量解码
+ *
+ * <p>每收到一块数据就解码其中完整的 4 字符分组，不足一组的字符留到下一块，
+ * 因此内存占用只与单块大小有关，与整个文件大小无关。
+ * 支持可选的 data URL 前缀（如 {@code data:image/png;base64,}），忽略空白字符。
+ *
+ * @author Handsome
+ */
+final class Base64DataBufferDecoder {
+
+    // data URL 前缀的最大长度，超过仍未遇到逗号则视为没有前缀
+    private static final int MAX_PREFIX_LENGTH = 256;
+
+    private final DataBufferFactory bufferFactory;
+    private byte[] pending = new byte[0];
+    private int pendingLength;
+    private boolean prefixPossible = true;
+
+    private Base64DataBufferDecoder(DataBufferFactory bufferFactory) {
+        this.bufferFactory = bufferFactory;
+    }
+
+    /**
+     * 解码 base64 数据流，每次订阅使用独立的解码状态
+     */
+    static Flux<DataBuffer> decode(Flux<DataBuffer> source, DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            var decoder = new Base64DataBufferDecoder(bufferFactory);
+            return source.concatMap(buffer -> {
+                    try {
+                        return Mono.justOrEmpty(decoder.decodeChunk(buffer));
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .concatWith(Mono.fromSupplier(decoder::finish).flatMap(Mono::justOrEmpty));
+        });
+    }
+
+    private DataBuffer decodeChunk(DataBuffer buffer) {
+        int readable = buffer.readableByteCount();
+        ensureCapacity(pendingLength + readable);
+        byte[] chunk = new byte[readable];
+        buffer.read(chunk);
+        for (byte b : chunk) {
+            if (isWhitespace(b)) {
+                continue;
+            }
+            if (prefixPossible) {
+                if (pendingLength == 0 && b != 'd') {
+                    prefixPossible = false;
+                } else if (b == ',') {
+                    // 丢弃 data URL 前缀
+                    pendingLength = 0;
+                    prefixPossible = false;
+                    continue;
+                } else if (pendingLength >= MAX_PREFIX_LENGTH) {
+                    prefixPossible = false;
+                }
+            }
+            pending[pendingLength++] = b;
+        }
+        if (prefixPossible) {
+            return null;
+        }
+        int decodable = pendingLength - pendingLength % 4;
+        return decodable > 0 ? decode(decodable) : null;
+    }
+
+    private DataBuffer finish() {
+        return pendingLength > 0 ? decode(pendingLength) : null;
+    }
+
+    /**
+     * 解码缓冲区前 {@code length} 个字符，剩余字符移动到开头
+     */
+    private DataBuffer decode(int length) {
+        byte[] encoded = new byte[length];
+        System.arraycopy(pending, 0, encoded, 0, length);
+        int remaining = pendingLength - length;
+        System.arraycopy(pending, length, pending, 0, remaining);
+        pendingLength = remaining;
+        return bufferFactory.wrap(Base64.getDecoder().decode(encoded));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (pending.length < capacity) {
+            byte[] expanded = new byte[capacity];
+            System.arraycopy(pending, 0, expanded, 0, pendingLength);
+            pending = expanded;
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+}
@@ -0,0 +1,89 @@
+package com.xhhao.excalidraw.service.impl;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+
+/**
+ * 预览图内容哈希：SHA-256 的 base64url 编码（无填充，43 个字符）
+ *
+ * <p>哈希以标签形式记录在附件上，内容相同的预览图可以直接复用已有附件。
+ * 标签中的哈希都由服务端按上传内容计算；客户端提供的哈希只用于查找候选附件，复用前仍按实际内容核对。
+ *
+ * @author Handsome
+ */
+public final class ContentHash {
+
+    /**
+     * 附件上记录内容哈希的标签
+     */
+    public static final String LABEL = "excalidraw.xhhao.com/content-hash";
+
+    private static final Pattern FORMAT = Pattern.compile("[A-Za-z0-9_-]{43}");
+
+    private final MessageDigest digest = newDigest();
+    private String value;
+
+    private ContentHash() {
+    }
+
+    static String of(byte[] content) {
+        return encode(newDigest().digest(content));
+    }
+
+    /**
+     * 校验客户端提供的哈希格式，不合法时返回 null
+     */
+    @Nullable
+    static String normalize(@Nullable String hash) {
+        return hash != null && FORMAT.matcher(hash).matches() ? hash : null;
+    }
+
+    /**
+     * 创建一个在数据流经过时同步计算哈希的摘要器，每次上传使用一个新实例
+     */
+    static ContentHash digester() {
+        return new ContentHash();
+    }
+
+    /**
+     * 数据流完成后即可通过 {@link #value()} 获取哈希，不额外复制数据
+     */
+    Flux<DataBuffer> digest(Flux<DataBuffer> content) {
+        return content
+            .doOnNext(buffer -> {
+                try (var iterator = buffer.readableByteBuffers()) {
+                    while (iterator.hasNext()) {
+                        ByteBuffer byteBuffer = iterator.next();
+                        digest.update(byteBuffer);
+                    }
+                }
+            })
+            .doOnComplete(() -> value = encode(digest.digest()));
+    }
+
+    /**
+     * 数据流尚未完成时返回 null
+     */
+    @Nullable
+    String value() {
+        return value;
+    }
+
+    private static String encode(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.xhhao.excalidraw.service.impl;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.scene.SceneCodec;
+import com.xhhao.excalidraw.scene.SceneMerger;
+import com.xhhao.excalidraw.scene.ScenePatch;
+import com.xhhao.excalidraw.service.DrawingSceneService;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+
+@Service
+@RequiredArgsConstructor
+public class DrawingSceneServiceImpl implements DrawingSceneService {
+
+    private final ReactiveExtensionClient client;
+
+    @Override
+    public Mono<String> getSceneData(String drawingName) {
+        return client.fetch(DrawingScene.class, drawingName)
+            .mapNotNull(DrawingScene::getSpec)
+            .filter(spec -> spec.getData() != null)
+            .flatMap(spec -> Mono.fromCallable(() -> SceneCodec.decode(spec.getData(), spec.getFiles()))
+                .subscribeOn(Schedulers.boundedElastic()))
+            .switchIfEmpty(Mono.defer(() -> getLegacySceneData(drawingName)));
+    }
+
+    @SuppressWarnings("deprecation")
+    private Mono<String> getLegacySceneData(String drawingName) {
+        return client.fetch(Drawing.class, drawingName)
+            .mapNotNull(drawing -> drawing.getSpec() == null ? null : drawing.getSpec().getData())
+            .filter(StringUtils::isNotEmpty);
+    }
+
+    @Override
+    public Mono<DrawingScene> saveSceneData(String drawingName, String data) {
+        return encode(data)
+            .flatMap(encoded -> Mono.defer(() -> client.fetch(DrawingScene.class, drawingName)
+                    .flatMap(scene -> {
+                        if (scene.getSpec() == null) {
+                            scene.setSpec(new DrawingScene.DrawingSceneSpec());
+                        }
+                        scene.getSpec().setData(encoded.data());
+                        scene.getSpec().setFiles(encoded.files());
+                        return client.update(scene);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> createScene(drawingName, encoded))))
+                .retryWhen(Retry.backoff(5, Duration.ofMillis(100))
+                    .filter(OptimisticLockingFailureException.class::isInstance)));
+    }
+
+    /**
+     * 合并只处理不含内嵌图片的场景，已保存的文件先去掉修改中删除的，再并入新增的，已有图片不参与解析和压缩
+     */
+    @Override
+    public Mono<SceneMerger.Result> patchSceneData(String drawingName, ScenePatch patch) {
+        return Mono.defer(() -> client.fetch(DrawingScene.class, drawingName)
+                .flatMap(scene -> {
+                    if (scene.getSpec() == null) {
+                        scene.setSpec(new DrawingScene.DrawingSceneSpec());
+                    }
+                    var spec = scene.getSpec();
+                    return merge(spec.getData(), patch)
+                        .flatMap(merged -> {
+                            spec.setData(merged.encoded().data());
+                            spec.setFiles(mergeFiles(spec.getFiles(), merged.encoded().files(),
+                                patch.getRemovedFiles()));
+                            return client.update(scene).thenReturn(merged.result());
+                        });
+                })
+                .switchIfEmpty(Mono.defer(() -> getLegacySceneData(drawingName)
+                    .defaultIfEmpty("")
+                    .flatMap(legacyData -> merge(legacyData, patch))
+                    .flatMap(merged -> createScene(drawingName, merged.encoded())
+                        .thenReturn(merged.result())))))
+            .retryWhen(Retry.backoff(5, Duration.ofMillis(100))
+                .filter(OptimisticLockingFailureException.class::isInstance));
+    }
+
+    @Override
+    public Mono<Void> migrateLegacySceneData(String drawingName, String data) {
+        return client.fetch(DrawingScene.class, drawingName)
+            .hasElement()
+            .flatMap(exists -> exists ? Mono.<Void>empty() : encode(data)
+                .flatMap(encoded -> createScene(drawingName, encoded))
+                // 并发创建时以已创建的场景为准
+                .onErrorResume(e -> client.fetch(DrawingScene.class, drawingName)
+                    .hasElement()
+                    .flatMap(created -> created ? Mono.empty() : Mono.error(e)))
+                .then());
+    }
+
+    /**
+     * 场景只随绘图存在，绘图不存在或已删除时不创建，避免留下没有绘图的场景
+     */
+    private Mono<DrawingScene> createScene(String drawingName, SceneCodec.Encoded encoded) {
+        return client.fetch(Drawing.class, drawingName)
+            .filter(drawing -> !ExtensionUtil.isDeleted(drawing))
+            .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "绘图不存在")))
+            .flatMap(drawing -> client.create(newScene(drawingName, encoded)));
+    }
+
+    /**
+     * 大场景的解压、解析、序列化与压缩较耗 CPU，不在事件循环线程上执行
+     */
+    private static Mono<Merged> merge(String data, ScenePatch patch) {
+        return Mono.fromCallable(() -> {
+                var result = SceneMerger.merge(SceneCodec.decode(data, null), patch);
+                return new Merged(result, SceneCodec.encode(result.data()));
+            })
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Mono<SceneCodec.Encoded> encode(String data) {
+        return Mono.fromCallable(() -> SceneCodec.encode(data))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Nullable
+    private static Map<String, String> mergeFiles(@Nullable Map<String, String> stored,
+                                                  @Nullable Map<String, String> added,
+                                                  @Nullable List<String> removed) {
+        var files = stored == null ? new LinkedHashMap<String, String>() : new LinkedHashMap<>(stored);
+        if (removed != null) {
+            removed.forEach(files::remove);
+        }
+        if (added != null) {
+            files.putAll(added);
+        }
+        return files.isEmpty() ? null : files;
+    }
+
+    static DrawingScene newScene(String drawingName, SceneCodec.Encoded encoded) {
+        var scene = new DrawingScene();
+        var metadata = new Metadata();
+        metadata.setName(drawingName);
+        scene.setMetadata(metadata);
+        var spec = new DrawingScene.DrawingSceneSpec();
+        spec.setData(encoded.data());
+        spec.setFiles(encoded.files());
+        scene.setSpec(spec);
+        return scene;
+    }
+
+    private record Merged(SceneMerger.Result result, SceneCodec.Encoded encoded) {
+    }
+}
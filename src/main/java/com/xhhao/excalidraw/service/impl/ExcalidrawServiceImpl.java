@@ -1,23 +1,60 @@
 package com.xhhao.excalidraw.service.impl;
 
+import static run.halo.app.extension.index.query.Queries.equal;
+import static run.halo.app.extension.index.query.Queries.not;
+import static run.halo.app.extension.index.query.Queries.or;
+
+import com.xhhao.excalidraw.DrawingCursor;
+import com.xhhao.excalidraw.DrawingListVersion;
+import com.xhhao.excalidraw.DrawingSummaryQuery;
+import com.xhhao.excalidraw.ExcalidrawMetrics;
 import com.xhhao.excalidraw.ExcalidrawQuery;
 import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.render.PreviewRenderer;
+import com.xhhao.excalidraw.render.PreviewRenderer.PreviewVariants;
+import com.xhhao.excalidraw.render.PreviewRenderer.RenderedVariant;
+import com.xhhao.excalidraw.scene.SceneMerger;
+import com.xhhao.excalidraw.service.DrawingSceneService;
 import com.xhhao.excalidraw.service.ExcalidrawService;
 import com.xhhao.excalidraw.service.SettingConfigGetter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 import run.halo.app.core.extension.attachment.Attachment;
 import run.halo.app.core.extension.attachment.endpoint.SimpleFilePart;
 import run.halo.app.core.extension.service.AttachmentService;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.ListOptions;
 import run.halo.app.extension.ListResult;
+import run.halo.app.extension.Metadata;
 import run.halo.app.extension.PageRequestImpl;
 import run.halo.app.extension.ReactiveExtensionClient;
 
@@ -26,13 +63,82 @@ import run.halo.app.extension.ReactiveExtensionClient;
 @Slf4j
 public class ExcalidrawServiceImpl implements ExcalidrawService {
 
+    // 压缩时需要完整读入 SVG，超过此大小的上传直接失败
+    static final int MAX_SVG_BYTES = 32 * 1024 * 1024;
+
+    static final int MAX_BULK_DELETE = 500;
+    // 每个绘图删除后协调器都要清理附件，并发不宜过高
+    static final int BULK_DELETE_CONCURRENCY = 8;
+
     private final ReactiveExtensionClient client;
     private final SettingConfigGetter settingConfigGetter;
     private final AttachmentService attachmentService;
+    private final DrawingSceneService drawingSceneService;
+    private final PreviewRenderer previewRenderer;
+    private final ExcalidrawMetrics metrics;
+    private final UploadLimiter uploadLimiter;
+    private final DrawingListVersion listVersion;
     @Override
     public Mono<ListResult<Drawing>> listDrawings(ExcalidrawQuery query) {
         return client.listBy(Drawing.class, query.toListOptions(),
-            PageRequestImpl.of(query.getPage(), query.getSize(), query.getSort()));
+                PageRequestImpl.of(query.getPage(), query.getSize(), query.getSort()))
+            .doOnNext(result -> result.getItems().forEach(ExcalidrawServiceImpl::stripSceneData));
+    }
+
+    @Override
+    public Mono<DrawingSummaryPage> listDrawingSummaries(DrawingSummaryQuery query) {
+        return Mono.defer(() -> {
+            var fields = query.getFields();
+            // 游标条件由索引定位，始终只取第一页，耗时与翻到第几页无关
+            return client.listBy(Drawing.class, query.toListOptions(),
+                    PageRequestImpl.of(1, query.getSize(), DrawingCursor.SORT))
+                .map(result -> {
+                    var items = result.getItems();
+                    var nextCursor = result.hasNext() && !items.isEmpty()
+                        ? DrawingCursor.of(items.get(items.size() - 1)).encode()
+                        : null;
+                    return new DrawingSummaryPage(
+                        items.stream().map(drawing -> toSummary(drawing, fields)).toList(), nextCursor);
+                });
+        });
+    }
+
+    private static DrawingSummary toSummary(Drawing drawing, Set<String> fields) {
+        var summary = new DrawingSummary();
+        var metadata = drawing.getMetadata();
+        var spec = drawing.getSpec();
+        if (fields.contains("name")) {
+            summary.setName(metadata.getName());
+        }
+        if (fields.contains("displayName") && spec != null) {
+            summary.setDisplayName(spec.getDisplayName());
+        }
+        if (fields.contains("previewUrl") && spec != null) {
+            summary.setPreviewUrl(spec.getPreviewUrl());
+        }
+        if (fields.contains("creationTimestamp")) {
+            summary.setCreationTimestamp(metadata.getCreationTimestamp());
+        }
+        if (fields.contains("deletionTimestamp")) {
+            summary.setDeletionTimestamp(metadata.getDeletionTimestamp());
+        }
+        if (fields.contains("elementCount") && drawing.getStatus() != null) {
+            summary.setElementCount(drawing.getStatus().getElementCount());
+        }
+        return summary;
+    }
+
+    /**
+     * 列表只返回元数据，尚未迁移的旧绘图也不携带场景数据，检索词条也不返回
+     */
+    @SuppressWarnings("deprecation")
+    private static void stripSceneData(Drawing drawing) {
+        if (drawing.getSpec() != null) {
+            drawing.getSpec().setData(null);
+        }
+        if (drawing.getStatus() != null) {
+            drawing.getStatus().setTextTerms(null);
+        }
     }
 
     private Mono<String> getCurrentUserName() {
@@ -43,42 +149,139 @@ public class ExcalidrawServiceImpl implements ExcalidrawService {
 
     @Override
     public Mono<String> uploadExcalidrawFile(String fileName, String jsonContent, String userName) {
+        var contentBytes = jsonContent.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        return uploadExcalidrawFile(fileName,
+            Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(contentBytes))),
+            ContentHash.of(contentBytes));
+    }
+
+    @Override
+    public Mono<String> uploadExcalidrawFile(String fileName, Flux<DataBuffer> content, String contentHash) {
         return getCurrentUserName()
             .flatMap(currentUser -> settingConfigGetter.getBasicConfig()
                 .flatMap(config -> {
                     var settings = config.getAttachmentSettings();
                     if (settings == null || settings.getFilePolicy() == null || settings.getFilePolicy().isBlank()) {
                         log.info("未配置附件存储策略，跳过 .excalidraw 文件上传");
-                        return Mono.just("未配置存储策略");
+                        return discard(content).thenReturn("未配置存储策略");
                     }
-                    return doUploadExcalidrawFile(fileName, jsonContent, currentUser, settings);
+                    return uploadLimiter.limit(currentUser,
+                        doUploadExcalidrawFile(fileName, content, currentUser, settings,
+                            ContentHash.normalize(contentHash)));
                 })
             )
             .defaultIfEmpty("");
     }
 
-    private Mono<String> doUploadExcalidrawFile(String fileName, String jsonContent,
-                                                 String userName, SettingConfigGetter.AttachmentSettings settings) {
+    private Mono<String> doUploadExcalidrawFile(String fileName, Flux<DataBuffer> content, String userName,
+                                                 SettingConfigGetter.AttachmentSettings settings,
+                                                 String contentHash) {
         var fullFileName = fileName + ".excalidraw";
-        var contentBytes = jsonContent.getBytes(java.nio.charset.StandardCharsets.UTF_8);
-        var dataBuffer = DefaultDataBufferFactory.sharedInstance.wrap(contentBytes);
-        Flux<DataBuffer> dataBufferFlux = Flux.just(dataBuffer);
-        var file = new SimpleFilePart(fullFileName, dataBufferFlux, MediaType.APPLICATION_JSON);
-
-        return attachmentService.upload(userName, settings.getFilePolicy(), settings.getFileGroup(), file, null)
-            .subscribeOn(Schedulers.boundedElastic())
-            .map(attachment -> {
-                log.info(".excalidraw 文件上传成功: {}", fullFileName);
-                return "ok";
-            })
-            .onErrorResume(e -> {
+        // 客户端提供的哈希与最新备份相同时不上传，跳过前按实际内容核对哈希
+        Mono<String> unchanged = contentHash == null ? Mono.empty()
+            : client.fetch(Drawing.class, fileName)
+                .filter(drawing -> drawing.getSpec() != null
+                    && contentHash.equals(drawing.getSpec().getBackupContentHash()))
+                .filterWhen(drawing -> attachmentExists(drawing.getSpec().getBackupAttachmentName()))
+                .flatMap(drawing -> verifyContentHash(content, contentHash)
+                    .then(Mono.fromSupplier(() -> {
+                        log.debug(".excalidraw 文件内容未变化，跳过上传: {}", fullFileName);
+                        return BACKUP_UNCHANGED;
+                    })));
+
+        return unchanged
+            .switchIfEmpty(Mono.defer(() -> {
+                var hash = ContentHash.digester();
+                var file = new SimpleFilePart(fullFileName, hash.digest(content), MediaType.APPLICATION_JSON);
+                // 文件名即绘图名称，以标签关联到绘图，绘图删除时一并删除
+                return attachmentService.upload(userName, settings.getFilePolicy(), settings.getFileGroup(), file,
+                        attachment -> attachment.getMetadata().setLabels(withLabel(
+                            attachment.getMetadata().getLabels(), Drawing.DRAWING_NAME_LABEL, fileName)))
+                    .flatMap(attachment -> recordBackup(fileName, attachment.getMetadata().getName(),
+                        hash.value(), settings.getBackupHistoryLimit()))
+                    .doOnNext(result -> log.info(".excalidraw 文件上传成功: {}", fullFileName));
+            }))
+            .onErrorResume(e -> !(e instanceof ServerWebInputException), e -> {
                 log.error("上传 .excalidraw 文件失败: {}", e.getMessage(), e);
                 return Mono.just("");
             });
     }
 
+    /**
+     * 将新上传的附件记为绘图的最新备份，原来的最新备份移入历史，超出保留数量的历史版本在绘图更新后删除。
+     * 新附件与最新备份内容相同（客户端未提供哈希时）则删除新附件；绘图不存在时只保留附件
+     *
+     * @return "ok" 或 {@link #BACKUP_UNCHANGED}
+     */
+    private Mono<String> recordBackup(String drawingName, String attachmentName, String contentHash,
+                                      int historyLimit) {
+        Set<String> removed = new LinkedHashSet<>();
+        return Mono.defer(() -> client.fetch(Drawing.class, drawingName)
+                .filter(drawing -> !ExtensionUtil.isDeleted(drawing))
+                .flatMap(drawing -> {
+                    removed.clear();
+                    if (drawing.getSpec() == null) {
+                        drawing.setSpec(new Drawing.DrawingSpec());
+                    }
+                    var spec = drawing.getSpec();
+                    var current = spec.getBackupAttachmentName();
+                    Mono<Boolean> sameContent = contentHash != null
+                        && contentHash.equals(spec.getBackupContentHash())
+                        ? attachmentExists(current) : Mono.just(false);
+                    return sameContent.flatMap(same -> {
+                        if (same) {
+                            removed.add(attachmentName);
+                            return Mono.just(drawing);
+                        }
+                        var history = new ArrayList<String>();
+                        if (current != null) {
+                            history.add(current);
+                        }
+                        if (spec.getBackupHistory() != null) {
+                            history.addAll(spec.getBackupHistory());
+                        }
+                        while (history.size() > Math.max(0, historyLimit)) {
+                            removed.add(history.remove(history.size() - 1));
+                        }
+                        spec.setBackupAttachmentName(attachmentName);
+                        spec.setBackupContentHash(contentHash);
+                        spec.setBackupHistory(history.isEmpty() ? null : history);
+                        return updateDrawing(drawing);
+                    });
+                }))
+            .retryWhen(Retry.backoff(5, Duration.ofMillis(100))
+                .filter(OptimisticLockingFailureException.class::isInstance))
+            .flatMap(drawing -> Flux.fromIterable(removed)
+                .concatMap(this::deleteAttachmentByName)
+                .then(Mono.fromSupplier(() -> removed.contains(attachmentName) ? BACKUP_UNCHANGED : "ok")))
+            .defaultIfEmpty("ok");
+    }
+
+    private Mono<Boolean> attachmentExists(String attachmentName) {
+        if (attachmentName == null) {
+            return Mono.just(false);
+        }
+        return client.fetch(Attachment.class, attachmentName)
+            .map(attachment -> !ExtensionUtil.isDeleted(attachment))
+            .defaultIfEmpty(false);
+    }
+
     @Override
     public Mono<UploadResult> uploadPreviewImage(String fileName, String content, String format, String userName, String oldAttachmentName) {
+        boolean isSvg = "svg".equalsIgnoreCase(format);
+        return Mono.fromCallable(() -> decodePreviewContent(content, isSvg))
+            .flatMap(bytes -> uploadPreviewImage(fileName,
+                Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes))),
+                format, false, oldAttachmentName, ContentHash.of(bytes)))
+            .onErrorResume(IllegalArgumentException.class, e -> {
+                log.error("预览图内容无法解码: {}", e.getMessage());
+                return Mono.just(new UploadResult("", null));
+            });
+    }
+
+    @Override
+    public Mono<UploadResult> uploadPreviewImage(String fileName, Flux<DataBuffer> content, String format,
+                                                 boolean base64, String oldAttachmentName, String contentHash) {
         return getCurrentUserName()
             .flatMap(currentUser -> settingConfigGetter.getBasicConfig()
                 .flatMap(config -> {
@@ -86,69 +289,711 @@ public class ExcalidrawServiceImpl implements ExcalidrawService {
                     var settings = config.getAttachmentSettings();
                     if (settings == null || settings.getFilePolicy() == null || settings.getFilePolicy().isBlank()) {
                         log.info("未配置附件存储策略，跳过预览图上传");
-                        return Mono.just(new UploadResult("未配置存储策略", null));
+                        return discard(content).thenReturn(new UploadResult("未配置存储策略", null));
                     }
-                    return doUploadPreviewImage(fileName, content, format, currentUser, settings, oldAttachmentName);
+                    return uploadLimiter.limit(currentUser,
+                        doUploadPreviewImage(fileName, content, format, base64, currentUser, settings,
+                            oldAttachmentName, ContentHash.normalize(contentHash)));
                 })
             )
             .defaultIfEmpty(new UploadResult("", null));
     }
 
-    private Mono<UploadResult> doUploadPreviewImage(String fileName, String content, String format,
-                                               String userName, SettingConfigGetter.AttachmentSettings settings, String oldAttachmentName) {
+    private Mono<UploadResult> doUploadPreviewImage(String fileName, Flux<DataBuffer> content, String format,
+                                               boolean base64, String userName,
+                                               SettingConfigGetter.AttachmentSettings settings,
+                                               String oldAttachmentName, String contentHash) {
+        // 内容相同的附件已存在时直接复用，跳过上传和删除；客户端的哈希只用于查找，复用前按实际内容核对
+        Mono<UploadResult> reuse = contentHash == null ? Mono.empty()
+            : findAttachmentByHash(contentHash, settings.getFilePolicy())
+                .flatMap(attachment -> verifyContentHash(decodedPreview(content, format, base64), contentHash)
+                    .then(Mono.fromSupplier(() -> {
+                        log.debug("预览图内容未变化，复用附件: {}", attachment.getMetadata().getName());
+                        metrics.recordPreviewReused();
+                        return toUploadResult(attachment);
+                    })));
+
+        return reuse
+            .switchIfEmpty(Mono.defer(() -> uploadNewPreview(fileName, content, format, base64, userName, settings)))
+            // 新附件就绪后再删除旧附件，且仅在没有其他绘图引用时删除
+            .flatMap(result -> deleteUnreferencedAttachment(oldAttachmentName, fileName,
+                    Collections.singleton(result.getAttachmentName()))
+                .thenReturn(result))
+            .onErrorResume(e -> !(e instanceof ServerWebInputException), e -> {
+                log.error("上传预览图失败: {}", e.getMessage(), e);
+                return Mono.just(new UploadResult("", null));
+            });
+    }
+
+    private Mono<UploadResult> uploadNewPreview(String fileName, Flux<DataBuffer> content, String format,
+                                                boolean base64, String userName,
+                                                SettingConfigGetter.AttachmentSettings settings) {
         boolean isSvg = "svg".equalsIgnoreCase(format);
-        var fullFileName = fileName + (isSvg ? ".svg" : ".png");
+        boolean isWebp = "webp".equalsIgnoreCase(format);
+        var fullFileName = fileName + (isSvg ? ".svg" : isWebp ? ".webp" : ".png");
         MediaType mediaType = isSvg
             ? MediaType.valueOf("image/svg+xml")
-            : MediaType.IMAGE_PNG;
-        
-        // 先删除旧附件（如果有）
-        Mono<Void> deleteOld = (oldAttachmentName != null && !oldAttachmentName.isBlank())
-            ? deleteAttachmentByName(oldAttachmentName)
-            : Mono.empty();
-            
-        return deleteOld.then(Mono.defer(() -> {
-                Flux<DataBuffer> dataBufferFlux;
-                if (isSvg) {
-                    dataBufferFlux = Flux.just(DefaultDataBufferFactory.sharedInstance
-                        .wrap(content.getBytes(java.nio.charset.StandardCharsets.UTF_8)));
-                } else {
-                    String pureBase64 = content.contains(",") 
-                        ? content.substring(content.indexOf(",") + 1) 
-                        : content;
-                    dataBufferFlux = Flux.just(DefaultDataBufferFactory.sharedInstance
-                        .wrap(java.util.Base64.getDecoder().decode(pureBase64)));
+            : isWebp ? MediaType.valueOf("image/webp") : MediaType.IMAGE_PNG;
+
+        if (isSvg) {
+            // SVG 压缩后再上传，哈希标签仍记录原始内容的哈希，与客户端提供的哈希一致，复用判断不受影响
+            return optimizeSvg(content)
+                .flatMap(svg -> uploadAttachment(fullFileName,
+                    Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(svg.content()))),
+                    mediaType, svg::originalHash, format, userName, settings));
+        }
+        // 哈希在上传过程中按解码后的内容计算，附件创建前写入标签
+        var hash = ContentHash.digester();
+        return uploadAttachment(fullFileName, hash.digest(decodedPreview(content, format, base64)), mediaType,
+            hash::value, format, userName, settings);
+    }
+
+    /**
+     * PNG 的 base64 内容随数据到达逐块解码，不在内存中保留完整文件；SVG 按原文处理
+     */
+    private static Flux<DataBuffer> decodedPreview(Flux<DataBuffer> content, String format, boolean base64) {
+        return base64 && !"svg".equalsIgnoreCase(format)
+            ? Base64DataBufferDecoder.decode(content, DefaultDataBufferFactory.sharedInstance)
+            : content;
+    }
+
+    /**
+     * 读完上传内容并计算哈希，与客户端提供的哈希不一致时拒绝请求，不复用任何已有附件
+     */
+    private static Mono<Void> verifyContentHash(Flux<DataBuffer> content, String contentHash) {
+        var hash = ContentHash.digester();
+        return discard(hash.digest(content))
+            .then(Mono.defer(() -> contentHash.equals(hash.value())
+                ? Mono.<Void>empty()
+                : Mono.error(new ServerWebInputException("contentHash 与上传内容不一致"))));
+    }
+
+    private Mono<UploadResult> uploadAttachment(String fullFileName, Flux<DataBuffer> content, MediaType mediaType,
+                                                Supplier<String> hash, String format, String userName,
+                                                SettingConfigGetter.AttachmentSettings settings) {
+        var bytes = new AtomicLong();
+        var file = new SimpleFilePart(fullFileName,
+            content.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount())), mediaType);
+        return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return attachmentService.upload(userName, settings.getFilePolicy(), settings.getFileGroup(), file,
+                        attachment -> {
+                            if (hash.get() != null) {
+                                attachment.getMetadata().setLabels(withLabel(
+                                    attachment.getMetadata().getLabels(), ContentHash.LABEL, hash.get()));
+                            }
+                        })
+                    .doOnSuccess(attachment -> metrics.recordPreviewUpload(format, System.nanoTime() - start,
+                        bytes.get(), "success"))
+                    .doOnError(e -> metrics.recordPreviewUpload(format, System.nanoTime() - start,
+                        bytes.get(), "error"));
+            })
+            .doOnNext(attachment -> metrics.recordPreviewUploaded())
+            .map(ExcalidrawServiceImpl::toUploadResult);
+    }
+
+    /**
+     * 读取完整的 SVG 并在上传调度器上压缩
+     */
+    private Mono<OptimizedSvg> optimizeSvg(Flux<DataBuffer> content) {
+        return DataBufferUtils.join(content, MAX_SVG_BYTES)
+            .map(buffer -> {
+                try {
+                    var bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    return bytes;
+                } finally {
+                    DataBufferUtils.release(buffer);
                 }
-                
-                var file = new SimpleFilePart(fullFileName, dataBufferFlux, mediaType);
-                return attachmentService.upload(userName, settings.getFilePolicy(), settings.getFileGroup(), file, null)
-                    .subscribeOn(Schedulers.boundedElastic())
-                    .map(attachment -> {
-                        var annotations = attachment.getMetadata().getAnnotations();
-                        String url = annotations.get("storage.halo.run/uri");
-                        if (url == null) {
-                            url = annotations.get("storage.halo.run/external-link");
-                        }
-                        String attachmentName = attachment.getMetadata().getName();
-                        return new UploadResult(url != null ? url : "", attachmentName);
-                    });
-            }))
-            .onErrorResume(e -> {
-                log.error("上传预览图失败: {}", e.getMessage(), e);
-                return Mono.just(new UploadResult("", null));
+            })
+            .publishOn(uploadLimiter.scheduler())
+            .map(original -> {
+                var optimized = SvgOptimizer.optimize(original);
+                metrics.recordSvgOptimized(original.length, optimized.length);
+                log.debug("SVG 预览图压缩: {} -> {} 字节 ({}%)", original.length, optimized.length,
+                    original.length == 0 ? 100 : optimized.length * 100L / original.length);
+                return new OptimizedSvg(optimized, ContentHash.of(original));
+            });
+    }
+
+    private record OptimizedSvg(byte[] content, String originalHash) {
+    }
+
+    private Mono<Attachment> findAttachmentByHash(String contentHash, String policyName) {
+        var listOptions = ListOptions.builder()
+            .labelSelector().eq(ContentHash.LABEL, contentHash).end()
+            .build();
+        return client.listAll(Attachment.class, listOptions, Sort.by("metadata.creationTimestamp"))
+            .filter(attachment -> !ExtensionUtil.isDeleted(attachment))
+            .filter(attachment -> attachment.getSpec() != null
+                && policyName.equals(attachment.getSpec().getPolicyName()))
+            .next();
+    }
+
+    /**
+     * 删除不再被任何其他绘图引用的旧预览附件，包括作为多尺寸预览的引用
+     *
+     * @param drawingName 当前绘图名称，它对旧附件的引用会在随后被替换
+     * @param keepAttachmentNames 当前绘图仍在使用的附件，不删除
+     */
+    private Mono<Void> deleteUnreferencedAttachment(String oldAttachmentName, String drawingName,
+                                                    Collection<String> keepAttachmentNames) {
+        if (oldAttachmentName == null || oldAttachmentName.isBlank()
+            || keepAttachmentNames.contains(oldAttachmentName)) {
+            return Mono.empty();
+        }
+        var listOptions = ListOptions.builder()
+            .andQuery(or(
+                equal("spec.previewAttachmentName", oldAttachmentName),
+                equal("spec.previewVariants.attachmentName", oldAttachmentName)
+            ))
+            .andQuery(not(equal("metadata.name", drawingName)))
+            .build();
+        return client.listAll(Drawing.class, listOptions, Sort.unsorted())
+            .hasElements()
+            .flatMap(referenced -> {
+                if (referenced) {
+                    log.debug("附件 {} 仍被其他绘图引用，保留", oldAttachmentName);
+                    return Mono.empty();
+                }
+                return deleteAttachmentByName(oldAttachmentName);
             });
     }
-    
+
+    private static UploadResult toUploadResult(Attachment attachment) {
+        var annotations = attachment.getMetadata().getAnnotations();
+        String url = annotations == null ? null : annotations.get("storage.halo.run/uri");
+        if (url == null && annotations != null) {
+            url = annotations.get("storage.halo.run/external-link");
+        }
+        return new UploadResult(url != null ? url : "", attachment.getMetadata().getName());
+    }
+
+    private static Map<String, String> withLabel(Map<String, String> labels, String key, String value) {
+        var result = labels == null ? new HashMap<String, String>() : new HashMap<>(labels);
+        result.put(key, value);
+        return result;
+    }
+
+    /**
+     * 不上传时释放请求体中的数据块
+     */
+    private static Mono<Void> discard(Flux<DataBuffer> content) {
+        return content.doOnNext(DataBufferUtils::release).then();
+    }
+
+    /**
+     * 将预览内容转换为文件字节：SVG 为 UTF-8 文本，PNG 为 base64（可带 data URL 前缀）
+     */
+    static byte[] decodePreviewContent(String content, boolean isSvg) {
+        if (isSvg) {
+            return content.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        }
+        String pureBase64 = content.contains(",")
+            ? content.substring(content.indexOf(",") + 1)
+            : content;
+        return java.util.Base64.getDecoder().decode(pureBase64);
+    }
+
     private Mono<Void> deleteAttachmentByName(String attachmentName) {
         return client.get(Attachment.class, attachmentName)
             .flatMap(client::delete)
             .then()
             .onErrorResume(e -> {
+                metrics.recordAttachmentDeleteFailure();
                 log.warn("删除旧附件失败: {}", e.getMessage());
                 return Mono.empty();
             });
     }
 
+    @Override
+    public Mono<Drawing> saveDrawing(String name, SaveDrawingRequest request) {
+        return save(name, request, new AtomicReference<>());
+    }
+
+    @Override
+    public Mono<SceneSaveResult> saveScene(String name, SaveDrawingRequest request) {
+        if (request.getRevision() == null) {
+            return Mono.error(new ServerWebInputException("revision 不能为空"));
+        }
+        if (request.getSceneData() == null && request.getScenePatch() == null) {
+            return Mono.error(new ServerWebInputException("场景数据不能为空"));
+        }
+        var sceneOnly = new SaveDrawingRequest();
+        sceneOnly.setRevision(request.getRevision());
+        sceneOnly.setSceneData(request.getSceneData());
+        sceneOnly.setScenePatch(request.getScenePatch());
+        var merged = new AtomicReference<SceneMerger.Result>();
+        return client.fetch(Drawing.class, name)
+            .filter(drawing -> !ExtensionUtil.isDeleted(drawing))
+            .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "绘图不存在")))
+            .flatMap(drawing -> {
+                // 不上传预览图，沿用当前的预览格式，不必读取设置
+                sceneOnly.setPreviewFormat(drawing.getSpec() == null ? null : drawing.getSpec().getPreviewFormat());
+                return save(name, sceneOnly, merged);
+            })
+            .map(saved -> new SceneSaveResult(saved, merged.get()));
+    }
+
+    /**
+     * @param merged 场景以增量修改保存时写入合并结果
+     */
+    private Mono<Drawing> save(String name, SaveDrawingRequest request, AtomicReference<SceneMerger.Result> merged) {
+        return client.fetch(Drawing.class, name)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .flatMap(existing -> {
+                var current = existing.orElse(null);
+                // 上传和保存场景前先校验一次，写入时再次校验
+                var conflict = checkRevision(current, request.getRevision());
+                if (conflict != null) {
+                    return Mono.error(conflict);
+                }
+                var referenced = referencedAttachments(current);
+                var replaced = new AtomicReference<String>();
+                return Mono.justOrEmpty(request.getPreviewFormat())
+                    .filter(format -> !format.isBlank())
+                    .switchIfEmpty(Mono.defer(this::getPreviewFormat))
+                    .flatMap(format -> uploadSavedPreview(name, request, format)
+                        .flatMap(uploaded -> writeDrawing(name, current == null, request, uploaded, format, replaced,
+                                merged)
+                            // 绘图未写入时新上传的附件无人引用，立即删除
+                            .onErrorResume(e -> deleteUnreferencedAttachment(uploaded.getAttachmentName(), name,
+                                referenced).then(Mono.error(e)))))
+                    // 绘图更新已提交，替换掉的旧预览附件在没有其他绘图引用时删除
+                    .flatMap(saved -> deleteUnreferencedAttachment(replaced.get(), name,
+                            referencedAttachments(saved))
+                        .thenReturn(saved));
+            })
+            .flatMap(saved -> !request.isRenderOnServer() ? Mono.just(saved)
+                : renderPreview(name)
+                    .then(Mono.defer(() -> client.get(Drawing.class, name)))
+                    .onErrorResume(e -> {
+                        log.warn("绘图 {} 已保存，服务端生成预览图失败: {}", name, e.getMessage());
+                        return Mono.just(saved);
+                    }))
+            .doOnNext(ExcalidrawServiceImpl::stripSceneData);
+    }
+
+    /**
+     * 校验客户端读取到的保存次数，不一致时返回 409，没有冲突时返回 null
+     */
+    private static ResponseStatusException checkRevision(Drawing current, Long revision) {
+        String reason;
+        if (current == null) {
+            reason = revision == null ? null : "绘图已被删除";
+        } else if (ExtensionUtil.isDeleted(current)) {
+            reason = "绘图正在删除";
+        } else if (revision == null) {
+            reason = "绘图已存在";
+        } else {
+            reason = revision == revisionOf(current) ? null : "绘图已在其他地方被修改";
+        }
+        return reason == null ? null : new ResponseStatusException(HttpStatus.CONFLICT, reason);
+    }
+
+    private static long revisionOf(Drawing drawing) {
+        var status = drawing.getStatus();
+        return status == null || status.getRevision() == null ? 0 : status.getRevision();
+    }
+
+    private Mono<UploadResult> uploadSavedPreview(String name, SaveDrawingRequest request, String format) {
+        var content = request.getPreviewContent();
+        if (request.isRenderOnServer() || content == null || content.isBlank()) {
+            return Mono.just(new UploadResult("", null));
+        }
+        // 不传旧附件名称，旧附件等绘图更新提交后再删除
+        return uploadPreviewImage(name, content, format, null, null);
+    }
+
+    /**
+     * 新建时先创建绘图占用名称再保存场景，场景保存失败则删除刚创建的绘图；
+     * 更新时先读取最新的绘图校验保存次数，以乐观锁写入新的保存次数后再保存场景，
+     * 过期的保存在覆盖场景之前就返回 409；场景保存失败时撤销这次写入
+     *
+     * @param replaced 写入成功后为被替换的预览附件名称
+     * @param merged 场景以增量修改保存时为合并结果
+     */
+    private Mono<Drawing> writeDrawing(String name, boolean create, SaveDrawingRequest request,
+                                       UploadResult uploaded, String format, AtomicReference<String> replaced,
+                                       AtomicReference<SceneMerger.Result> merged) {
+        if (create) {
+            var drawing = new Drawing();
+            var metadata = new Metadata();
+            metadata.setName(name);
+            drawing.setMetadata(metadata);
+            drawing.setSpec(new Drawing.DrawingSpec());
+            applySave(drawing, name, request, uploaded, format);
+            return createDrawing(drawing)
+                .flatMap(created -> saveScene(name, request, merged)
+                    .thenReturn(created)
+                    .onErrorResume(e -> client.fetch(Drawing.class, name)
+                        .flatMap(this::deleteDrawing)
+                        .onErrorResume(deleteError -> {
+                            log.warn("删除场景保存失败的绘图 {} 失败: {}", name, deleteError.getMessage());
+                            return Mono.empty();
+                        })
+                        .then(Mono.error(e))));
+        }
+        var previous = new AtomicReference<Drawing.DrawingSpec>();
+        return Mono.defer(() -> client.get(Drawing.class, name)
+                .flatMap(latest -> {
+                    var conflict = checkRevision(latest, request.getRevision());
+                    if (conflict != null) {
+                        return Mono.error(conflict);
+                    }
+                    if (latest.getSpec() == null) {
+                        latest.setSpec(new Drawing.DrawingSpec());
+                    }
+                    previous.set(savedFields(latest.getSpec()));
+                    replaced.set(latest.getSpec().getPreviewAttachmentName());
+                    return migrateLegacyScene(latest)
+                        .then(Mono.defer(() -> {
+                            applySave(latest, name, request, uploaded, format);
+                            return updateDrawing(latest);
+                        }));
+                }))
+            .retryWhen(Retry.backoff(5, Duration.ofMillis(100))
+                .filter(OptimisticLockingFailureException.class::isInstance))
+            .flatMap(claimed -> saveScene(name, request, merged)
+                .thenReturn(claimed)
+                .onErrorResume(e -> {
+                    // 绘图恢复为原来的预览，旧预览附件不能删除
+                    replaced.set(null);
+                    return revertSave(name, revisionOf(claimed), previous.get()).then(Mono.error(e));
+                }));
+    }
+
+    /**
+     * 尚未迁移的旧绘图先把 spec.data 写入 DrawingScene，增量修改才有合并的基础；
+     * 之后 {@link #applySave} 清空旧字段，协调器不会再用它覆盖新保存的场景
+     */
+    @SuppressWarnings("deprecation")
+    private Mono<Void> migrateLegacyScene(Drawing drawing) {
+        var data = drawing.getSpec().getData();
+        if (data == null || data.isEmpty()) {
+            return Mono.empty();
+        }
+        return drawingSceneService.migrateLegacySceneData(drawing.getMetadata().getName(), data);
+    }
+
+    /**
+     * 保存会修改的字段，用于场景保存失败时撤销
+     */
+    private static Drawing.DrawingSpec savedFields(Drawing.DrawingSpec spec) {
+        var fields = new Drawing.DrawingSpec();
+        fields.setDisplayName(spec.getDisplayName());
+        fields.setPreviewUrl(spec.getPreviewUrl());
+        fields.setPreviewFormat(spec.getPreviewFormat());
+        fields.setPreviewRequestedFormat(spec.getPreviewRequestedFormat());
+        fields.setPreviewAttachmentName(spec.getPreviewAttachmentName());
+        return fields;
+    }
+
+    /**
+     * 撤销写入的保存次数和预览字段；之后已有新的保存时不再撤销
+     */
+    private Mono<Void> revertSave(String name, long savedRevision, Drawing.DrawingSpec previous) {
+        return Mono.defer(() -> client.get(Drawing.class, name)
+                .filter(latest -> revisionOf(latest) == savedRevision)
+                .flatMap(latest -> {
+                    var spec = latest.getSpec();
+                    spec.setDisplayName(previous.getDisplayName());
+                    spec.setPreviewUrl(previous.getPreviewUrl());
+                    spec.setPreviewFormat(previous.getPreviewFormat());
+                    spec.setPreviewRequestedFormat(previous.getPreviewRequestedFormat());
+                    spec.setPreviewAttachmentName(previous.getPreviewAttachmentName());
+                    latest.getStatus().setRevision(savedRevision - 1);
+                    return updateDrawing(latest);
+                }))
+            .retryWhen(Retry.backoff(5, Duration.ofMillis(100))
+                .filter(OptimisticLockingFailureException.class::isInstance))
+            .then()
+            .onErrorResume(e -> {
+                log.warn("撤销绘图 {} 场景保存失败前的更新失败: {}", name, e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * 绘图的写入都经过以下方法，成功后立即递增列表版本，响应返回前列表的 ETag 已经失效，
+     * 不必等待协调器异步处理
+     */
+    private Mono<Drawing> createDrawing(Drawing drawing) {
+        return client.create(drawing).doOnNext(created -> listVersion.increment());
+    }
+
+    private Mono<Drawing> updateDrawing(Drawing drawing) {
+        return client.update(drawing).doOnNext(updated -> listVersion.increment());
+    }
+
+    private Mono<Drawing> deleteDrawing(Drawing drawing) {
+        return client.delete(drawing).doOnNext(deleted -> listVersion.increment());
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void applySave(Drawing drawing, String name, SaveDrawingRequest request,
+                                  UploadResult uploaded, String format) {
+        var spec = drawing.getSpec();
+        // 场景只保存在 DrawingScene 中
+        spec.setData(null);
+        if (request.getDisplayName() != null && !request.getDisplayName().isBlank()) {
+            spec.setDisplayName(request.getDisplayName());
+        } else if (spec.getDisplayName() == null) {
+            spec.setDisplayName(name);
+        }
+        if (drawing.getStatus() == null) {
+            drawing.setStatus(new Drawing.DrawingStatus());
+        }
+        drawing.getStatus().setRevision(revisionOf(drawing) + 1);
+        // 预览图未上传（未配置存储策略、上传失败或由服务端生成）时保留现有预览
+        if (uploaded.getAttachmentName() != null) {
+            spec.setPreviewUrl(uploaded.getUrl());
+            spec.setPreviewFormat(format);
+            spec.setPreviewRequestedFormat(format);
+            spec.setPreviewAttachmentName(uploaded.getAttachmentName());
+        }
+    }
+
+    private Mono<Void> saveScene(String name, SaveDrawingRequest request,
+                                 AtomicReference<SceneMerger.Result> merged) {
+        if (request.getScenePatch() != null) {
+            return drawingSceneService.patchSceneData(name, request.getScenePatch())
+                .doOnNext(merged::set)
+                .then();
+        }
+        if (request.getSceneData() != null) {
+            return drawingSceneService.saveSceneData(name, request.getSceneData()).then();
+        }
+        return Mono.empty();
+    }
+
+    /**
+     * 绘图引用的预览附件，包括多尺寸预览
+     */
+    private static Set<String> referencedAttachments(Drawing drawing) {
+        Set<String> names = new HashSet<>();
+        if (drawing == null || drawing.getSpec() == null) {
+            return names;
+        }
+        var spec = drawing.getSpec();
+        if (spec.getPreviewAttachmentName() != null) {
+            names.add(spec.getPreviewAttachmentName());
+        }
+        if (spec.getPreviewVariants() != null) {
+            spec.getPreviewVariants().forEach(variant -> names.add(variant.getAttachmentName()));
+        }
+        return names;
+    }
+
+    @Override
+    public Mono<BulkDeleteResult> deleteDrawings(BulkDeleteRequest request) {
+        return resolveBulkNames(request)
+            .flatMap(names -> {
+                if (names.isEmpty()) {
+                    return Mono.error(new IllegalArgumentException("未指定要删除的绘图"));
+                }
+                if (names.size() > MAX_BULK_DELETE) {
+                    return Mono.error(new IllegalArgumentException(
+                        "一次最多删除 " + MAX_BULK_DELETE + " 个绘图，匹配到 " + names.size() + " 个"));
+                }
+                return Flux.fromIterable(names)
+                    .flatMapSequential(this::deleteForBulk, BULK_DELETE_CONCURRENCY)
+                    .collectList()
+                    .map(items -> {
+                        int failed = (int) items.stream()
+                            .filter(item -> "failed".equals(item.getStatus()))
+                            .count();
+                        int deleted = (int) items.stream()
+                            .filter(item -> "deleted".equals(item.getStatus()))
+                            .count();
+                        return new BulkDeleteResult(items, deleted, failed);
+                    });
+            });
+    }
+
+    private Mono<List<String>> resolveBulkNames(BulkDeleteRequest request) {
+        Set<String> names = new LinkedHashSet<>();
+        if (request.getNames() != null) {
+            request.getNames().stream()
+                .filter(name -> name != null && !name.isBlank())
+                .forEach(names::add);
+        }
+        var selector = request.getLabelSelector();
+        if (selector == null || selector.isEmpty()) {
+            return Mono.just(List.copyOf(names));
+        }
+        var labels = ListOptions.builder().labelSelector();
+        selector.forEach(labels::eq);
+        return client.listAll(Drawing.class, labels.end().build(), Sort.by("metadata.creationTimestamp"))
+            .map(drawing -> drawing.getMetadata().getName())
+            .collect(() -> names, Set::add)
+            .map(List::copyOf);
+    }
+
+    private Mono<BulkDeleteItem> deleteForBulk(String name) {
+        return Mono.defer(() -> client.fetch(Drawing.class, name)
+                .flatMap(drawing -> ExtensionUtil.isDeleted(drawing)
+                    ? Mono.just(drawing)
+                    : deleteDrawing(drawing)))
+            .retryWhen(Retry.backoff(5, Duration.ofMillis(100))
+                .filter(OptimisticLockingFailureException.class::isInstance))
+            .map(drawing -> new BulkDeleteItem(name, "deleted", null))
+            .defaultIfEmpty(new BulkDeleteItem(name, "notFound", null))
+            .onErrorResume(e -> {
+                log.warn("批量删除绘图 {} 失败: {}", name, e.getMessage());
+                return Mono.just(new BulkDeleteItem(name, "failed", e.getMessage()));
+            });
+    }
+
+    @Override
+    public Mono<UploadResult> renderPreview(String drawingName) {
+        return getPreviewFormat().flatMap(format -> renderPreview(drawingName, format));
+    }
+
+    @Override
+    public Mono<UploadResult> renderPreview(String drawingName, String format) {
+        return client.fetch(Drawing.class, drawingName)
+            .flatMap(drawing -> drawingSceneService.getSceneData(drawingName)
+                .flatMap(sceneJson -> previewRenderer.render(sceneJson, format))
+                .flatMap(preview -> {
+                    var content = Flux.defer(() -> Flux.just(
+                        DefaultDataBufferFactory.sharedInstance.wrap(preview.content())));
+                    // 旧附件在绘图更新后删除
+                    return uploadPreviewImage(drawingName, content, preview.format(), false,
+                            null, ContentHash.of(preview.content()))
+                        .flatMap(result -> result.getAttachmentName() == null
+                            ? Mono.just(result)
+                            : updatePreview(drawingName, result, preview.format(), format).thenReturn(result));
+                }));
+    }
+
+    /**
+     * 更新绘图的预览信息，提交后删除被替换且不再被引用的旧附件
+     *
+     * @param format 实际生成的格式
+     * @param requestedFormat 请求的格式，渲染退回 svg 时与 format 不同
+     */
+    private Mono<Drawing> updatePreview(String drawingName, UploadResult result, String format,
+                                        String requestedFormat) {
+        var replaced = new AtomicReference<String>();
+        return Mono.defer(() -> client.get(Drawing.class, drawingName)
+                .flatMap(drawing -> {
+                    if (drawing.getSpec() == null) {
+                        drawing.setSpec(new Drawing.DrawingSpec());
+                    }
+                    replaced.set(drawing.getSpec().getPreviewAttachmentName());
+                    drawing.getSpec().setPreviewUrl(result.getUrl());
+                    drawing.getSpec().setPreviewFormat(format);
+                    drawing.getSpec().setPreviewRequestedFormat(requestedFormat);
+                    drawing.getSpec().setPreviewAttachmentName(result.getAttachmentName());
+                    return updateDrawing(drawing);
+                }))
+            .retryWhen(Retry.backoff(5, Duration.ofMillis(100))
+                .filter(OptimisticLockingFailureException.class::isInstance))
+            .flatMap(drawing -> deleteUnreferencedAttachment(replaced.get(), drawingName,
+                    referencedAttachments(drawing))
+                .thenReturn(drawing));
+    }
+
+    @Override
+    public Mono<Drawing> generatePreviewVariants(String drawingName) {
+        return settingConfigGetter.getBasicConfig()
+            .flatMap(config -> {
+                var settings = config.getAttachmentSettings();
+                if (settings == null || settings.getFilePolicy() == null || settings.getFilePolicy().isBlank()) {
+                    return Mono.empty();
+                }
+                boolean enabled = config.getPreviewSettings() == null
+                    || config.getPreviewSettings().isResponsiveImages();
+                return client.fetch(Drawing.class, drawingName)
+                    .filter(drawing -> !ExtensionUtil.isDeleted(drawing))
+                    .flatMap(drawing -> {
+                        var source = drawing.getSpec() == null ? null : drawing.getSpec().getPreviewAttachmentName();
+                        // 未启用或没有场景数据时清空多尺寸预览，文章中只输出原预览图
+                        Mono<PreviewVariants> rendered = !enabled ? Mono.empty()
+                            : drawingSceneService.getSceneData(drawingName)
+                                .flatMap(previewRenderer::renderVariants)
+                                .onErrorResume(IllegalArgumentException.class, e -> {
+                                    log.warn("绘图 {} 的场景数据无法渲染多尺寸预览: {}", drawingName, e.getMessage());
+                                    return Mono.empty();
+                                });
+                        return getCurrentUserName()
+                            .flatMap(userName -> rendered
+                                .flatMap(variants -> Flux.fromIterable(variants.variants())
+                                    .concatMap(variant -> uploadVariant(drawingName, variant, userName, settings))
+                                    .collectList()
+                                    .map(uploaded -> Map.entry(variants, uploaded))))
+                            .flatMap(entry -> saveVariants(drawingName, source, entry.getKey(), entry.getValue()))
+                            .switchIfEmpty(Mono.defer(() -> saveVariants(drawingName, source, null, List.of())));
+                    });
+            });
+    }
+
+    private Mono<Drawing.PreviewVariant> uploadVariant(String drawingName, RenderedVariant variant,
+                                                       String userName,
+                                                       SettingConfigGetter.AttachmentSettings settings) {
+        var preview = variant.preview();
+        var content = Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(preview.content())));
+        return findAttachmentByHash(ContentHash.of(preview.content()), settings.getFilePolicy())
+            .doOnNext(attachment -> metrics.recordPreviewReused())
+            .map(ExcalidrawServiceImpl::toUploadResult)
+            .switchIfEmpty(Mono.defer(() -> uploadNewPreview(drawingName + "-" + variant.width() + "w",
+                content, preview.format(), false, userName, settings)))
+            .map(result -> {
+                var uploaded = new Drawing.PreviewVariant();
+                uploaded.setWidth(variant.width());
+                uploaded.setUrl(result.getUrl());
+                uploaded.setAttachmentName(result.getAttachmentName());
+                uploaded.setMediaType(preview.mediaType().toString());
+                return uploaded;
+            });
+    }
+
+    /**
+     * 写入多尺寸预览并删除不再使用的旧版本；期间预览图已被替换时放弃，由协调器按新预览重新生成
+     */
+    private Mono<Drawing> saveVariants(String drawingName, String source, PreviewVariants rendered,
+                                       List<Drawing.PreviewVariant> variants) {
+        Set<String> oldAttachmentNames = new HashSet<>();
+        return Mono.defer(() -> client.get(Drawing.class, drawingName)
+                .filter(drawing -> drawing.getSpec() != null
+                    && Objects.equals(drawing.getSpec().getPreviewAttachmentName(), source))
+                .flatMap(drawing -> {
+                    var spec = drawing.getSpec();
+                    oldAttachmentNames.clear();
+                    if (spec.getPreviewVariants() != null) {
+                        spec.getPreviewVariants()
+                            .forEach(variant -> oldAttachmentNames.add(variant.getAttachmentName()));
+                    }
+                    spec.setPreviewWidth(rendered == null ? null : rendered.width());
+                    spec.setPreviewHeight(rendered == null ? null : rendered.height());
+                    spec.setPreviewVariants(variants.isEmpty() ? null : variants);
+                    spec.setPreviewVariantsSource(source);
+                    return updateDrawing(drawing);
+                }))
+            .retryWhen(Retry.backoff(5, Duration.ofMillis(100))
+                .filter(OptimisticLockingFailureException.class::isInstance))
+            .flatMap(drawing -> {
+                Set<String> keep = new HashSet<>();
+                keep.add(source);
+                variants.forEach(variant -> keep.add(variant.getAttachmentName()));
+                return Flux.fromIterable(oldAttachmentNames)
+                    .concatMap(name -> deleteUnreferencedAttachment(name, drawingName, keep))
+                    .then(Mono.just(drawing));
+            });
+    }
+
+    @Override
+    public Mono<String> getRenderMode() {
+        return settingConfigGetter.getBasicConfig()
+            .map(config -> {
+                var settings = config.getPreviewSettings();
+                return settings != null && settings.isServerRender() ? "server" : "client";
+            })
+            .defaultIfEmpty("client");
+    }
+
     @Override
     public Mono<String> getPreviewFormat() {
         return settingConfigGetter.getBasicConfig()
@@ -0,0 +1,58 @@
+package com.xhhao.excalidraw.service.impl;
+
+import com.xhhao.excalidraw.extension.PreviewRegenerationJob;
+import com.xhhao.excalidraw.service.PreviewRegenerationService;
+import java.util.ArrayList;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.ExtensionUtil;
+import run.halo.app.extension.ListOptions;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+
+@Service
+@RequiredArgsConstructor
+public class PreviewRegenerationServiceImpl implements PreviewRegenerationService {
+
+    private final ReactiveExtensionClient client;
+
+    @Override
+    public Mono<PreviewRegenerationJob> start(PreviewRegenerationJob.PreviewRegenerationJobSpec spec) {
+        var format = spec.getFormat();
+        if (StringUtils.isNotBlank(format)
+            && !"svg".equalsIgnoreCase(format) && !"png".equalsIgnoreCase(format)) {
+            return Mono.error(new ServerWebInputException("不支持的预览格式: " + format));
+        }
+        // 同一时间只允许一个任务，避免重复渲染和附件互相覆盖
+        return client.listAll(PreviewRegenerationJob.class, ListOptions.builder().build(), Sort.unsorted())
+            .filter(job -> !ExtensionUtil.isDeleted(job) && !isTerminal(job))
+            .hasElements()
+            .flatMap(running -> {
+                if (running) {
+                    return Mono.error(new ResponseStatusException(HttpStatus.CONFLICT,
+                        "已有正在执行的预览图重新生成任务"));
+                }
+                var job = new PreviewRegenerationJob();
+                var metadata = new Metadata();
+                metadata.setGenerateName("preview-regeneration-");
+                job.setMetadata(metadata);
+                job.setSpec(spec);
+                var status = new PreviewRegenerationJob.PreviewRegenerationJobStatus();
+                status.setPhase(PreviewRegenerationJob.Phase.PENDING);
+                status.setFailedDrawings(new ArrayList<>());
+                job.setStatus(status);
+                return client.create(job);
+            });
+    }
+
+    private static boolean isTerminal(PreviewRegenerationJob job) {
+        return job.getStatus() != null && job.getStatus().getPhase() != null
+            && job.getStatus().getPhase().isTerminal();
+    }
+}
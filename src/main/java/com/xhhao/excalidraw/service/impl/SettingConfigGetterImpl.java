@@ -1,21 +1,86 @@
 package com.xhhao.excalidraw.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.xhhao.excalidraw.service.SettingConfigGetter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import run.halo.app.extension.ConfigMap;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.infra.utils.JsonUtils;
+import run.halo.app.plugin.PluginConfigUpdatedEvent;
 import run.halo.app.plugin.ReactiveSettingFetcher;
 
 
+/**
+ * 插件设置读取
+ *
+ * <p>基础设置在首次读取后缓存，插件设置保存时由 {@link PluginConfigUpdatedEvent} 携带的新配置直接替换，
+ * 之后的读取不再访问 ConfigMap。缓存的对象被所有调用方共享，只读使用。
+ * ConfigMap 的版本号同样在首次读取后缓存，设置更新时清空，下次读取时重新获取。
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class SettingConfigGetterImpl implements SettingConfigGetter {
-    
+
     private final ReactiveSettingFetcher settingFetcher;
+    private final ReactiveExtensionClient client;
+
+    private final AtomicReference<BasicConfig> basicConfig = new AtomicReference<>();
+    private final AtomicReference<Long> configVersion = new AtomicReference<>();
+    // 每次设置更新加一，读取 ConfigMap 期间发生更新时不缓存读到的旧版本
+    private final AtomicLong updates = new AtomicLong();
 
     @Override
     public Mono<BasicConfig> getBasicConfig() {
+        var cached = basicConfig.get();
+        if (cached != null) {
+            return Mono.just(cached);
+        }
         return settingFetcher.fetch(BasicConfig.GROUP, BasicConfig.class)
-            .defaultIfEmpty(new BasicConfig());
+            .defaultIfEmpty(new BasicConfig())
+            // 读取期间设置已被更新时以事件中的新配置为准
+            .map(config -> basicConfig.compareAndSet(null, config) ? config : basicConfig.get());
+    }
+
+    @Override
+    public Mono<Long> getConfigVersion() {
+        var cached = configVersion.get();
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return Mono.defer(() -> {
+            long generation = updates.get();
+            return client.fetch(ConfigMap.class, CONFIG_MAP_NAME)
+                .mapNotNull(configMap -> configMap.getMetadata().getVersion())
+                .defaultIfEmpty(0L)
+                .doOnNext(version -> {
+                    if (updates.get() == generation) {
+                        configVersion.compareAndSet(null, version);
+                    }
+                });
+        });
+    }
+
+    @EventListener
+    public void onConfigUpdated(PluginConfigUpdatedEvent event) {
+        updates.incrementAndGet();
+        configVersion.set(null);
+        var newConfig = event.getNewConfig();
+        JsonNode node = newConfig == null ? null : newConfig.get(BasicConfig.GROUP);
+        try {
+            basicConfig.set(node == null || node.isNull()
+                ? new BasicConfig()
+                : JsonUtils.DEFAULT_JSON_MAPPER.treeToValue(node, BasicConfig.class));
+        } catch (Exception e) {
+            // 无法解析时清空缓存，下次读取回退到 ConfigMap
+            log.warn("解析插件基础设置失败，将重新读取: {}", e.getMessage());
+            basicConfig.set(null);
+        }
     }
 }
@@ -0,0 +1,290 @@
+package com.xhhao.excalidraw.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * 上传前压缩 SVG 预览图
+ *
+ * <ul>
+ *     <li>删除注释和 {@code <metadata>}，其中包括编辑器导出时嵌入的完整场景数据；</li>
+ *     <li>删除没有文本使用的 {@code @font-face}，带 unicode-range 的分片字体只保留包含已用字符的分片；</li>
+ *     <li>坐标和路径数据保留两位小数，删除取值为默认值的属性和标签之间的空白。</li>
+ * </ul>
+ * 无法解析的内容原样返回。
+ *
+ * @author Handsome
+ */
+final class SvgOptimizer {
+
+    static final int DECIMALS = 2;
+
+    private static final Set<String> NUMERIC_ATTRIBUTES = Set.of(
+        "d", "points", "transform", "x", "y", "x1", "y1", "x2", "y2", "cx", "cy", "r", "rx", "ry",
+        "stroke-width", "font-size");
+
+    private static final Map<String, String> DEFAULT_ATTRIBUTES = Map.of(
+        "opacity", "1",
+        "fill-opacity", "1",
+        "stroke-opacity", "1",
+        "stroke-dashoffset", "0",
+        "stroke-miterlimit", "4",
+        "fill-rule", "nonzero");
+
+    // 保留空白的元素，其中的空白属于文本内容
+    private static final Set<String> TEXT_ELEMENTS = Set.of("text", "tspan", "textPath", "style");
+
+    private static final Pattern DECIMAL = Pattern.compile("-?\\d*\\.\\d+(?:[eE][-+]?\\d+)?");
+    private static final Pattern FONT_FACE = Pattern.compile("@font-face\\s*\\{[^}]*}");
+    private static final Pattern FONT_FACE_FAMILY =
+        Pattern.compile("font-family\\s*:\\s*([^;}]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern UNICODE_RANGE =
+        Pattern.compile("unicode-range\\s*:\\s*([^;}]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern STYLE_FONT_FAMILY =
+        Pattern.compile("font-family\\s*:\\s*([^;]+)", Pattern.CASE_INSENSITIVE);
+
+    private SvgOptimizer() {
+    }
+
+    /**
+     * 压缩 SVG 文档
+     *
+     * @param svg UTF-8 编码的 SVG
+     * @return 压缩后的 SVG；无法解析时返回原内容
+     */
+    static byte[] optimize(byte[] svg) {
+        try {
+            var builder = newDocumentBuilderFactory().newDocumentBuilder();
+            // 解析错误以异常返回，不输出到标准错误
+            builder.setErrorHandler(new DefaultHandler());
+            var document = builder.parse(new ByteArrayInputStream(svg));
+            var root = document.getDocumentElement();
+            if (root == null || !"svg".equals(root.getLocalName())) {
+                return svg;
+            }
+            Map<String, Set<Integer>> usedFonts = new HashMap<>();
+            List<Element> styles = new ArrayList<>();
+            optimizeNode(root, root, usedFonts, styles);
+            for (Element style : styles) {
+                style.setTextContent(optimizeCss(style.getTextContent(), usedFonts));
+            }
+
+            var output = new ByteArrayOutputStream(svg.length / 2);
+            var transformer = newTransformerFactory().newTransformer();
+            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+            transformer.setOutputProperty(OutputKeys.INDENT, "no");
+            transformer.transform(new DOMSource(document), new StreamResult(output));
+            var result = output.toByteArray();
+            return result.length < svg.length ? result : svg;
+        } catch (Exception e) {
+            return svg;
+        }
+    }
+
+    private static void optimizeNode(Element element, Element root, Map<String, Set<Integer>> usedFonts,
+                                     List<Element> styles) {
+        if ("style".equals(element.getLocalName())) {
+            styles.add(element);
+        }
+        var fontFamily = fontFamilyOf(element);
+        if (fontFamily != null && "text".equals(element.getLocalName())) {
+            var codePoints = element.getTextContent().codePoints().collect(HashSet<Integer>::new,
+                HashSet::add, HashSet::addAll);
+            for (String family : fontFamily) {
+                usedFonts.computeIfAbsent(family, key -> new HashSet<>()).addAll(codePoints);
+            }
+        }
+        optimizeAttributes(element, element == root);
+
+        boolean keepWhitespace = TEXT_ELEMENTS.contains(element.getLocalName());
+        Node child = element.getFirstChild();
+        while (child != null) {
+            Node next = child.getNextSibling();
+            switch (child.getNodeType()) {
+                case Node.COMMENT_NODE, Node.PROCESSING_INSTRUCTION_NODE -> element.removeChild(child);
+                case Node.TEXT_NODE -> {
+                    if (!keepWhitespace && child.getNodeValue().isBlank()) {
+                        element.removeChild(child);
+                    }
+                }
+                case Node.ELEMENT_NODE -> {
+                    if ("metadata".equals(child.getLocalName())) {
+                        element.removeChild(child);
+                    } else {
+                        optimizeNode((Element) child, root, usedFonts, styles);
+                    }
+                }
+                default -> {
+                }
+            }
+            child = next;
+        }
+    }
+
+    private static void optimizeAttributes(Element element, boolean isRoot) {
+        var attributes = element.getAttributes();
+        List<Attr> redundant = new ArrayList<>();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            var attribute = (Attr) attributes.item(i);
+            var name = attribute.getName();
+            var value = attribute.getValue().trim();
+            if (value.equals(DEFAULT_ATTRIBUTES.get(name))) {
+                redundant.add(attribute);
+            } else if (!isRoot && NUMERIC_ATTRIBUTES.contains(name)) {
+                attribute.setValue(roundNumbers(value));
+            }
+        }
+        redundant.forEach(element::removeAttributeNode);
+    }
+
+    /**
+     * 元素使用的字体族，来自 font-family 属性或 style 属性
+     */
+    private static List<String> fontFamilyOf(Element element) {
+        String value = element.getAttribute("font-family");
+        if (value.isEmpty()) {
+            Matcher matcher = STYLE_FONT_FAMILY.matcher(element.getAttribute("style"));
+            if (!matcher.find()) {
+                return null;
+            }
+            value = matcher.group(1);
+        }
+        return parseFamilies(value);
+    }
+
+    private static List<String> parseFamilies(String value) {
+        List<String> families = new ArrayList<>();
+        for (String family : value.split(",")) {
+            var name = family.trim().replace("\"", "").replace("'", "").toLowerCase(Locale.ROOT);
+            if (!name.isEmpty()) {
+                families.add(name);
+            }
+        }
+        return families;
+    }
+
+    static String roundNumbers(String value) {
+        Matcher matcher = DECIMAL.matcher(value);
+        var result = new StringBuilder(value.length());
+        while (matcher.find()) {
+            var number = matcher.group();
+            int dot = number.indexOf('.');
+            boolean exponent = number.indexOf('e') >= 0 || number.indexOf('E') >= 0;
+            String replacement = number;
+            if (exponent || number.length() - dot - 1 > DECIMALS) {
+                var rounded = new BigDecimal(number).setScale(DECIMALS, RoundingMode.HALF_UP).stripTrailingZeros();
+                replacement = rounded.signum() == 0 ? "0" : rounded.toPlainString();
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * 删除未使用的字体定义并合并空白
+     */
+    static String optimizeCss(String css, Map<String, Set<Integer>> usedFonts) {
+        Matcher matcher = FONT_FACE.matcher(css);
+        var result = new StringBuilder(css.length());
+        while (matcher.find()) {
+            var rule = matcher.group();
+            matcher.appendReplacement(result,
+                Matcher.quoteReplacement(isFontFaceUsed(rule, usedFonts) ? rule : ""));
+        }
+        matcher.appendTail(result);
+        return result.toString().replaceAll("\\s+", " ").trim();
+    }
+
+    private static boolean isFontFaceUsed(String rule, Map<String, Set<Integer>> usedFonts) {
+        Matcher family = FONT_FACE_FAMILY.matcher(rule);
+        if (!family.find()) {
+            return true;
+        }
+        var families = parseFamilies(family.group(1));
+        if (families.isEmpty()) {
+            return true;
+        }
+        var codePoints = usedFonts.get(families.get(0));
+        if (codePoints == null) {
+            return false;
+        }
+        Matcher range = UNICODE_RANGE.matcher(rule);
+        if (!range.find()) {
+            return true;
+        }
+        for (String part : range.group(1).split(",")) {
+            int[] bounds = parseRange(part.trim());
+            if (bounds == null) {
+                return true;
+            }
+            for (int codePoint : codePoints) {
+                if (codePoint >= bounds[0] && codePoint <= bounds[1]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 解析 U+4E00-9FFF、U+00??、U+20AC 形式的范围，无法解析时返回 null
+     */
+    private static int[] parseRange(String range) {
+        if (!range.regionMatches(true, 0, "U+", 0, 2)) {
+            return null;
+        }
+        var value = range.substring(2);
+        try {
+            int dash = value.indexOf('-');
+            if (dash > 0) {
+                return new int[] {Integer.parseInt(value.substring(0, dash), 16),
+                    Integer.parseInt(value.substring(dash + 1), 16)};
+            }
+            return new int[] {Integer.parseInt(value.replace('?', '0'), 16),
+                Integer.parseInt(value.replace('?', 'F'), 16)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static DocumentBuilderFactory newDocumentBuilderFactory() throws Exception {
+        var factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        // SVG 来自用户上传，禁止 DOCTYPE 与外部实体
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setXIncludeAware(false);
+        factory.setExpandEntityReferences(false);
+        return factory;
+    }
+
+    private static TransformerFactory newTransformerFactory() {
+        var factory = TransformerFactory.newInstance();
+        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+        return factory;
+    }
+}
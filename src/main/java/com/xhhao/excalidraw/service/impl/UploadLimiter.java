@@ -0,0 +1,87 @@
+package com.xhhao.excalidraw.service.impl;
+
+import com.xhhao.excalidraw.ExcalidrawMetrics;
+import com.xhhao.excalidraw.service.UploadRejectedException;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 附件上传的并发控制
+ *
+ * <p>上传在插件独立的调度器上执行，线程数和排队数都有上限，不占用 Halo 共享的 boundedElastic。
+ * 同时执行和排队的上传总数、单个用户的上传数超过上限时立即以 429 拒绝，不进入队列等待，
+ * 客户端按 Retry-After 重试。
+ *
+ * @author Handsome
+ */
+@Component
+@RequiredArgsConstructor
+class UploadLimiter {
+
+    static final int MAX_CONCURRENT_UPLOADS = 16;
+    static final int MAX_QUEUED_UPLOADS = 64;
+    /**
+     * 不小于预览图批量重新生成任务的最大并发数，后台任务以同一用户上传时不会被单用户上限拒绝
+     */
+    static final int MAX_UPLOADS_PER_USER = 8;
+
+    private final Scheduler scheduler = Schedulers.newBoundedElastic(MAX_CONCURRENT_UPLOADS,
+        MAX_QUEUED_UPLOADS, "excalidraw-upload", 60, true);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Integer> inFlightByUser = new ConcurrentHashMap<>();
+
+    private final ExcalidrawMetrics metrics;
+
+    /**
+     * 上传使用的调度器，上传过程中的 CPU 处理（如 SVG 压缩）也在此执行
+     */
+    Scheduler scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * 在上传调度器上执行，超过上限时返回 {@link UploadRejectedException}
+     */
+    <T> Mono<T> limit(String userName, Mono<T> upload) {
+        return Mono.defer(() -> {
+            if (inFlight.incrementAndGet() > MAX_CONCURRENT_UPLOADS + MAX_QUEUED_UPLOADS) {
+                inFlight.decrementAndGet();
+                metrics.recordUploadRejected("global");
+                return Mono.error(new UploadRejectedException("上传繁忙，请稍后重试"));
+            }
+            if (inFlightByUser.merge(userName, 1, Integer::sum) > MAX_UPLOADS_PER_USER) {
+                release(userName);
+                metrics.recordUploadRejected("user");
+                return Mono.error(new UploadRejectedException("上传过于频繁，请稍后重试"));
+            }
+            return upload
+                .subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class,
+                    e -> new UploadRejectedException("上传繁忙，请稍后重试"))
+                .doFinally(signal -> release(userName));
+        });
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private void release(String userName) {
+        inFlight.decrementAndGet();
+        inFlightByUser.computeIfPresent(userName, (key, count) -> count <= 1 ? null : count - 1);
+    }
+
+    @PreDestroy
+    void destroy() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * 文章中延迟加载的绘图：占位区域进入可视区域后请求预览片段并整体替换
+ *
+ * 同一页面引入多次时只执行一次；局部刷新内容的主题可调用 window.excalidrawLazyLoad() 重新扫描。
+ */
+(function () {
+  if (window.excalidrawLazyLoad) {
+    return
+  }
+  var ENDPOINT = '/apis/api.excalidraw.xhhao.com/v1alpha1/drawingpreviews/'
+  var SELECTOR = 'figure.excalidraw-lazy[data-name][data-token]:not([data-loading])'
+
+  function resolve(placeholder) {
+    placeholder.setAttribute('data-loading', 'true')
+    fetch(
+      ENDPOINT +
+        encodeURIComponent(placeholder.getAttribute('data-name')) +
+        '?token=' +
+        encodeURIComponent(placeholder.getAttribute('data-token'))
+    )
+      .then(function (response) {
+        if (!response.ok) {
+          throw new Error(response.status)
+        }
+        return response.text()
+      })
+      .then(function (html) {
+        var template = document.createElement('template')
+        template.innerHTML = html.trim()
+        placeholder.replaceWith(template.content)
+      })
+      .catch(function () {
+        placeholder.textContent = '绘图加载失败'
+      })
+  }
+
+  var observer =
+    'IntersectionObserver' in window
+      ? new IntersectionObserver(
+          function (entries) {
+            entries.forEach(function (entry) {
+              if (entry.isIntersecting) {
+                observer.unobserve(entry.target)
+                resolve(entry.target)
+              }
+            })
+          },
+          { rootMargin: '200px 0px' }
+        )
+      : null
+
+  function scan() {
+    document.querySelectorAll(SELECTOR).forEach(function (placeholder) {
+      if (observer) {
+        observer.observe(placeholder)
+      } else {
+        resolve(placeholder)
+      }
+    })
+  }
+
+  window.excalidrawLazyLoad = scan
+  if (document.readyState === 'loading') {
+    document.addEventListener('DOMContentLoaded', scan)
+  } else {
+    scan()
+  }
+})()
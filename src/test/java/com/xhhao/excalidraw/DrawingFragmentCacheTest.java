@@ -0,0 +1,71 @@
+package com.xhhao.excalidraw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DrawingFragmentCacheTest {
+
+    private DrawingFragmentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DrawingFragmentCache(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void putAfterInvalidationForNewerVersionIsIgnored() {
+        // 文章渲染读到版本 3，协调器随后处理了版本 4 的更新，旧片段晚于失效写入
+        cache.invalidateIfStale("a", 4L);
+
+        assertFalse(cache.put("a", 3L, "<figure>v3</figure>"));
+        assertNull(cache.get("a"));
+
+        assertTrue(cache.put("a", 4L, "<figure>v4</figure>"));
+        assertEquals("<figure>v4</figure>", cache.get("a"));
+    }
+
+    @Test
+    void invalidateIfStaleRemovesOlderEntries() {
+        cache.put("a", 3L, "<figure>v3</figure>");
+
+        cache.invalidateIfStale("a", 3L);
+        assertEquals("<figure>v3</figure>", cache.get("a"));
+
+        cache.invalidateIfStale("a", 4L);
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void deletedDrawingOnlyAcceptsMissingPlaceholder() {
+        cache.put("a", 3L, "<figure>v3</figure>");
+        cache.invalidateDeleted("a");
+
+        assertFalse(cache.put("a", 3L, "<figure>v3</figure>"));
+        assertTrue(cache.put("a", null, "<div>missing</div>"));
+        assertEquals("<div>missing</div>", cache.get("a"));
+    }
+
+    @Test
+    void recreatedDrawingIsCachedAgain() {
+        cache.invalidateDeleted("a");
+        // 重新创建后版本从头开始，协调器记录新版本后即可缓存
+        cache.invalidateIfStale("a", 1L);
+
+        assertFalse(cache.put("a", null, "<div>missing</div>"));
+        assertTrue(cache.put("a", 1L, "<figure>v1</figure>"));
+        assertEquals("<figure>v1</figure>", cache.get("a"));
+    }
+
+    @Test
+    void untrackedDrawingIsCached() {
+        assertTrue(cache.put("a", 1L, "<figure>v1</figure>"));
+        assertTrue(cache.put("b", null, "<div>missing</div>"));
+        assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,67 @@
+package com.xhhao.excalidraw;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.extension.Secret;
+
+class DrawingPreviewTokensTest {
+
+    @Test
+    void tokenOnlyVerifiesForSignedDrawing() {
+        var signer = new DrawingPreviewTokens.Signer(new byte[32]);
+        var token = signer.sign("drawing-1");
+
+        assertTrue(signer.verify("drawing-1", token));
+        assertFalse(signer.verify("drawing-2", token));
+        assertFalse(signer.verify("drawing-1", null));
+        assertFalse(signer.verify("drawing-1", token.substring(1)));
+    }
+
+    @Test
+    void differentKeysProduceDifferentTokens() {
+        var key = new byte[32];
+        var first = new DrawingPreviewTokens.Signer(key);
+        key[0] = 1;
+        var second = new DrawingPreviewTokens.Signer(key);
+
+        assertNotEquals(first.sign("drawing-1"), second.sign("drawing-1"));
+    }
+
+    @Test
+    void missingKeyIsCreatedOnceAndReused() {
+        var client = mock(ReactiveExtensionClient.class);
+        when(client.fetch(Secret.class, DrawingPreviewTokens.SECRET_NAME)).thenReturn(Mono.empty());
+        when(client.create(any(Secret.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        var tokens = new DrawingPreviewTokens(client);
+
+        var signer = tokens.signer().block();
+
+        assertSame(signer, tokens.signer().block());
+        verify(client, times(1)).create(any(Secret.class));
+        assertTrue(signer.verify("drawing-1", signer.sign("drawing-1")));
+    }
+
+    @Test
+    void drawingNamesFollowMetadataNameFormat() {
+        assertTrue(Drawing.isValidName("drawing-1712345678901"));
+        assertTrue(Drawing.isValidName("a.b-c"));
+        assertFalse(Drawing.isValidName(null));
+        assertFalse(Drawing.isValidName(""));
+        assertFalse(Drawing.isValidName("Drawing"));
+        assertFalse(Drawing.isValidName("-drawing"));
+        assertFalse(Drawing.isValidName("../secret"));
+        assertFalse(Drawing.isValidName("a".repeat(254)));
+    }
+}
@@ -0,0 +1,97 @@
+package com.xhhao.excalidraw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.xhhao.excalidraw.DrawingTagScanner.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class DrawingTagScannerTest {
+
+    /**
+     * 扫描器替换前使用的正则，作为对照
+     */
+    private static final Pattern LEGACY_PATTERN = Pattern.compile(
+        "<excalidraw-drawing[^>]*?(?:drawingName|drawingname)\\s*=\\s*[\"']([^\"']+)[\"'][^>]*?>(?:</excalidraw-drawing>)?",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    // 随机内容的组成片段，覆盖标签名、属性名、引号、空白与结束标签的各种组合
+    private static final String[] FRAGMENTS = {
+        "<excalidraw-drawing", "<EXCALIDRAW-DRAWING", "<Excalidraw-Drawing", "</excalidraw-drawing>",
+        "</EXCALIDRAW-DRAWING>", " ", "\t", "\n", "drawingName", "drawingname", "DRAWINGNAME", "data-",
+        "=", " = ", "\"", "'", ">", "<", "/>", "drawing-1", "a", "中文", "height=\"120px\"", "<p>", "</p>",
+    };
+
+    @Test
+    void matchesLegacyPatternOnCorpus() throws IOException {
+        String corpus = readCorpus();
+
+        assertSameMatches(corpus);
+        for (String line : corpus.split("\n")) {
+            assertSameMatches(line);
+        }
+    }
+
+    @Test
+    void matchesLegacyPatternOnGeneratedContent() {
+        var random = new Random(20240601L);
+        for (int round = 0; round < 20_000; round++) {
+            var content = new StringBuilder();
+            int fragments = 1 + random.nextInt(24);
+            for (int i = 0; i < fragments; i++) {
+                content.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameMatches(content.toString());
+        }
+    }
+
+    @Test
+    void corpusContainsExpectedTags() throws IOException {
+        var names = DrawingTagScanner.scan(readCorpus()).stream().map(Tag::drawingName).toList();
+
+        assertEquals("drawing-1", names.get(0));
+        assertTrue(names.contains("mixed-quote"));
+        assertTrue(names.contains("UPPER"));
+        assertTrue(names.contains("no-close"));
+        assertFalse(names.contains("dotted-capital-i"));
+    }
+
+    @Test
+    void attributeReadsHeightOnly() {
+        String content = "<excalidraw-drawing data-height=\"1px\" drawingName=\"a\" height=\"240px\"></excalidraw-drawing>";
+        var tag = DrawingTagScanner.scan(content).get(0);
+
+        assertEquals("240px", DrawingTagScanner.attribute(content, tag, "height"));
+        assertNull(DrawingTagScanner.attribute(content, tag, "width"));
+    }
+
+    private static void assertSameMatches(String content) {
+        assertEquals(legacyScan(content), DrawingTagScanner.scan(content), content);
+    }
+
+    private static List<Tag> legacyScan(String content) {
+        List<Tag> tags = new ArrayList<>();
+        Matcher matcher = LEGACY_PATTERN.matcher(content);
+        while (matcher.find()) {
+            tags.add(new Tag(matcher.start(), matcher.end(), matcher.group(1)));
+        }
+        return tags;
+    }
+
+    private static String readCorpus() throws IOException {
+        try (InputStream in = DrawingTagScannerTest.class.getResourceAsStream("/drawing-tags/corpus.html")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.xhhao.excalidraw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.service.SettingConfigGetter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.theme.ReactivePostContentHandler.PostContentContext;
+
+class ExcalidrawContentHandlerTest {
+
+    private static final String CONTENT = """
+        <p>开头</p>
+        <excalidraw-drawing drawingName="drawing-1"></excalidraw-drawing>
+        <excalidraw-drawing drawingName="drawing-2" height="240px"></excalidraw-drawing>
+        <excalidraw-drawing drawingName="drawing-1"></excalidraw-drawing>
+        <excalidraw-drawing drawingName="missing"></excalidraw-drawing>
+        <p>结尾</p>""";
+
+    private ReactiveExtensionClient client;
+    private DrawingFragmentCache fragmentCache;
+    private SettingConfigGetter.PreviewSettings previewSettings;
+    private ExcalidrawContentHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(ReactiveExtensionClient.class);
+        when(client.listAll(eq(Drawing.class), any(), any()))
+            .thenAnswer(invocation -> Flux.just(drawing("drawing-1"), drawing("drawing-2")));
+        fragmentCache = new DrawingFragmentCache(new SimpleMeterRegistry());
+
+        previewSettings = new SettingConfigGetter.PreviewSettings();
+        previewSettings.setInlineMaxSize(0);
+        var config = new SettingConfigGetter.BasicConfig();
+        config.setPreviewSettings(previewSettings);
+        var settingConfigGetter = mock(SettingConfigGetter.class);
+        when(settingConfigGetter.getBasicConfig()).thenReturn(Mono.just(config));
+
+        var previewTokens = mock(DrawingPreviewTokens.class);
+        when(previewTokens.signer()).thenReturn(Mono.just(new DrawingPreviewTokens.Signer(new byte[32])));
+
+        handler = new ExcalidrawContentHandler(client, fragmentCache,
+            new ExcalidrawMetrics(new SimpleMeterRegistry()), settingConfigGetter, new PreviewInlineCache(),
+            null, previewTokens);
+    }
+
+    @Test
+    void allDrawingsInPostAreLoadedWithOneQuery() {
+        var html = render(CONTENT);
+
+        verify(client, times(1)).listAll(eq(Drawing.class), any(), any());
+        verify(client, never()).fetch(eq(Drawing.class), anyString());
+        assertEquals(2, count(html, "/upload/drawing-1.svg"));
+        assertEquals(1, count(html, "/upload/drawing-2.svg"));
+        assertTrue(html.contains("excalidraw-placeholder\" data-name=\"missing\""));
+        assertTrue(html.startsWith("<p>开头</p>"));
+        assertTrue(html.endsWith("<p>结尾</p>"));
+    }
+
+    @Test
+    void cachedFragmentsSkipTheQuery() {
+        render(CONTENT);
+        render(CONTENT);
+
+        verify(client, times(1)).listAll(eq(Drawing.class), any(), any());
+    }
+
+    @Test
+    void contentWithoutDrawingsIsNotQueried() {
+        assertEquals("<p>excalidraw-drawing</p>", render("<p>excalidraw-drawing</p>"));
+
+        verify(client, never()).listAll(eq(Drawing.class), any(), any());
+    }
+
+    @Test
+    void lazyModeOutputsSignedPlaceholdersWithoutQuerying() {
+        previewSettings.setLoadMode("lazy");
+
+        var html = render(CONTENT);
+
+        verify(client, never()).listAll(eq(Drawing.class), any(), any());
+        var signer = new DrawingPreviewTokens.Signer(new byte[32]);
+        assertTrue(html.contains("data-name=\"drawing-2\" data-token=\"" + signer.sign("drawing-2") + "\""));
+        assertTrue(html.contains("min-height:240px;"));
+        assertEquals(1, count(html, "lazy-drawing.js"));
+    }
+
+    @Test
+    void missingDrawingFragmentIsNotCached() {
+        when(client.fetch(Drawing.class, "missing")).thenReturn(Mono.empty());
+
+        var html = handler.renderFragment("missing").block();
+
+        assertTrue(html.contains("excalidraw-placeholder"));
+        assertNull(fragmentCache.get("missing"));
+    }
+
+    @Test
+    void renderedFragmentIsCached() {
+        when(client.fetch(Drawing.class, "drawing-1")).thenReturn(Mono.just(drawing("drawing-1")));
+
+        var html = handler.renderFragment("drawing-1").block();
+
+        assertEquals(html, fragmentCache.get("drawing-1"));
+        assertFalse(html.contains("excalidraw-placeholder"));
+    }
+
+    private String render(String content) {
+        var context = PostContentContext.builder()
+            .content(content)
+            .raw(content)
+            .rawType("html")
+            .build();
+        return handler.handle(context).block().getContent();
+    }
+
+    private static Drawing drawing(String name) {
+        var drawing = new Drawing();
+        var metadata = new Metadata();
+        metadata.setName(name);
+        metadata.setVersion(1L);
+        drawing.setMetadata(metadata);
+        var spec = new Drawing.DrawingSpec();
+        spec.setDisplayName(name);
+        spec.setPreviewUrl("/upload/" + name + ".svg");
+        spec.setPreviewFormat("svg");
+        drawing.setSpec(spec);
+        return drawing;
+    }
+
+    private static int count(String text, String pattern) {
+        int count = 0;
+        for (int i = text.indexOf(pattern); i >= 0; i = text.indexOf(pattern, i + pattern.length())) {
+            count++;
+        }
+        return count;
+    }
+}
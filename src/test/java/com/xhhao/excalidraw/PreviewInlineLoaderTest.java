@@ -0,0 +1,93 @@
+package com.xhhao.excalidraw;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import run.halo.app.core.extension.attachment.Attachment;
+import run.halo.app.core.extension.service.AttachmentService;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.infra.ExternalLinkProcessor;
+
+class PreviewInlineLoaderTest {
+
+    private static final String ATTACHMENT = "preview-1";
+
+    private ReactiveExtensionClient client;
+    private AttachmentService attachmentService;
+    private ExternalLinkProcessor externalLinkProcessor;
+    private PreviewInlineCache inlineCache;
+    private PreviewInlineLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(ReactiveExtensionClient.class);
+        attachmentService = mock(AttachmentService.class);
+        externalLinkProcessor = mock(ExternalLinkProcessor.class);
+        inlineCache = new PreviewInlineCache();
+        loader = new PreviewInlineLoader(inlineCache, new DrawingFragmentCache(new SimpleMeterRegistry()),
+            externalLinkProcessor, client, attachmentService);
+
+        var attachment = new Attachment();
+        var metadata = new Metadata();
+        metadata.setName(ATTACHMENT);
+        attachment.setMetadata(metadata);
+        when(client.fetch(Attachment.class, ATTACHMENT)).thenReturn(Mono.just(attachment));
+        when(attachmentService.getPermalink(attachment)).thenReturn(Mono.just(URI.create("/upload/drawing-1.svg")));
+    }
+
+    @Test
+    void previewUrlNotMatchingAttachmentIsNotRequested() throws InterruptedException {
+        // 通过扩展 API 把预览地址改成内网地址
+        loader.load("drawing-1", ATTACHMENT, "http://169.254.169.254/latest/meta-data/", "image/svg+xml");
+
+        awaitCached();
+        verify(externalLinkProcessor, never()).processLink(anyString());
+        assertNull(inlineCache.get(ATTACHMENT).content());
+    }
+
+    @Test
+    void missingAttachmentIsNotRequested() throws InterruptedException {
+        when(client.fetch(Attachment.class, "other")).thenReturn(Mono.empty());
+
+        loader.load("drawing-1", "other", "/upload/drawing-1.svg", "image/svg+xml");
+
+        awaitCached("other");
+        verify(externalLinkProcessor, never()).processLink(anyString());
+    }
+
+    @Test
+    void relativePermalinkWithoutExternalUrlIsNotInlined() throws InterruptedException {
+        when(externalLinkProcessor.processLink("/upload/drawing-1.svg")).thenReturn("/upload/drawing-1.svg");
+
+        loader.load("drawing-1", ATTACHMENT, "/upload/drawing-1.svg", "image/svg+xml");
+
+        awaitCached();
+        verify(externalLinkProcessor).processLink("/upload/drawing-1.svg");
+        assertNull(inlineCache.get(ATTACHMENT).content());
+    }
+
+    private void awaitCached() throws InterruptedException {
+        awaitCached(ATTACHMENT);
+    }
+
+    /**
+     * 加载结果在后台线程写入缓存
+     */
+    private void awaitCached(String attachmentName) throws InterruptedException {
+        for (int i = 0; i < 100 && inlineCache.get(attachmentName) == null; i++) {
+            Thread.sleep(10);
+        }
+        assertNotNull(inlineCache.get(attachmentName));
+    }
+}
@@ -0,0 +1,113 @@
+package com.xhhao.excalidraw;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class SvgSanitizerTest {
+
+    @Test
+    void scriptsAndEventHandlersAreRemoved() {
+        var html = sanitize("""
+            <svg xmlns="http://www.w3.org/2000/svg" onload="alert(1)">
+            <script>alert(2)</script>
+            <foreignObject><div>x</div></foreignObject>
+            <rect width="10" height="10" onclick="alert(3)" fill="#fff"/>
+            </svg>""");
+
+        assertFalse(html.contains("alert"));
+        assertFalse(html.contains("foreignObject"));
+        assertTrue(html.contains("<rect fill=\"#fff\" height=\"10\" width=\"10\"/>"));
+    }
+
+    @Test
+    void onlyLocalAndBitmapLinksAreKept() {
+        var html = sanitize("""
+            <svg xmlns="http://www.w3.org/2000/svg" xmlns:xlink="http://www.w3.org/1999/xlink">
+            <use href="https://example.com/a.svg#x"/>
+            <use xlink:href="javascript:alert(1)"/>
+            <image href="data:image/svg+xml;base64,PHN2Zy8+"/>
+            <image href="data:image/png;base64,iVBORw0KGgo="/>
+            </svg>""");
+
+        assertFalse(html.contains("example.com"));
+        assertFalse(html.contains("javascript"));
+        assertFalse(html.contains("image/svg"));
+        assertTrue(html.contains("data:image/png;base64,iVBORw0KGgo="));
+    }
+
+    @Test
+    void externalUrlsInAttributesAreRemoved() {
+        var html = sanitize("""
+            <svg xmlns="http://www.w3.org/2000/svg">
+            <rect style="background:url(https://tracker.example/a.png)" width="1"/>
+            <rect fill="url( 'HTTPS://tracker.example/b' )" stroke="#000"/>
+            <rect filter="url(//tracker.example/c)"/>
+            <rect style="background:image-set('https://tracker.example/d.png' 1x)"/>
+            <rect style="background:\\75 rl(https://tracker.example/e.png)"/>
+            <rect fill="url(data:image/svg+xml;base64,PHN2Zy8+)"/>
+            </svg>""");
+
+        assertFalse(html.contains("tracker.example"));
+        assertFalse(html.contains("image/svg"));
+        assertTrue(html.contains("<rect width=\"1\"/>"));
+        assertTrue(html.contains("<rect stroke=\"#000\"/>"));
+    }
+
+    @Test
+    void embeddedUrlsInAttributesAreKept() {
+        var html = sanitize("""
+            <svg xmlns="http://www.w3.org/2000/svg"><defs><pattern id="p"/></defs>
+            <rect fill="url(#p)"/>
+            <rect style="background:url('data:image/png;base64,iVBORw0KGgo=')"/>
+            </svg>""");
+
+        assertTrue(html.contains("fill=\"url(#d1-p)\""));
+        assertTrue(html.contains("data:image/png;base64,iVBORw0KGgo="));
+    }
+
+    @Test
+    void styleKeepsOnlyEmbeddedFontFaces() {
+        var html = sanitize("""
+            <svg xmlns="http://www.w3.org/2000/svg"><style>
+            body { display: none; }
+            @font-face { font-family: A; src: url(data:font/woff2;base64,QQ); }
+            @font-face { font-family: B; src: url(https://example.com/b.woff2); }
+            </style></svg>""");
+
+        assertFalse(html.contains("display"));
+        assertFalse(html.contains("example.com"));
+        assertTrue(html.contains("font-family: A"));
+    }
+
+    @Test
+    void idsAndReferencesArePrefixed() {
+        var html = sanitize("""
+            <svg xmlns="http://www.w3.org/2000/svg"><defs><clipPath id="c"><rect/></clipPath>\
+            <marker id="m"/></defs><path clip-path="url(#c)" marker-end="url('#m')" fill="url(#other)"/>\
+            <use href="#m"/></svg>""");
+
+        assertTrue(html.contains("id=\"d1-c\""));
+        assertTrue(html.contains("clip-path=\"url(#d1-c)\""));
+        assertTrue(html.contains("marker-end=\"url(#d1-m)\""));
+        assertTrue(html.contains("href=\"#d1-m\""));
+        assertTrue(html.contains("fill=\"url(#other)\""));
+    }
+
+    @Test
+    void nonSvgAndInvalidContentIsRejected() {
+        assertNull(sanitize("<html><body/></html>"));
+        assertNull(sanitize("<svg><rect/></svg>"));
+        assertNull(sanitize("<svg xmlns=\"http://www.w3.org/2000/svg\"><g></svg>"));
+        assertNull(sanitize("""
+            <!DOCTYPE svg [<!ENTITY x SYSTEM "file:///etc/passwd">]>
+            <svg xmlns="http://www.w3.org/2000/svg"><text>&x;</text></svg>"""));
+    }
+
+    private static String sanitize(String svg) {
+        return SvgSanitizer.sanitize(svg.getBytes(StandardCharsets.UTF_8), "d1-");
+    }
+}
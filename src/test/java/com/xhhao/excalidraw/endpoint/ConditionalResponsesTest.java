@@ -0,0 +1,88 @@
+package com.xhhao.excalidraw.endpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import reactor.core.publisher.Mono;
+
+class ConditionalResponsesTest {
+
+    @Test
+    void matchingEtagReturnsNotModifiedWithoutLoadingBody() {
+        var loaded = new AtomicBoolean();
+        var request = MockServerRequest.builder()
+            .header(HttpHeaders.IF_NONE_MATCH, "W/\"abc-1\"")
+            .build();
+
+        var response = ConditionalResponses.ok(request, "abc-1", ConditionalResponses.REVALIDATE, () -> {
+            loaded.set(true);
+            return Mono.just("body");
+        }).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.statusCode());
+        assertEquals("W/\"abc-1\"", response.headers().getETag());
+        assertEquals("no-cache, private", response.headers().getCacheControl());
+        assertFalse(loaded.get());
+    }
+
+    @Test
+    void strongEtagFromClientMatchesWeakly() {
+        var request = MockServerRequest.builder()
+            .header(HttpHeaders.IF_NONE_MATCH, "\"abc-1\"")
+            .build();
+
+        var response = ConditionalResponses.ok(request, "abc-1", ConditionalResponses.REVALIDATE,
+            () -> Mono.just("body")).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.statusCode());
+    }
+
+    @Test
+    void changedVersionLoadsBody() {
+        var loaded = new AtomicBoolean();
+        var request = MockServerRequest.builder()
+            .header(HttpHeaders.IF_NONE_MATCH, "W/\"abc-1\"")
+            .build();
+
+        var response = ConditionalResponses.ok(request, "abc-2", ConditionalResponses.REVALIDATE, () -> {
+            loaded.set(true);
+            return Mono.just("body");
+        }).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals("W/\"abc-2\"", response.headers().getETag());
+        assertTrue(loaded.get());
+    }
+
+    @Test
+    void requestWithoutEtagLoadsBody() {
+        var response = ConditionalResponses.ok(MockServerRequest.builder().build(), "abc-1",
+            ConditionalResponses.REVALIDATE, () -> Mono.just("body")).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+    }
+
+    @Test
+    void htmlEtagFollowsContent() {
+        var cacheControl = ConditionalResponses.REVALIDATE;
+        var first = ConditionalResponses.html(MockServerRequest.builder().build(), "<figure>a</figure>",
+            cacheControl).block();
+        var etag = first.headers().getETag();
+
+        var unchanged = ConditionalResponses.html(MockServerRequest.builder()
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .build(), "<figure>a</figure>", cacheControl).block();
+        var changed = ConditionalResponses.html(MockServerRequest.builder()
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .build(), "<figure>b</figure>", cacheControl).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.statusCode());
+        assertEquals(HttpStatus.OK, changed.statusCode());
+    }
+}
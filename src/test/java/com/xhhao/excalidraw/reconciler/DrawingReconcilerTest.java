@@ -0,0 +1,102 @@
+package com.xhhao.excalidraw.reconciler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.xhhao.excalidraw.DrawingFragmentCache;
+import com.xhhao.excalidraw.DrawingListVersion;
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.scene.SceneCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.controller.Reconciler;
+
+@SuppressWarnings("deprecation")
+class DrawingReconcilerTest {
+
+    private static final String NAME = "drawing-1";
+    private static final String LEGACY_SCENE = "{\"elements\":[{\"id\":\"old\"}],\"files\":{\"f1\":{\"id\":\"f1\"}}}";
+
+    private ExtensionClient client;
+    private DrawingReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(ExtensionClient.class);
+        reconciler = new DrawingReconciler(client, new DrawingFragmentCache(new SimpleMeterRegistry()),
+            new DrawingListVersion(), mock(DrawingSceneIndexer.class), mock(DrawingAttachmentCleaner.class));
+    }
+
+    @Test
+    void sceneSavedBeforeMigrationIsNotOverwritten() {
+        // 迁移前绘图已经保存过，DrawingScene 中是更新的场景
+        var saved = new DrawingScene();
+        saved.setMetadata(metadata());
+        saved.setSpec(new DrawingScene.DrawingSceneSpec());
+        saved.getSpec().setData(SceneCodec.encode("{\"elements\":[{\"id\":\"new\"}]}").data());
+        var drawing = legacyDrawing();
+        when(client.fetch(Drawing.class, NAME)).thenReturn(Optional.of(drawing));
+        when(client.fetch(DrawingScene.class, NAME)).thenReturn(Optional.of(saved));
+
+        reconciler.reconcile(new Reconciler.Request(NAME));
+
+        verify(client, never()).update(any(DrawingScene.class));
+        verify(client, never()).create(any(DrawingScene.class));
+        assertEquals("{\"elements\":[{\"id\":\"new\"}]}", SceneCodec.decode(saved.getSpec().getData(), null));
+        assertNull(drawing.getSpec().getData());
+        verify(client).update(drawing);
+    }
+
+    @Test
+    void missingSceneIsCreatedEncoded() {
+        var drawing = legacyDrawing();
+        var created = new AtomicReference<DrawingScene>();
+        when(client.fetch(Drawing.class, NAME)).thenReturn(Optional.of(drawing));
+        when(client.fetch(DrawingScene.class, NAME)).thenReturn(Optional.empty());
+        doAnswer(invocation -> {
+            created.set(invocation.getArgument(0));
+            return null;
+        }).when(client).create(any(DrawingScene.class));
+
+        reconciler.reconcile(new Reconciler.Request(NAME));
+
+        var spec = created.get().getSpec();
+        assertEquals(LEGACY_SCENE, SceneCodec.decode(spec.getData(), spec.getFiles()));
+        assertEquals(1, spec.getFiles().size());
+        assertNull(drawing.getSpec().getData());
+    }
+
+    private static Drawing legacyDrawing() {
+        var drawing = new Drawing();
+        drawing.setMetadata(metadata());
+        // 已有 finalizer，协调时只有迁移会更新绘图
+        drawing.getMetadata().setFinalizers(new HashSet<>(Set.of(Drawing.CLEANUP_FINALIZER)));
+        drawing.setSpec(new Drawing.DrawingSpec());
+        drawing.getSpec().setData(LEGACY_SCENE);
+        var status = new Drawing.DrawingStatus();
+        status.setElementCount(1);
+        drawing.setStatus(status);
+        return drawing;
+    }
+
+    private static Metadata metadata() {
+        var metadata = new Metadata();
+        metadata.setName(NAME);
+        metadata.setVersion(1L);
+        return metadata;
+    }
+}
@@ -0,0 +1,64 @@
+package com.xhhao.excalidraw.reconciler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.scene.SceneCodec;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.controller.Reconciler;
+
+class DrawingSceneReconcilerTest {
+
+    private static final String NAME = "drawing-1";
+
+    private ExtensionClient client;
+    private DrawingSceneIndexer sceneIndexer;
+    private DrawingSceneReconciler reconciler;
+    private DrawingScene scene;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(ExtensionClient.class);
+        sceneIndexer = mock(DrawingSceneIndexer.class);
+        reconciler = new DrawingSceneReconciler(client, sceneIndexer);
+        scene = new DrawingScene();
+        var metadata = new Metadata();
+        metadata.setName(NAME);
+        scene.setMetadata(metadata);
+        scene.setSpec(new DrawingScene.DrawingSceneSpec());
+        scene.getSpec().setData(SceneCodec.encode("{\"elements\":[]}").data());
+        when(client.fetch(DrawingScene.class, NAME)).thenReturn(Optional.of(scene));
+    }
+
+    @Test
+    void sceneWithoutDrawingIsDeleted() {
+        when(client.fetch(Drawing.class, NAME)).thenReturn(Optional.empty());
+
+        reconciler.reconcile(new Reconciler.Request(NAME));
+
+        verify(client).delete(scene);
+        verify(sceneIndexer, never()).index(anyString());
+    }
+
+    @Test
+    void sceneOfExistingDrawingIsIndexed() {
+        var drawing = new Drawing();
+        drawing.setMetadata(new Metadata());
+        when(client.fetch(Drawing.class, NAME)).thenReturn(Optional.of(drawing));
+
+        reconciler.reconcile(new Reconciler.Request(NAME));
+
+        verify(client, never()).delete(any(DrawingScene.class));
+        verify(sceneIndexer).index(NAME);
+    }
+}
@@ -0,0 +1,44 @@
+package com.xhhao.excalidraw.reconciler;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import org.junit.jupiter.api.Test;
+
+class PreviewRegenerationJobReconcilerTest {
+
+    @Test
+    void previewFallenBackToSvgCountsAsRequestedFormat() {
+        // 请求 png，但场景含文字时实际保存为 svg
+        var spec = spec("svg", "png");
+
+        assertTrue(PreviewRegenerationJobReconciler.generatedAs(spec, "png"));
+        assertFalse(PreviewRegenerationJobReconciler.generatedAs(spec, "svg"));
+    }
+
+    @Test
+    void previewWithoutRequestedFormatUsesActualFormat() {
+        var spec = spec("png", null);
+
+        assertTrue(PreviewRegenerationJobReconciler.generatedAs(spec, "PNG"));
+        assertFalse(PreviewRegenerationJobReconciler.generatedAs(spec, "svg"));
+    }
+
+    @Test
+    void drawingWithoutPreviewIsRegenerated() {
+        var spec = spec("png", "png");
+        spec.setPreviewUrl(null);
+
+        assertFalse(PreviewRegenerationJobReconciler.generatedAs(spec, "png"));
+        assertFalse(PreviewRegenerationJobReconciler.generatedAs(null, "png"));
+    }
+
+    private static Drawing.DrawingSpec spec(String format, String requestedFormat) {
+        var spec = new Drawing.DrawingSpec();
+        spec.setPreviewUrl("/upload/drawing-1." + format);
+        spec.setPreviewFormat(format);
+        spec.setPreviewRequestedFormat(requestedFormat);
+        return spec;
+    }
+}
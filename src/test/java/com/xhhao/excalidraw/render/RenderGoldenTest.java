@@ -0,0 +1,101 @@
+package com.xhhao.excalidraw.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 渲染结果与 {@code src/test/resources/render} 中的基准文件对比
+ *
+ * <p>SVG 逐字比较；位图的抗锯齿在不同 JDK 间略有差异，按像素差异比例比较。
+ * 修改渲染规则后需重新生成基准文件并检查差异。
+ */
+class RenderGoldenTest {
+
+    // 通道差超过此值的像素视为不同
+    private static final int CHANNEL_TOLERANCE = 48;
+    // 允许不同的像素比例
+    private static final double MAX_DIFFERENT_PIXELS = 0.01;
+
+    @Test
+    void shapesSvgMatchesGolden() throws IOException {
+        assertEquals(read("shapes.svg"), SvgSceneRenderer.render(scene("shapes.excalidraw")));
+    }
+
+    @Test
+    void textSvgMatchesGolden() throws IOException {
+        assertEquals(read("text.svg"), SvgSceneRenderer.render(scene("text.excalidraw")));
+    }
+
+    @Test
+    void shapesPngMatchesGolden() throws IOException {
+        var expected = ImageIO.read(new ByteArrayInputStream(bytes("shapes.png")));
+        var png = RasterSceneRenderer.renderPng(scene("shapes.excalidraw"));
+        var actual = ImageIO.read(new ByteArrayInputStream(png));
+
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        double different = differentPixels(expected, actual);
+        assertTrue(different <= MAX_DIFFERENT_PIXELS, "不同像素比例 " + different);
+    }
+
+    @Test
+    void textDetection() throws IOException {
+        assertTrue(RasterSceneRenderer.hasText(scene("text.excalidraw")));
+        assertFalse(RasterSceneRenderer.hasText(scene("shapes.excalidraw")));
+    }
+
+    @Test
+    void largeSceneIsScaledToPixelLimit() {
+        var scene = ExcalidrawScene.parse("""
+            {"elements":[{"type":"rectangle","x":0,"y":0,"width":20000,"height":12000}]}""");
+
+        int[] size = RasterSceneRenderer.size(scene, RasterSceneRenderer.DEFAULT_SCALE);
+
+        // 向上取整最多各多出一个像素
+        assertTrue((double) (size[0] - 1) * (size[1] - 1) <= RasterSceneRenderer.MAX_PIXELS);
+        assertTrue(RasterSceneRenderer.MEMORY_BUDGET_BYTES >= (long) RasterSceneRenderer.MAX_PIXELS * 4);
+    }
+
+    private static double differentPixels(BufferedImage expected, BufferedImage actual) {
+        long different = 0;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int a = expected.getRGB(x, y);
+                int b = actual.getRGB(x, y);
+                for (int shift = 0; shift < 32; shift += 8) {
+                    if (Math.abs(((a >>> shift) & 0xff) - ((b >>> shift) & 0xff)) > CHANNEL_TOLERANCE) {
+                        different++;
+                        break;
+                    }
+                }
+            }
+        }
+        return (double) different / ((long) expected.getWidth() * expected.getHeight());
+    }
+
+    private static ExcalidrawScene scene(String name) throws IOException {
+        return ExcalidrawScene.parse(read(name));
+    }
+
+    private static String read(String name) throws IOException {
+        return new String(bytes(name), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String name) throws IOException {
+        try (InputStream in = RenderGoldenTest.class.getResourceAsStream("/render/" + name)) {
+            if (in == null) {
+                throw new IOException("缺少基准文件 " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
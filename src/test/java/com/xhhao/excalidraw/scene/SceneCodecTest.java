@@ -0,0 +1,109 @@
+package com.xhhao.excalidraw.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.Test;
+
+class SceneCodecTest {
+
+    private static final String FILE_1 = "{\"id\":\"f1\",\"mimeType\":\"image/png\",\"dataURL\":\"data:image/png;base64,AAAA\"}";
+    private static final String FILE_2 = "{\"id\":\"f2\",\"dataURL\":\"data:image/png;base64,BBBB\"}";
+
+    @Test
+    void roundTripKeepsFieldPosition() {
+        for (String scene : List.of(
+            "{\"type\":\"excalidraw\",\"elements\":[],\"files\":{\"f1\":" + FILE_1 + ",\"f2\":" + FILE_2 + "}}",
+            "{\"type\":\"excalidraw\",\"files\":{\"f1\":" + FILE_1 + ",\"f2\":" + FILE_2 + "},\"appState\":{}}",
+            "{\"files\":{\"f1\":" + FILE_1 + "},\"elements\":[{\"id\":\"a\",\"x\":1.50}]}",
+            "{\n  \"type\": \"excalidraw\",\n  \"files\": {\"f1\":" + FILE_1 + "},\n  \"elements\": []\n}")) {
+            var encoded = SceneCodec.encode(scene);
+
+            assertFalse(encoded.data().contains("AAAA"), scene);
+            assertEquals(scene, SceneCodec.decode(encoded.data(), encoded.files()));
+        }
+    }
+
+    @Test
+    void filesAreStoredSeparately() {
+        var encoded = SceneCodec.encode(
+            "{\"elements\":[],\"files\":{\"f1\":" + FILE_1 + ",\"f2\":" + FILE_2 + "},\"appState\":{}}");
+
+        assertEquals(Map.of("f1", FILE_1, "f2", FILE_2), encoded.files());
+        assertEquals("{\"elements\":[],\"files\":{},\"appState\":{}}", SceneCodec.decode(encoded.data(), null));
+    }
+
+    @Test
+    void scenesWithoutFilesAreUnchanged() {
+        for (String scene : List.of(
+            "{\"elements\":[],\"files\":{},\"appState\":{}}",
+            "{\"elements\":[],\"appState\":{}}",
+            "{}",
+            "[1,2]",
+            "not json")) {
+            var encoded = SceneCodec.encode(scene);
+
+            assertNull(encoded.files(), scene);
+            assertTrue(encoded.data().startsWith(SceneCodec.DEFLATE_PREFIX));
+            assertEquals(scene, SceneCodec.decode(encoded.data(), encoded.files()));
+        }
+    }
+
+    @Test
+    void filesOfDataEncodedWithoutPlaceholderAreAppended() {
+        // 早期编码连同 files 字段一起去掉
+        var data = deflated("{\"elements\":[],\"appState\":{}}");
+        var files = new LinkedHashMap<String, String>();
+        files.put("f1", FILE_1);
+
+        assertEquals("{\"elements\":[],\"appState\":{},\"files\":{\"f1\":" + FILE_1 + "}}",
+            SceneCodec.decode(data, files));
+        assertEquals("{\"files\":{\"f1\":" + FILE_1 + "}}", SceneCodec.decode(deflated("{}"), files));
+    }
+
+    @Test
+    void removedFilesLeaveEmptyPlaceholder() {
+        var encoded = SceneCodec.encode("{\"files\":{\"f1\":" + FILE_1 + "},\"appState\":{}}");
+
+        assertEquals("{\"files\":{},\"appState\":{}}", SceneCodec.decode(encoded.data(), Map.of()));
+    }
+
+    @Test
+    void legacyDataIsReturnedAsIs() {
+        var legacy = "{\"elements\":[]}";
+
+        assertTrue(SceneCodec.isLegacy(legacy));
+        assertFalse(SceneCodec.isLegacy(SceneCodec.encode(legacy).data()));
+        assertEquals(legacy, SceneCodec.decode(legacy, Map.of("f1", FILE_1)));
+        assertNull(SceneCodec.decode(null, null));
+    }
+
+    @Test
+    void corruptedDataIsRejected() {
+        var truncated = SceneCodec.encode("{\"elements\":[]}").data();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> SceneCodec.decode(truncated.substring(0, truncated.length() - 4), null));
+        assertThrows(IllegalArgumentException.class, () -> SceneCodec.decode("deflate:%%%", null));
+    }
+
+    private static String deflated(String json) {
+        var deflater = new Deflater(Deflater.BEST_SPEED, true);
+        deflater.setInput(json.getBytes(StandardCharsets.UTF_8));
+        deflater.finish();
+        var buffer = new byte[1024];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+        return SceneCodec.DEFLATE_PREFIX + Base64.getEncoder().encodeToString(Arrays.copyOf(buffer, length));
+    }
+}
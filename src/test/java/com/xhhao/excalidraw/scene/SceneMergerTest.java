@@ -0,0 +1,149 @@
+package com.xhhao.excalidraw.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import run.halo.app.infra.utils.JsonUtils;
+
+class SceneMergerTest {
+
+    private static final String SCENE = """
+        {"type":"excalidraw","version":2,"elements":[\
+        {"id":"a","version":1,"versionNonce":11},\
+        {"id":"b","version":1,"versionNonce":21},\
+        {"id":"c","version":1,"versionNonce":31}],\
+        "appState":{},"files":{"f1":{"id":"f1"},"f2":{"id":"f2"}}}""";
+
+    @Test
+    void staleBaseVersionRejectsWholeBatch() {
+        var patch = patch(
+            update("a", 1, 2, 12),
+            update("b", 0, 2, 22));
+
+        var conflict = assertThrows(SceneConflictException.class, () -> SceneMerger.merge(SCENE, patch));
+
+        assertEquals(List.of("b"), conflict.getElementIds());
+    }
+
+    @Test
+    void replayedPatchIsIdempotent() {
+        var patch = patch(
+            update("a", 1, 2, 12),
+            delete("b", 1),
+            add("d", 1, 41));
+        patch.setRemovedFiles(List.of("f1"));
+
+        var first = SceneMerger.merge(SCENE, patch);
+        var second = SceneMerger.merge(first.data(), patch);
+
+        assertEquals(1, first.added());
+        assertEquals(1, first.updated());
+        assertEquals(1, first.deleted());
+        assertEquals(first.data(), second.data());
+        assertEquals(3, second.unchanged());
+        assertEquals(0, second.added() + second.updated() + second.deleted());
+    }
+
+    @Test
+    void deletedElementIsRemoved() {
+        var result = SceneMerger.merge(SCENE, patch(delete("b", 1)));
+
+        assertEquals(List.of("a", "c"), ids(result));
+        assertEquals(1, result.deleted());
+    }
+
+    @Test
+    void deletingChangedElementConflicts() {
+        var patch = patch(delete("b", 0));
+
+        assertThrows(SceneConflictException.class, () -> SceneMerger.merge(SCENE, patch));
+    }
+
+    @Test
+    void orderReordersElementsWithoutVersionChanges() {
+        var patch = patch();
+        patch.setOrder(List.of("c", "a", "b"));
+
+        var result = SceneMerger.merge(SCENE, patch);
+
+        assertEquals(List.of("c", "a", "b"), ids(result));
+        assertEquals(0, result.updated());
+    }
+
+    @Test
+    void elementsMissingFromOrderKeepTheirPositionAtTheEnd() {
+        // d 由其他会话新增，提交 order 的客户端还不知道它
+        var stored = SceneMerger.merge(SCENE, patch(add("d", 1, 41))).data();
+        var patch = patch(add("e", 1, 51));
+        patch.setOrder(List.of("e", "c", "b", "a", "x"));
+
+        var result = SceneMerger.merge(stored, patch);
+
+        assertEquals(List.of("e", "c", "b", "a", "d"), ids(result));
+    }
+
+    @Test
+    void newElementsAreAppendedWithoutOrder() {
+        var result = SceneMerger.merge(SCENE, patch(add("d", 1, 41)));
+
+        assertEquals(List.of("a", "b", "c", "d"), ids(result));
+    }
+
+    @Test
+    void removedFilesAreDroppedBeforeAddingFiles() {
+        var patch = patch();
+        patch.setRemovedFiles(List.of("f1", "f2"));
+        patch.setFiles(Map.of("f2", Map.of("id", "f2", "mimeType", "image/png")));
+
+        var files = parse(SceneMerger.merge(SCENE, patch).data()).path("files");
+
+        assertEquals(1, files.size());
+        assertEquals("image/png", files.path("f2").path("mimeType").asText());
+    }
+
+    private static ScenePatch patch(ScenePatch.ElementChange... changes) {
+        var patch = new ScenePatch();
+        patch.setChanges(new ArrayList<>(List.of(changes)));
+        return patch;
+    }
+
+    private static ScenePatch.ElementChange update(String id, long baseVersion, long version, long nonce) {
+        var change = add(id, version, nonce);
+        change.setBaseVersion(baseVersion);
+        return change;
+    }
+
+    private static ScenePatch.ElementChange add(String id, long version, long nonce) {
+        var change = new ScenePatch.ElementChange();
+        change.setId(id);
+        change.setElement(Map.of("id", id, "version", version, "versionNonce", nonce));
+        return change;
+    }
+
+    private static ScenePatch.ElementChange delete(String id, long baseVersion) {
+        var change = new ScenePatch.ElementChange();
+        change.setId(id);
+        change.setBaseVersion(baseVersion);
+        change.setDeleted(true);
+        return change;
+    }
+
+    private static List<String> ids(SceneMerger.Result result) {
+        var ids = new ArrayList<String>();
+        parse(result.data()).path("elements").forEach(element -> ids.add(element.path("id").asText()));
+        return ids;
+    }
+
+    private static JsonNode parse(String json) {
+        try {
+            return JsonUtils.DEFAULT_JSON_MAPPER.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
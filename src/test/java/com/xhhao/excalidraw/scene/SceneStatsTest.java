@@ -0,0 +1,45 @@
+package com.xhhao.excalidraw.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import run.halo.app.infra.utils.JsonUtils;
+
+class SceneStatsTest {
+
+    @Test
+    void decodedSizeFollowsBase64Padding() {
+        assertEquals(3, SceneStats.decodedSize("data:image/png;base64,AAAA"));
+        assertEquals(2, SceneStats.decodedSize("data:image/png;base64,AAA="));
+        assertEquals(1, SceneStats.decodedSize("data:image/png;base64,AA=="));
+        assertEquals(5, SceneStats.decodedSize("data:text/plain,hello"));
+        assertEquals(0, SceneStats.decodedSize("invalid"));
+    }
+
+    @Test
+    void fileSizeReadsDataUrlFromFileJson() {
+        assertEquals(2, SceneStats.fileSize("{\"id\":\"f1\",\"created\":{\"at\":1},\"dataURL\":\"data:image/png;base64,AAA=\"}"));
+        assertEquals(3, SceneStats.fileSize("{\"dataURL\" : \"data:image/png;base64,AAAA\",\"id\":\"f1\"}"));
+        // 含转义字符时按字符串内容计算
+        assertEquals(6, SceneStats.fileSize("{\"dataURL\":\"data:text/plain,a\\\"b\\u0063\\\\e\"}"));
+        assertEquals(0, SceneStats.fileSize("{\"id\":\"f1\"}"));
+        assertEquals(0, SceneStats.fileSize("{\"dataURL\":null}"));
+        assertEquals(0, SceneStats.fileSize("not json"));
+    }
+
+    @Test
+    void separatelyStoredFilesAreCounted() throws Exception {
+        var root = JsonUtils.DEFAULT_JSON_MAPPER.readTree("""
+            {"elements":[{"type":"text","x":0,"y":0,"width":10,"height":10,"text":"中文ab"}],\
+            "files":{"ignored":{"dataURL":"data:image/png;base64,AAAAAAAA"}}}""");
+
+        var stats = SceneStats.of(root, Map.of(
+            "f1", "{\"dataURL\":\"data:image/png;base64,AAAA\"}",
+            "f2", "{\"dataURL\":\"data:image/png;base64,AA==\"}"));
+
+        assertEquals(4, stats.imageBytes());
+        assertEquals(4, stats.textLength());
+        assertEquals(1, stats.elementCount());
+    }
+}
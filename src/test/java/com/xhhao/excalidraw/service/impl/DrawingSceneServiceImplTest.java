@@ -0,0 +1,134 @@
+package com.xhhao.excalidraw.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.scene.SceneCodec;
+import com.xhhao.excalidraw.scene.ScenePatch;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+
+class DrawingSceneServiceImplTest {
+
+    private static final String NAME = "drawing-1";
+    private static final String SCENE = """
+        {"type":"excalidraw","elements":[{"id":"a","version":1,"versionNonce":1}],\
+        "appState":{},"files":{"f1":{"id":"f1"},"f2":{"id":"f2"}}}""";
+
+    @Test
+    void patchRemovesStoredFiles() {
+        var updated = patch(removedFiles("f1"));
+
+        assertEquals(Set.of("f2"), updated.getSpec().getFiles().keySet());
+    }
+
+    @Test
+    void removingAllFilesClearsStoredFiles() {
+        var updated = patch(removedFiles("f1", "f2"));
+
+        assertNull(updated.getSpec().getFiles());
+    }
+
+    @Test
+    void patchKeepsStoredFilesAndAddsNewOnes() {
+        var patch = new ScenePatch();
+        patch.setFiles(Map.of("f3", Map.of("id", "f3")));
+
+        var updated = patch(patch);
+
+        assertEquals(Set.of("f1", "f2", "f3"), updated.getSpec().getFiles().keySet());
+    }
+
+    @Test
+    void migrationKeepsExistingScene() {
+        var client = mock(ReactiveExtensionClient.class);
+        var stored = DrawingSceneServiceImpl.newScene(NAME, SceneCodec.encode(SCENE));
+        when(client.fetch(DrawingScene.class, NAME)).thenReturn(Mono.just(stored));
+
+        new DrawingSceneServiceImpl(client).migrateLegacySceneData(NAME, "{\"elements\":[]}").block();
+
+        verify(client, never()).update(any(DrawingScene.class));
+        verify(client, never()).create(any(DrawingScene.class));
+    }
+
+    @Test
+    void migrationCreatesEncodedScene() {
+        var client = mock(ReactiveExtensionClient.class);
+        var created = new AtomicReference<DrawingScene>();
+        when(client.fetch(DrawingScene.class, NAME)).thenReturn(Mono.empty());
+        when(client.fetch(Drawing.class, NAME)).thenReturn(Mono.just(drawing()));
+        when(client.create(any(DrawingScene.class))).thenAnswer(invocation -> {
+            created.set(invocation.getArgument(0));
+            return Mono.just(invocation.getArgument(0));
+        });
+
+        new DrawingSceneServiceImpl(client).migrateLegacySceneData(NAME, SCENE).block();
+
+        var spec = created.get().getSpec();
+        assertEquals(Set.of("f1", "f2"), spec.getFiles().keySet());
+        assertEquals(SCENE, SceneCodec.decode(spec.getData(), spec.getFiles()));
+    }
+
+    @Test
+    void sceneIsNotCreatedWithoutDrawing() {
+        var client = mock(ReactiveExtensionClient.class);
+        when(client.fetch(DrawingScene.class, NAME)).thenReturn(Mono.empty());
+        when(client.fetch(Drawing.class, NAME)).thenReturn(Mono.empty());
+        var service = new DrawingSceneServiceImpl(client);
+
+        var saveError = service.saveSceneData(NAME, SCENE).materialize().block().getThrowable();
+        var patchError = service.patchSceneData(NAME, new ScenePatch()).materialize().block().getThrowable();
+
+        for (var error : List.of(saveError, patchError)) {
+            var notFound = assertInstanceOf(ResponseStatusException.class, error);
+            assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        }
+        verify(client, never()).create(any(DrawingScene.class));
+    }
+
+    private static Drawing drawing() {
+        var drawing = new Drawing();
+        var metadata = new Metadata();
+        metadata.setName(NAME);
+        drawing.setMetadata(metadata);
+        return drawing;
+    }
+
+    private static ScenePatch removedFiles(String... fileIds) {
+        var patch = new ScenePatch();
+        patch.setRemovedFiles(List.of(fileIds));
+        return patch;
+    }
+
+    private static DrawingScene patch(ScenePatch patch) {
+        var client = mock(ReactiveExtensionClient.class);
+        var encoded = SceneCodec.encode(SCENE);
+        var stored = DrawingSceneServiceImpl.newScene(NAME, encoded);
+        var updated = new AtomicReference<DrawingScene>();
+        when(client.fetch(DrawingScene.class, NAME)).thenReturn(Mono.just(stored));
+        when(client.update(any(DrawingScene.class))).thenAnswer(invocation -> {
+            updated.set(invocation.getArgument(0));
+            return Mono.just(invocation.getArgument(0));
+        });
+
+        new DrawingSceneServiceImpl(client).patchSceneData(NAME, patch).block();
+
+        return updated.get();
+    }
+}
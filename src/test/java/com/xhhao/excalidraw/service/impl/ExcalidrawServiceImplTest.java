@@ -0,0 +1,360 @@
+package com.xhhao.excalidraw.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.xhhao.excalidraw.DrawingListVersion;
+import com.xhhao.excalidraw.ExcalidrawMetrics;
+import com.xhhao.excalidraw.extension.Drawing;
+import com.xhhao.excalidraw.extension.DrawingScene;
+import com.xhhao.excalidraw.scene.SceneMerger;
+import com.xhhao.excalidraw.scene.ScenePatch;
+import com.xhhao.excalidraw.service.DrawingSceneService;
+import com.xhhao.excalidraw.service.ExcalidrawService.BulkDeleteRequest;
+import com.xhhao.excalidraw.service.ExcalidrawService.SaveDrawingRequest;
+import com.xhhao.excalidraw.service.SettingConfigGetter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.publisher.Sinks;
+import run.halo.app.core.extension.attachment.Attachment;
+import run.halo.app.core.extension.service.AttachmentService;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+
+class ExcalidrawServiceImplTest {
+
+    private static final String NAME = "drawing-1";
+    private static final long BASE_REVISION = 3;
+
+    private ReactiveExtensionClient client;
+    private DrawingSceneService drawingSceneService;
+    private ExcalidrawServiceImpl service;
+    private DrawingListVersion listVersion;
+
+    // 模拟扩展存储中的绘图：metadata.version 用于乐观锁
+    private final Object store = new Object();
+    private long version;
+    private long revision;
+    private String previewUrl;
+    private String legacyData;
+    private final List<String> savedScenes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        version = 1;
+        revision = BASE_REVISION;
+        previewUrl = "/upload/old.svg";
+        legacyData = null;
+        client = mock(ReactiveExtensionClient.class);
+        drawingSceneService = mock(DrawingSceneService.class);
+        listVersion = new DrawingListVersion();
+        service = new ExcalidrawServiceImpl(client, null, null, drawingSceneService, null,
+            new ExcalidrawMetrics(new SimpleMeterRegistry()), null, listVersion);
+
+        when(client.get(Drawing.class, NAME)).thenAnswer(invocation -> Mono.fromSupplier(this::snapshot));
+        when(client.update(any(Drawing.class))).thenAnswer(invocation -> Mono.defer(() -> {
+            Drawing drawing = invocation.getArgument(0);
+            synchronized (store) {
+                if (!Objects.equals(drawing.getMetadata().getVersion(), version)) {
+                    return Mono.error(new OptimisticLockingFailureException("version changed"));
+                }
+                version++;
+                revision = drawing.getStatus().getRevision();
+                previewUrl = drawing.getSpec().getPreviewUrl();
+                legacyData = drawing.getSpec().getData();
+                drawing.getMetadata().setVersion(version);
+                return Mono.just(drawing);
+            }
+        }));
+        when(drawingSceneService.saveSceneData(eq(NAME), anyString())).thenAnswer(invocation ->
+            Mono.fromSupplier(() -> {
+                savedScenes.add(invocation.getArgument(1));
+                return new DrawingScene();
+            }));
+    }
+
+    @Test
+    void concurrentSavesWithSameRevisionLeaveLosingSceneUnwritten() {
+        // 两次保存都读到同一个保存次数后才继续，模拟并发
+        var fetched = new AtomicInteger();
+        Sinks.Empty<Void> bothFetched = Sinks.empty();
+        when(client.fetch(Drawing.class, NAME)).thenAnswer(invocation -> {
+            var drawing = snapshot();
+            if (fetched.incrementAndGet() == 2) {
+                bothFetched.tryEmitEmpty();
+            }
+            return Mono.just(drawing).delayUntil(ignored -> bothFetched.asMono());
+        });
+
+        var results = Mono.zip(
+                service.saveDrawing(NAME, request("{\"elements\":[\"a\"]}")).materialize(),
+                service.saveDrawing(NAME, request("{\"elements\":[\"b\"]}")).materialize())
+            .block();
+
+        List<Signal<Drawing>> signals = List.of(results.getT1(), results.getT2());
+        var succeeded = signals.stream().filter(Signal::isOnNext).toList();
+        var failed = signals.stream().filter(Signal::isOnError).toList();
+        assertEquals(1, succeeded.size());
+        assertEquals(1, failed.size());
+        var error = assertInstanceOf(ResponseStatusException.class, failed.get(0).getThrowable());
+        assertEquals(HttpStatus.CONFLICT, error.getStatusCode());
+
+        // 只有成功的保存写入了场景，失败的保存没有覆盖它
+        assertEquals(1, savedScenes.size());
+        var winner = succeeded.get(0) == results.getT1() ? "{\"elements\":[\"a\"]}" : "{\"elements\":[\"b\"]}";
+        assertEquals(winner, savedScenes.get(0));
+        assertEquals(BASE_REVISION + 1, revision);
+    }
+
+    @Test
+    void staleRevisionIsRejectedBeforeSceneIsWritten() {
+        revision = BASE_REVISION + 1;
+        when(client.fetch(Drawing.class, NAME)).thenAnswer(invocation -> Mono.fromSupplier(this::snapshot));
+
+        var error = service.saveDrawing(NAME, request("{\"elements\":[]}"))
+            .materialize()
+            .block()
+            .getThrowable();
+
+        var conflict = assertInstanceOf(ResponseStatusException.class, error);
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+        assertTrue(savedScenes.isEmpty());
+        assertEquals(BASE_REVISION + 1, revision);
+    }
+
+    @Test
+    void failedSceneWriteRevertsRevision() {
+        when(client.fetch(Drawing.class, NAME)).thenAnswer(invocation -> Mono.fromSupplier(this::snapshot));
+        when(drawingSceneService.saveSceneData(eq(NAME), anyString()))
+            .thenReturn(Mono.error(new IllegalStateException("storage unavailable")));
+
+        var error = service.saveDrawing(NAME, request("{\"elements\":[]}"))
+            .materialize()
+            .block()
+            .getThrowable();
+
+        assertInstanceOf(IllegalStateException.class, error);
+        assertEquals(BASE_REVISION, revision);
+        assertEquals("/upload/old.svg", previewUrl);
+    }
+
+    @Test
+    void saveWithoutConflictIncrementsRevision() {
+        when(client.fetch(Drawing.class, NAME)).thenAnswer(invocation -> Mono.fromSupplier(this::snapshot));
+        var listVersionBefore = listVersion.current();
+
+        var saved = service.saveDrawing(NAME, request("{\"elements\":[]}")).block();
+
+        assertEquals(BASE_REVISION + 1, saved.getStatus().getRevision());
+        assertEquals(List.of("{\"elements\":[]}"), savedScenes);
+        // 响应返回时列表 ETag 已经变化，不依赖协调器
+        assertNotEquals(listVersionBefore, listVersion.current());
+    }
+
+    @Test
+    void saveOfUnmigratedDrawingMigratesThenClearsLegacyData() {
+        legacyData = "{\"elements\":[\"old\"]}";
+        when(client.fetch(Drawing.class, NAME)).thenAnswer(invocation -> Mono.fromSupplier(this::snapshot));
+        when(drawingSceneService.migrateLegacySceneData(NAME, legacyData)).thenReturn(Mono.empty());
+
+        service.saveDrawing(NAME, request("{\"elements\":[\"new\"]}")).block();
+
+        // 旧字段已清空，协调器不会再用它覆盖刚保存的场景
+        assertNull(legacyData);
+        var order = inOrder(drawingSceneService);
+        order.verify(drawingSceneService).migrateLegacySceneData(NAME, "{\"elements\":[\"old\"]}");
+        order.verify(drawingSceneService).saveSceneData(NAME, "{\"elements\":[\"new\"]}");
+    }
+
+    @Test
+    void sceneSaveOfMissingDrawingIsNotFound() {
+        when(client.fetch(Drawing.class, NAME)).thenReturn(Mono.empty());
+
+        var error = service.saveScene(NAME, request("{\"elements\":[]}"))
+            .materialize()
+            .block()
+            .getThrowable();
+
+        var notFound = assertInstanceOf(ResponseStatusException.class, error);
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        assertTrue(savedScenes.isEmpty());
+    }
+
+    @Test
+    void sceneSaveWithStaleRevisionIsRejected() {
+        revision = BASE_REVISION + 1;
+        when(client.fetch(Drawing.class, NAME)).thenAnswer(invocation -> Mono.fromSupplier(this::snapshot));
+
+        var error = service.saveScene(NAME, request("{\"elements\":[]}"))
+            .materialize()
+            .block()
+            .getThrowable();
+
+        var conflict = assertInstanceOf(ResponseStatusException.class, error);
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+        assertTrue(savedScenes.isEmpty());
+    }
+
+    @Test
+    void scenePatchIncrementsRevisionAndReturnsMergeResult() {
+        when(client.fetch(Drawing.class, NAME)).thenAnswer(invocation -> Mono.fromSupplier(this::snapshot));
+        var patch = new ScenePatch();
+        var merged = new SceneMerger.Result("{\"elements\":[]}", 1, 0, 0, 0);
+        when(drawingSceneService.patchSceneData(NAME, patch)).thenReturn(Mono.just(merged));
+        var request = new SaveDrawingRequest();
+        request.setRevision(BASE_REVISION);
+        request.setScenePatch(patch);
+        request.setDisplayName("ignored");
+
+        var result = service.saveScene(NAME, request).block();
+
+        assertEquals(merged, result.merge());
+        assertEquals(BASE_REVISION + 1, result.drawing().getStatus().getRevision());
+        assertEquals(NAME, result.drawing().getSpec().getDisplayName());
+        assertEquals(BASE_REVISION + 1, revision);
+    }
+
+    @Test
+    void rejectedSaveKeepsListVersion() {
+        revision = BASE_REVISION + 1;
+        when(client.fetch(Drawing.class, NAME)).thenAnswer(invocation -> Mono.fromSupplier(this::snapshot));
+        var listVersionBefore = listVersion.current();
+
+        service.saveDrawing(NAME, request("{\"elements\":[]}")).materialize().block();
+
+        assertEquals(listVersionBefore, listVersion.current());
+    }
+
+    @Test
+    void bulkDeleteChangesListVersionBeforeResponding() {
+        when(client.fetch(Drawing.class, NAME)).thenAnswer(invocation -> Mono.fromSupplier(this::snapshot));
+        when(client.delete(any(Drawing.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        var listVersionBefore = listVersion.current();
+        var request = new BulkDeleteRequest();
+        request.setNames(List.of(NAME));
+
+        var result = service.deleteDrawings(request).block();
+
+        assertEquals(1, result.getDeleted());
+        assertNotEquals(listVersionBefore, listVersion.current());
+    }
+
+    @Test
+    void previewWithMatchingHashReusesAttachment() {
+        var content = "<svg/>".getBytes(StandardCharsets.UTF_8);
+        var upload = uploadService(ContentHash.of(content));
+
+        var result = upload.service().uploadPreviewImage(NAME, Flux.just(wrap(content)), "svg", false, null,
+            ContentHash.of(content)).block();
+
+        assertEquals("existing-preview", result.getAttachmentName());
+        verify(upload.attachmentService(), never()).upload(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void previewWithForgedHashIsRejected() {
+        // 客户端提交其他附件的哈希，企图让绘图引用不属于它的预览图
+        var forged = ContentHash.of("<svg>other</svg>".getBytes(StandardCharsets.UTF_8));
+        var upload = uploadService(forged);
+        var content = "<svg/>".getBytes(StandardCharsets.UTF_8);
+
+        var error = upload.service().uploadPreviewImage(NAME, Flux.just(wrap(content)), "svg", false, null,
+                forged)
+            .materialize()
+            .block()
+            .getThrowable();
+
+        assertInstanceOf(ServerWebInputException.class, error);
+        verify(upload.attachmentService(), never()).upload(any(), any(), any(), any(), any());
+    }
+
+    /**
+     * 已有一个带指定哈希标签的预览附件
+     */
+    private UploadService uploadService(String existingHash) {
+        var settingConfigGetter = mock(SettingConfigGetter.class);
+        var config = new SettingConfigGetter.BasicConfig();
+        var attachmentSettings = new SettingConfigGetter.AttachmentSettings();
+        attachmentSettings.setFilePolicy("default-policy");
+        config.setAttachmentSettings(attachmentSettings);
+        when(settingConfigGetter.getBasicConfig()).thenReturn(Mono.just(config));
+
+        var attachment = new Attachment();
+        var metadata = new Metadata();
+        metadata.setName("existing-preview");
+        metadata.setLabels(Map.of(ContentHash.LABEL, existingHash));
+        attachment.setMetadata(metadata);
+        var spec = new Attachment.AttachmentSpec();
+        spec.setPolicyName("default-policy");
+        attachment.setSpec(spec);
+        when(client.listAll(eq(Attachment.class), any(), any())).thenReturn(Flux.just(attachment));
+
+        var attachmentService = mock(AttachmentService.class);
+        var metrics = new ExcalidrawMetrics(new SimpleMeterRegistry());
+        var uploadService = new ExcalidrawServiceImpl(client, settingConfigGetter, attachmentService,
+            drawingSceneService, null, metrics, new UploadLimiter(metrics), listVersion);
+        return new UploadService(uploadService, attachmentService);
+    }
+
+    private record UploadService(ExcalidrawServiceImpl service, AttachmentService attachmentService) {
+    }
+
+    private static DataBuffer wrap(byte[] content) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(content);
+    }
+
+    private static SaveDrawingRequest request(String sceneData) {
+        var request = new SaveDrawingRequest();
+        request.setRevision(BASE_REVISION);
+        request.setSceneData(sceneData);
+        request.setPreviewFormat("svg");
+        return request;
+    }
+
+    private Drawing snapshot() {
+        synchronized (store) {
+            var drawing = new Drawing();
+            var metadata = new Metadata();
+            metadata.setName(NAME);
+            metadata.setVersion(version);
+            drawing.setMetadata(metadata);
+            var spec = new Drawing.DrawingSpec();
+            spec.setDisplayName(NAME);
+            spec.setPreviewUrl(previewUrl);
+            spec.setPreviewFormat("svg");
+            spec.setData(legacyData);
+            drawing.setSpec(spec);
+            var status = new Drawing.DrawingStatus();
+            status.setRevision(revision);
+            drawing.setStatus(status);
+            return drawing;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.xhhao.excalidraw.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.xhhao.excalidraw.service.SettingConfigGetter;
+import com.xhhao.excalidraw.service.SettingConfigGetter.BasicConfig;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.ConfigMap;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.infra.utils.JsonUtils;
+import run.halo.app.plugin.PluginConfigUpdatedEvent;
+import run.halo.app.plugin.ReactiveSettingFetcher;
+
+class SettingConfigGetterImplTest {
+
+    private ReactiveSettingFetcher settingFetcher;
+    private ReactiveExtensionClient client;
+    private SettingConfigGetterImpl getter;
+
+    @BeforeEach
+    void setUp() {
+        settingFetcher = mock(ReactiveSettingFetcher.class);
+        client = mock(ReactiveExtensionClient.class);
+        getter = new SettingConfigGetterImpl(settingFetcher, client);
+    }
+
+    @Test
+    void basicConfigIsFetchedOnce() {
+        when(settingFetcher.fetch(BasicConfig.GROUP, BasicConfig.class))
+            .thenReturn(Mono.just(config("svg")));
+
+        getter.getBasicConfig().block();
+        getter.getBasicConfig().block();
+
+        verify(settingFetcher, times(1)).fetch(BasicConfig.GROUP, BasicConfig.class);
+    }
+
+    @Test
+    void updatedSettingsTakeEffectWithoutRefetching() {
+        when(settingFetcher.fetch(BasicConfig.GROUP, BasicConfig.class))
+            .thenReturn(Mono.just(config("svg")));
+        assertEquals("svg", previewFormat());
+
+        getter.onConfigUpdated(updated(Map.of(BasicConfig.GROUP, node(config("png")))));
+
+        assertEquals("png", previewFormat());
+        verify(settingFetcher, times(1)).fetch(BasicConfig.GROUP, BasicConfig.class);
+    }
+
+    @Test
+    void clearedSettingsFallBackToDefaults() {
+        when(settingFetcher.fetch(BasicConfig.GROUP, BasicConfig.class))
+            .thenReturn(Mono.just(config("png")));
+        assertEquals("png", previewFormat());
+
+        getter.onConfigUpdated(updated(Map.of()));
+
+        assertEquals(new BasicConfig(), getter.getBasicConfig().block());
+    }
+
+    @Test
+    void unreadableSettingsAreFetchedAgain() {
+        when(settingFetcher.fetch(BasicConfig.GROUP, BasicConfig.class))
+            .thenReturn(Mono.just(config("svg")), Mono.just(config("png")));
+        assertEquals("svg", previewFormat());
+
+        var invalid = JsonUtils.DEFAULT_JSON_MAPPER.createObjectNode().put("previewSettings", "invalid");
+        getter.onConfigUpdated(updated(Map.of(BasicConfig.GROUP, invalid)));
+
+        assertEquals("png", previewFormat());
+        verify(settingFetcher, times(2)).fetch(BasicConfig.GROUP, BasicConfig.class);
+    }
+
+    @Test
+    void configVersionIsReloadedAfterUpdate() {
+        when(client.fetch(ConfigMap.class, SettingConfigGetter.CONFIG_MAP_NAME))
+            .thenReturn(Mono.just(configMap(1L)), Mono.just(configMap(2L)));
+
+        assertEquals(1L, getter.getConfigVersion().block());
+        assertEquals(1L, getter.getConfigVersion().block());
+
+        getter.onConfigUpdated(updated(Map.of()));
+
+        assertEquals(2L, getter.getConfigVersion().block());
+        verify(client, times(2)).fetch(ConfigMap.class, SettingConfigGetter.CONFIG_MAP_NAME);
+    }
+
+    private String previewFormat() {
+        return getter.getBasicConfig().block().getPreviewSettings().getPreviewFormat();
+    }
+
+    private PluginConfigUpdatedEvent updated(Map<String, JsonNode> newConfig) {
+        return new PluginConfigUpdatedEvent(this, Map.of(), newConfig);
+    }
+
+    private static BasicConfig config(String previewFormat) {
+        var previewSettings = new SettingConfigGetter.PreviewSettings();
+        previewSettings.setPreviewFormat(previewFormat);
+        var config = new BasicConfig();
+        config.setPreviewSettings(previewSettings);
+        return config;
+    }
+
+    private static JsonNode node(BasicConfig config) {
+        return JsonUtils.DEFAULT_JSON_MAPPER.valueToTree(config);
+    }
+
+    private static ConfigMap configMap(long version) {
+        var configMap = new ConfigMap();
+        var metadata = new Metadata();
+        metadata.setName(SettingConfigGetter.CONFIG_MAP_NAME);
+        metadata.setVersion(version);
+        configMap.setMetadata(metadata);
+        return configMap;
+    }
+}
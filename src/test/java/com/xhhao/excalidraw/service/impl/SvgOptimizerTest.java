@@ -0,0 +1,75 @@
+package com.xhhao.excalidraw.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SvgOptimizerTest {
+
+    @Test
+    void exportMatchesGolden() throws IOException {
+        var optimized = SvgOptimizer.optimize(read("export.svg"));
+
+        assertEquals(new String(read("export.optimized.svg"), StandardCharsets.UTF_8),
+            new String(optimized, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void optimizedExportDropsSceneDataAndUnusedFonts() throws IOException {
+        var optimized = new String(SvgOptimizer.optimize(read("export.svg")), StandardCharsets.UTF_8);
+
+        assertFalse(optimized.contains("payload"));
+        assertFalse(optimized.contains("Cascadia"));
+        assertFalse(optimized.contains("U+4E00-9FFF"));
+        // text 元素中的连续空白属于内容
+        assertTrue(optimized.contains(">Hello  world</text>"));
+    }
+
+    @Test
+    void unparseableSvgIsReturnedUnchanged() throws IOException {
+        var broken = read("broken.svg");
+
+        assertArrayEquals(broken, SvgOptimizer.optimize(broken));
+    }
+
+    @Test
+    void doctypeIsRejected() {
+        var svg = """
+            <?xml version="1.0"?>
+            <!DOCTYPE svg [<!ENTITY x SYSTEM "file:///etc/passwd">]>
+            <svg xmlns="http://www.w3.org/2000/svg"><text>&x;</text></svg>""".getBytes(StandardCharsets.UTF_8);
+
+        assertArrayEquals(svg, SvgOptimizer.optimize(svg));
+    }
+
+    @Test
+    void roundNumbersKeepsShortValues() {
+        assertEquals("M1.23 0 L-4.57 10 L0.5 0", SvgOptimizer.roundNumbers("M1.2345 0.0001 L-4.5678 10 L0.5 0"));
+        assertEquals("0", SvgOptimizer.roundNumbers("1.5e-7"));
+    }
+
+    @Test
+    void fontFaceIsKeptOnlyForUsedRanges() {
+        var css = "@font-face { font-family: Virgil; unicode-range: U+00??; }"
+            + " @font-face { font-family: Virgil; unicode-range: U+4E00-9FFF; }";
+
+        assertEquals("@font-face { font-family: Virgil; unicode-range: U+00??; }",
+            SvgOptimizer.optimizeCss(css, Map.of("virgil", Set.of((int) 'A'))));
+        assertEquals(css, SvgOptimizer.optimizeCss(css, Map.of("virgil", Set.of((int) 'A', (int) '中'))));
+        assertEquals("", SvgOptimizer.optimizeCss(css, Map.of()));
+    }
+
+    private static byte[] read(String name) throws IOException {
+        try (InputStream in = SvgOptimizerTest.class.getResourceAsStream("/svg/" + name)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -15,5 +15,7 @@
 
 
 export * from './api/api-excalidraw-xhhao-com-v1alpha1-drawing-api';
+export * from './api/drawing-scene-v1alpha1-api';
 export * from './api/drawing-v1alpha1-api';
+export * from './api/preview-regeneration-job-v1alpha1-api';
 
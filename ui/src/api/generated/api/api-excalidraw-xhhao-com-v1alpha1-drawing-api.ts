@@ -22,10 +22,30 @@ import { DUMMY_BASE_URL, assertParamExists, setApiKeyToObject, setBasicAuthToObj
 // @ts-ignore
 import { BASE_PATH, COLLECTION_FORMATS, type RequestArgs, BaseAPI, RequiredError, operationServerMap } from '../base';
 // @ts-ignore
+import type { BulkDeleteRequest } from '../models';
+// @ts-ignore
+import type { BulkDeleteResult } from '../models';
+// @ts-ignore
+import type { Drawing } from '../models';
+// @ts-ignore
 import type { DrawingList } from '../models';
 // @ts-ignore
+import type { DrawingSummaryPage } from '../models';
+// @ts-ignore
 import type { PreviewFormatResponse } from '../models';
 // @ts-ignore
+import type { PreviewRegenerationJob } from '../models';
+// @ts-ignore
+import type { PreviewRegenerationJobSpec } from '../models';
+// @ts-ignore
+import type { SaveDrawingRequest } from '../models';
+// @ts-ignore
+import type { SceneContent } from '../models';
+// @ts-ignore
+import type { ScenePatch } from '../models';
+// @ts-ignore
+import type { ScenePatchResult } from '../models';
+// @ts-ignore
 import type { UploadPreviewRequest } from '../models';
 // @ts-ignore
 import type { UploadRequest } from '../models';
@@ -38,7 +58,91 @@ import type { UploadResponse } from '../models';
 export const ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator = function (configuration?: Configuration) {
     return {
         /**
-         * 获取预览格式设置
+         * 按名称或标签选择器批量删除绘图，返回每个绘图的处理结果。场景数据、预览附件和 .excalidraw 文件在绘图最终删除前由协调器清理
+         * @param {BulkDeleteRequest} bulkDeleteRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        bulkDeleteDrawings: async (bulkDeleteRequest: BulkDeleteRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'bulkDeleteRequest' is not null or undefined
+            assertParamExists('bulkDeleteDrawings', 'bulkDeleteRequest', bulkDeleteRequest)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/bulk-delete`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(bulkDeleteRequest, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 获取绘图场景数据
+         * @param {string} name 绘图名称
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        getDrawingScene: async (name: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'name' is not null or undefined
+            assertParamExists('getDrawingScene', 'name', name)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/{name}/scene`
+                .replace(`{${"name"}}`, encodeURIComponent(String(name)));
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'GET', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 获取预览格式设置，响应带 ETag 并可缓存一分钟
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
@@ -75,17 +179,138 @@ export const ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator = function
             };
         },
         /**
-         * 分页查询绘图列表
+         * 在服务端渲染绘图预览图并直接返回图片，不上传附件
+         * @param {string} name 绘图名称
+         * @param {string} [format] 格式：svg 或 png，默认使用插件设置
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        getRenderedPreview: async (name: string, format?: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'name' is not null or undefined
+            assertParamExists('getRenderedPreview', 'name', name)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/{name}/preview`
+                .replace(`{${"name"}}`, encodeURIComponent(String(name)));
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'GET', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+            if (format !== undefined) {
+                localVarQueryParameter['format'] = format;
+            }
+
+
+    
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 按游标分页查询绘图摘要，按创建时间倒序，翻页耗时不随页数增长。响应带 ETag，绘图未变化时条件请求返回 304
+         * @param {number} [size] 每页数量，默认 20，最大 100
+         * @param {string} [cursor] 上一页返回的 nextCursor，为空时从第一页开始
+         * @param {Array<string>} [fields] 需要返回的字段，可选 name、displayName、previewUrl、creationTimestamp、deletionTimestamp、elementCount，逗号分隔，默认全部
+         * @param {string} [keyword] 按名称关键字过滤绘图
+         * @param {string} [text] 按绘图中的文字内容检索，多个词需全部包含
+         * @param {number} [minElements] 元素数量下限
+         * @param {number} [maxElements] 元素数量上限
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        listDrawingSummaries: async (size?: number, cursor?: string, fields?: Array<string>, keyword?: string, text?: string, minElements?: number, maxElements?: number, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawing-summaries`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'GET', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+            if (size !== undefined) {
+                localVarQueryParameter['size'] = size;
+            }
+
+            if (cursor !== undefined) {
+                localVarQueryParameter['cursor'] = cursor;
+            }
+
+            if (fields) {
+                localVarQueryParameter['fields'] = fields;
+            }
+
+            if (keyword !== undefined) {
+                localVarQueryParameter['keyword'] = keyword;
+            }
+
+            if (text !== undefined) {
+                localVarQueryParameter['text'] = text;
+            }
+
+            if (minElements !== undefined) {
+                localVarQueryParameter['minElements'] = minElements;
+            }
+
+            if (maxElements !== undefined) {
+                localVarQueryParameter['maxElements'] = maxElements;
+            }
+
+
+    
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 分页查询绘图列表，响应带 ETag，绘图未变化时条件请求返回 304
          * @param {number} [page] Page number. Default is 0.
          * @param {number} [size] Size number. Default is 0.
          * @param {Array<string>} [labelSelector] Label selector. e.g.: hidden!&#x3D;true
          * @param {Array<string>} [fieldSelector] Field selector. e.g.: metadata.name&#x3D;&#x3D;halo
          * @param {Array<string>} [sort] Sorting criteria in the format: property,(asc|desc). Default sort order is ascending. Multiple sort criteria are supported.
          * @param {string} [keyword] 按名称关键字过滤绘图
+         * @param {string} [text] 按绘图中的文字内容检索，多个词需全部包含
+         * @param {number} [minElements] 元素数量下限
+         * @param {number} [maxElements] 元素数量上限
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
-        listDrawings: async (page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, sort?: Array<string>, keyword?: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+        listDrawings: async (page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, sort?: Array<string>, keyword?: string, text?: string, minElements?: number, maxElements?: number, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
             const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings`;
             // use dummy base URL string because the URL constructor only accepts absolute URLs.
             const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
@@ -130,6 +355,18 @@ export const ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator = function
                 localVarQueryParameter['keyword'] = keyword;
             }
 
+            if (text !== undefined) {
+                localVarQueryParameter['text'] = text;
+            }
+
+            if (minElements !== undefined) {
+                localVarQueryParameter['minElements'] = minElements;
+            }
+
+            if (maxElements !== undefined) {
+                localVarQueryParameter['maxElements'] = maxElements;
+            }
+
 
     
             setSearchParams(localVarUrlObj, localVarQueryParameter);
@@ -142,13 +379,22 @@ export const ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator = function
             };
         },
         /**
-         * 上传 .excalidraw 文件到附件库
-         * @param {UploadRequest} [uploadRequest] 
+         * 按元素提交场景的增量修改，元素版本或 revision 与服务端不一致时返回 409 且不应用任何修改，绘图不存在时返回 404
+         * @param {string} name 绘图名称
+         * @param {number} revision 客户端读取到的绘图保存次数 status.revision，旧绘图没有时为 0
+         * @param {ScenePatch} scenePatch 
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
-        uploadExcalidrawFile: async (uploadRequest?: UploadRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
-            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/upload`;
+        patchDrawingScene: async (name: string, revision: number, scenePatch: ScenePatch, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'name' is not null or undefined
+            assertParamExists('patchDrawingScene', 'name', name)
+            // verify required parameter 'revision' is not null or undefined
+            assertParamExists('patchDrawingScene', 'revision', revision)
+            // verify required parameter 'scenePatch' is not null or undefined
+            assertParamExists('patchDrawingScene', 'scenePatch', scenePatch)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/{name}/scene`
+                .replace(`{${"name"}}`, encodeURIComponent(String(name)));
             // use dummy base URL string because the URL constructor only accepts absolute URLs.
             const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
             let baseOptions;
@@ -156,7 +402,7 @@ export const ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator = function
                 baseOptions = configuration.baseOptions;
             }
 
-            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarRequestOptions = { method: 'PATCH', ...baseOptions, ...options};
             const localVarHeaderParameter = {} as any;
             const localVarQueryParameter = {} as any;
 
@@ -168,6 +414,10 @@ export const ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator = function
             // http bearer authentication required
             await setBearerAuthToObject(localVarHeaderParameter, configuration)
 
+            if (revision !== undefined) {
+                localVarQueryParameter['revision'] = revision;
+            }
+
 
     
             localVarHeaderParameter['Content-Type'] = 'application/json';
@@ -175,7 +425,7 @@ export const ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator = function
             setSearchParams(localVarUrlObj, localVarQueryParameter);
             let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
             localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
-            localVarRequestOptions.data = serializeDataIfNeeded(uploadRequest, localVarRequestOptions, configuration)
+            localVarRequestOptions.data = serializeDataIfNeeded(scenePatch, localVarRequestOptions, configuration)
 
             return {
                 url: toPathString(localVarUrlObj),
@@ -183,13 +433,16 @@ export const ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator = function
             };
         },
         /**
-         * 上传预览图到附件库（支持 SVG 和 PNG）
-         * @param {UploadPreviewRequest} [uploadPreviewRequest] 
+         * 在服务端根据场景数据渲染预览图，上传到附件库并更新绘图
+         * @param {string} name 绘图名称
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
-        uploadPreviewImage: async (uploadPreviewRequest?: UploadPreviewRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
-            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/upload-preview`;
+        renderDrawingPreview: async (name: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'name' is not null or undefined
+            assertParamExists('renderDrawingPreview', 'name', name)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/{name}/preview`
+                .replace(`{${"name"}}`, encodeURIComponent(String(name)));
             // use dummy base URL string because the URL constructor only accepts absolute URLs.
             const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
             let baseOptions;
@@ -211,66 +464,621 @@ export const ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator = function
 
 
     
-            localVarHeaderParameter['Content-Type'] = 'application/json';
-
             setSearchParams(localVarUrlObj, localVarQueryParameter);
             let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
             localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
-            localVarRequestOptions.data = serializeDataIfNeeded(uploadPreviewRequest, localVarRequestOptions, configuration)
 
             return {
                 url: toPathString(localVarUrlObj),
                 options: localVarRequestOptions,
             };
         },
-    }
-};
-
-/**
- * ApiExcalidrawXhhaoComV1alpha1DrawingApi - functional programming interface
- * @export
- */
-export const ApiExcalidrawXhhaoComV1alpha1DrawingApiFp = function(configuration?: Configuration) {
-    const localVarAxiosParamCreator = ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator(configuration)
-    return {
-        /**
-         * 获取预览格式设置
-         * @param {*} [options] Override http request option.
-         * @throws {RequiredError}
-         */
-        async getPreviewFormat(options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<PreviewFormatResponse>> {
-            const localVarAxiosArgs = await localVarAxiosParamCreator.getPreviewFormat(options);
-            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
-            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.getPreviewFormat']?.[localVarOperationServerIndex]?.url;
-            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
-        },
         /**
-         * 分页查询绘图列表
-         * @param {number} [page] Page number. Default is 0.
-         * @param {number} [size] Size number. Default is 0.
-         * @param {Array<string>} [labelSelector] Label selector. e.g.: hidden!&#x3D;true
-         * @param {Array<string>} [fieldSelector] Field selector. e.g.: metadata.name&#x3D;&#x3D;halo
-         * @param {Array<string>} [sort] Sorting criteria in the format: property,(asc|desc). Default sort order is ascending. Multiple sort criteria are supported.
-         * @param {string} [keyword] 按名称关键字过滤绘图
+         * 获取文章中绘图的预览片段（HTML），供延迟加载的占位符进入可视区域后替换。匿名可访问，但只接受文章渲染时为该绘图签发的令牌，名称或令牌无效时返回 404；响应带 ETag 并可缓存五分钟
+         * @param {string} name 绘图名称
+         * @param {string} token 占位符 data-token 属性中的令牌
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
-        async listDrawings(page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, sort?: Array<string>, keyword?: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<DrawingList>> {
-            const localVarAxiosArgs = await localVarAxiosParamCreator.listDrawings(page, size, labelSelector, fieldSelector, sort, keyword, options);
-            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
-            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.listDrawings']?.[localVarOperationServerIndex]?.url;
-            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        resolveDrawingPreview: async (name: string, token: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'name' is not null or undefined
+            assertParamExists('resolveDrawingPreview', 'name', name)
+            // verify required parameter 'token' is not null or undefined
+            assertParamExists('resolveDrawingPreview', 'token', token)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawingpreviews/{name}`
+                .replace(`{${"name"}}`, encodeURIComponent(String(name)));
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'GET', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+            if (token !== undefined) {
+                localVarQueryParameter['token'] = token;
+            }
+
+
+    
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
         },
         /**
-         * 上传 .excalidraw 文件到附件库
-         * @param {UploadRequest} [uploadRequest] 
+         * 一次请求完成保存：上传预览图、保存场景、创建或更新绘图。revision 与绘图当前的保存次数不一致时返回 409，旧预览附件在绘图更新后才删除
+         * @param {string} name 绘图名称
+         * @param {SaveDrawingRequest} saveDrawingRequest 
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
-        async uploadExcalidrawFile(uploadRequest?: UploadRequest, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<UploadResponse>> {
-            const localVarAxiosArgs = await localVarAxiosParamCreator.uploadExcalidrawFile(uploadRequest, options);
-            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
-            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.uploadExcalidrawFile']?.[localVarOperationServerIndex]?.url;
+        saveDrawing: async (name: string, saveDrawingRequest: SaveDrawingRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'name' is not null or undefined
+            assertParamExists('saveDrawing', 'name', name)
+            // verify required parameter 'saveDrawingRequest' is not null or undefined
+            assertParamExists('saveDrawing', 'saveDrawingRequest', saveDrawingRequest)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/{name}/save`
+                .replace(`{${"name"}}`, encodeURIComponent(String(name)));
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(saveDrawingRequest, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 创建后台任务，按当前设置批量重新生成所有绘图的预览图，进度见任务的 status
+         * @param {PreviewRegenerationJobSpec} [previewRegenerationJobSpec] 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        startPreviewRegeneration: async (previewRegenerationJobSpec?: PreviewRegenerationJobSpec, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/previews/regenerate`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(previewRegenerationJobSpec, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 以原始请求体流式上传 .excalidraw 文件到附件库。文件名为绘图名称时作为该绘图的备份，内容与最新备份相同时不上传并返回 unchanged，旧备份按设置保留历史版本
+         * @param {string} fileName 文件名（不含扩展名）
+         * @param {File} body 
+         * @param {string} [contentHash] 文件内容的 SHA-256（base64url，无填充），与最新备份相同时跳过上传
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        streamUploadExcalidrawFile: async (fileName: string, body: File, contentHash?: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'fileName' is not null or undefined
+            assertParamExists('streamUploadExcalidrawFile', 'fileName', fileName)
+            // verify required parameter 'body' is not null or undefined
+            assertParamExists('streamUploadExcalidrawFile', 'body', body)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/upload/stream`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+            if (fileName !== undefined) {
+                localVarQueryParameter['fileName'] = fileName;
+            }
+
+            if (contentHash !== undefined) {
+                localVarQueryParameter['contentHash'] = contentHash;
+            }
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/octet-stream';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(body, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 以原始请求体流式上传预览图到附件库，PNG 以 text/plain 发送时按 base64（可带 data URL 前缀）边接收边解码
+         * @param {string} fileName 文件名（不含扩展名）
+         * @param {string} format 格式：svg 或 png
+         * @param {File} body 
+         * @param {string} [oldAttachmentName] 旧附件名称，用于删除
+         * @param {string} [contentHash] 解码后内容的 SHA-256（base64url，无填充），已有相同内容的附件时直接复用
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        streamUploadPreviewImage: async (fileName: string, format: string, body: File, oldAttachmentName?: string, contentHash?: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'fileName' is not null or undefined
+            assertParamExists('streamUploadPreviewImage', 'fileName', fileName)
+            // verify required parameter 'format' is not null or undefined
+            assertParamExists('streamUploadPreviewImage', 'format', format)
+            // verify required parameter 'body' is not null or undefined
+            assertParamExists('streamUploadPreviewImage', 'body', body)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/upload-preview/stream`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+            if (fileName !== undefined) {
+                localVarQueryParameter['fileName'] = fileName;
+            }
+
+            if (format !== undefined) {
+                localVarQueryParameter['format'] = format;
+            }
+
+            if (oldAttachmentName !== undefined) {
+                localVarQueryParameter['oldAttachmentName'] = oldAttachmentName;
+            }
+
+            if (contentHash !== undefined) {
+                localVarQueryParameter['contentHash'] = contentHash;
+            }
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/octet-stream';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(body, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 保存绘图场景数据，与 SaveDrawing 一样校验并递增保存次数，revision 不一致时返回 409，绘图不存在时返回 404
+         * @param {string} name 绘图名称
+         * @param {number} revision 客户端读取到的绘图保存次数 status.revision，旧绘图没有时为 0
+         * @param {SceneContent} [sceneContent] 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        updateDrawingScene: async (name: string, revision: number, sceneContent?: SceneContent, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'name' is not null or undefined
+            assertParamExists('updateDrawingScene', 'name', name)
+            // verify required parameter 'revision' is not null or undefined
+            assertParamExists('updateDrawingScene', 'revision', revision)
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/{name}/scene`
+                .replace(`{${"name"}}`, encodeURIComponent(String(name)));
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'PUT', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+            if (revision !== undefined) {
+                localVarQueryParameter['revision'] = revision;
+            }
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(sceneContent, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 上传 .excalidraw 文件到附件库
+         * @param {UploadRequest} [uploadRequest] 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        uploadExcalidrawFile: async (uploadRequest?: UploadRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/upload`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(uploadRequest, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 上传预览图到附件库（支持 SVG 和 PNG）
+         * @param {UploadPreviewRequest} [uploadPreviewRequest] 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        uploadPreviewImage: async (uploadPreviewRequest?: UploadPreviewRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            const localVarPath = `/apis/api.excalidraw.xhhao.com/v1alpha1/drawings/upload-preview`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(uploadPreviewRequest, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+    }
+};
+
+/**
+ * ApiExcalidrawXhhaoComV1alpha1DrawingApi - functional programming interface
+ * @export
+ */
+export const ApiExcalidrawXhhaoComV1alpha1DrawingApiFp = function(configuration?: Configuration) {
+    const localVarAxiosParamCreator = ApiExcalidrawXhhaoComV1alpha1DrawingApiAxiosParamCreator(configuration)
+    return {
+        /**
+         * 按名称或标签选择器批量删除绘图，返回每个绘图的处理结果。场景数据、预览附件和 .excalidraw 文件在绘图最终删除前由协调器清理
+         * @param {BulkDeleteRequest} bulkDeleteRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async bulkDeleteDrawings(bulkDeleteRequest: BulkDeleteRequest, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<BulkDeleteResult>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.bulkDeleteDrawings(bulkDeleteRequest, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.bulkDeleteDrawings']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 获取绘图场景数据
+         * @param {string} name 绘图名称
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async getDrawingScene(name: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<SceneContent>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.getDrawingScene(name, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.getDrawingScene']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 获取预览格式设置，响应带 ETag 并可缓存一分钟
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async getPreviewFormat(options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<PreviewFormatResponse>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.getPreviewFormat(options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.getPreviewFormat']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 在服务端渲染绘图预览图并直接返回图片，不上传附件
+         * @param {string} name 绘图名称
+         * @param {string} [format] 格式：svg 或 png，默认使用插件设置
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async getRenderedPreview(name: string, format?: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<File>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.getRenderedPreview(name, format, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.getRenderedPreview']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 按游标分页查询绘图摘要，按创建时间倒序，翻页耗时不随页数增长。响应带 ETag，绘图未变化时条件请求返回 304
+         * @param {number} [size] 每页数量，默认 20，最大 100
+         * @param {string} [cursor] 上一页返回的 nextCursor，为空时从第一页开始
+         * @param {Array<string>} [fields] 需要返回的字段，可选 name、displayName、previewUrl、creationTimestamp、deletionTimestamp、elementCount，逗号分隔，默认全部
+         * @param {string} [keyword] 按名称关键字过滤绘图
+         * @param {string} [text] 按绘图中的文字内容检索，多个词需全部包含
+         * @param {number} [minElements] 元素数量下限
+         * @param {number} [maxElements] 元素数量上限
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async listDrawingSummaries(size?: number, cursor?: string, fields?: Array<string>, keyword?: string, text?: string, minElements?: number, maxElements?: number, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<DrawingSummaryPage>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.listDrawingSummaries(size, cursor, fields, keyword, text, minElements, maxElements, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.listDrawingSummaries']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 分页查询绘图列表，响应带 ETag，绘图未变化时条件请求返回 304
+         * @param {number} [page] Page number. Default is 0.
+         * @param {number} [size] Size number. Default is 0.
+         * @param {Array<string>} [labelSelector] Label selector. e.g.: hidden!&#x3D;true
+         * @param {Array<string>} [fieldSelector] Field selector. e.g.: metadata.name&#x3D;&#x3D;halo
+         * @param {Array<string>} [sort] Sorting criteria in the format: property,(asc|desc). Default sort order is ascending. Multiple sort criteria are supported.
+         * @param {string} [keyword] 按名称关键字过滤绘图
+         * @param {string} [text] 按绘图中的文字内容检索，多个词需全部包含
+         * @param {number} [minElements] 元素数量下限
+         * @param {number} [maxElements] 元素数量上限
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async listDrawings(page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, sort?: Array<string>, keyword?: string, text?: string, minElements?: number, maxElements?: number, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<DrawingList>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.listDrawings(page, size, labelSelector, fieldSelector, sort, keyword, text, minElements, maxElements, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.listDrawings']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 按元素提交场景的增量修改，元素版本或 revision 与服务端不一致时返回 409 且不应用任何修改，绘图不存在时返回 404
+         * @param {string} name 绘图名称
+         * @param {number} revision 客户端读取到的绘图保存次数 status.revision，旧绘图没有时为 0
+         * @param {ScenePatch} scenePatch 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async patchDrawingScene(name: string, revision: number, scenePatch: ScenePatch, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<ScenePatchResult>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.patchDrawingScene(name, revision, scenePatch, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.patchDrawingScene']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 在服务端根据场景数据渲染预览图，上传到附件库并更新绘图
+         * @param {string} name 绘图名称
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async renderDrawingPreview(name: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<UploadResponse>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.renderDrawingPreview(name, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.renderDrawingPreview']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 获取文章中绘图的预览片段（HTML），供延迟加载的占位符进入可视区域后替换。匿名可访问，但只接受文章渲染时为该绘图签发的令牌，名称或令牌无效时返回 404；响应带 ETag 并可缓存五分钟
+         * @param {string} name 绘图名称
+         * @param {string} token 占位符 data-token 属性中的令牌
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async resolveDrawingPreview(name: string, token: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<string>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.resolveDrawingPreview(name, token, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.resolveDrawingPreview']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 一次请求完成保存：上传预览图、保存场景、创建或更新绘图。revision 与绘图当前的保存次数不一致时返回 409，旧预览附件在绘图更新后才删除
+         * @param {string} name 绘图名称
+         * @param {SaveDrawingRequest} saveDrawingRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async saveDrawing(name: string, saveDrawingRequest: SaveDrawingRequest, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<Drawing>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.saveDrawing(name, saveDrawingRequest, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.saveDrawing']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 创建后台任务，按当前设置批量重新生成所有绘图的预览图，进度见任务的 status
+         * @param {PreviewRegenerationJobSpec} [previewRegenerationJobSpec] 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async startPreviewRegeneration(previewRegenerationJobSpec?: PreviewRegenerationJobSpec, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<PreviewRegenerationJob>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.startPreviewRegeneration(previewRegenerationJobSpec, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.startPreviewRegeneration']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 以原始请求体流式上传 .excalidraw 文件到附件库。文件名为绘图名称时作为该绘图的备份，内容与最新备份相同时不上传并返回 unchanged，旧备份按设置保留历史版本
+         * @param {string} fileName 文件名（不含扩展名）
+         * @param {File} body 
+         * @param {string} [contentHash] 文件内容的 SHA-256（base64url，无填充），与最新备份相同时跳过上传
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async streamUploadExcalidrawFile(fileName: string, body: File, contentHash?: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<UploadResponse>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.streamUploadExcalidrawFile(fileName, body, contentHash, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.streamUploadExcalidrawFile']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 以原始请求体流式上传预览图到附件库，PNG 以 text/plain 发送时按 base64（可带 data URL 前缀）边接收边解码
+         * @param {string} fileName 文件名（不含扩展名）
+         * @param {string} format 格式：svg 或 png
+         * @param {File} body 
+         * @param {string} [oldAttachmentName] 旧附件名称，用于删除
+         * @param {string} [contentHash] 解码后内容的 SHA-256（base64url，无填充），已有相同内容的附件时直接复用
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async streamUploadPreviewImage(fileName: string, format: string, body: File, oldAttachmentName?: string, contentHash?: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<UploadResponse>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.streamUploadPreviewImage(fileName, format, body, oldAttachmentName, contentHash, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.streamUploadPreviewImage']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 保存绘图场景数据，与 SaveDrawing 一样校验并递增保存次数，revision 不一致时返回 409，绘图不存在时返回 404
+         * @param {string} name 绘图名称
+         * @param {number} revision 客户端读取到的绘图保存次数 status.revision，旧绘图没有时为 0
+         * @param {SceneContent} [sceneContent] 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async updateDrawingScene(name: string, revision: number, sceneContent?: SceneContent, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<Drawing>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.updateDrawingScene(name, revision, sceneContent, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.updateDrawingScene']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 上传 .excalidraw 文件到附件库
+         * @param {UploadRequest} [uploadRequest] 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async uploadExcalidrawFile(uploadRequest?: UploadRequest, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<UploadResponse>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.uploadExcalidrawFile(uploadRequest, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiExcalidrawXhhaoComV1alpha1DrawingApi.uploadExcalidrawFile']?.[localVarOperationServerIndex]?.url;
             return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
         },
         /**
@@ -288,50 +1096,263 @@ export const ApiExcalidrawXhhaoComV1alpha1DrawingApiFp = function(configuration?
     }
 };
 
-/**
- * ApiExcalidrawXhhaoComV1alpha1DrawingApi - factory interface
- * @export
- */
-export const ApiExcalidrawXhhaoComV1alpha1DrawingApiFactory = function (configuration?: Configuration, basePath?: string, axios?: AxiosInstance) {
-    const localVarFp = ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(configuration)
-    return {
-        /**
-         * 获取预览格式设置
-         * @param {*} [options] Override http request option.
-         * @throws {RequiredError}
-         */
-        getPreviewFormat(options?: RawAxiosRequestConfig): AxiosPromise<PreviewFormatResponse> {
-            return localVarFp.getPreviewFormat(options).then((request) => request(axios, basePath));
-        },
-        /**
-         * 分页查询绘图列表
-         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingsRequest} requestParameters Request parameters.
-         * @param {*} [options] Override http request option.
-         * @throws {RequiredError}
-         */
-        listDrawings(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingsRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<DrawingList> {
-            return localVarFp.listDrawings(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, requestParameters.sort, requestParameters.keyword, options).then((request) => request(axios, basePath));
-        },
-        /**
-         * 上传 .excalidraw 文件到附件库
-         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiUploadExcalidrawFileRequest} requestParameters Request parameters.
-         * @param {*} [options] Override http request option.
-         * @throws {RequiredError}
-         */
-        uploadExcalidrawFile(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiUploadExcalidrawFileRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<UploadResponse> {
-            return localVarFp.uploadExcalidrawFile(requestParameters.uploadRequest, options).then((request) => request(axios, basePath));
-        },
-        /**
-         * 上传预览图到附件库（支持 SVG 和 PNG）
-         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiUploadPreviewImageRequest} requestParameters Request parameters.
-         * @param {*} [options] Override http request option.
-         * @throws {RequiredError}
-         */
-        uploadPreviewImage(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiUploadPreviewImageRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<UploadResponse> {
-            return localVarFp.uploadPreviewImage(requestParameters.uploadPreviewRequest, options).then((request) => request(axios, basePath));
-        },
-    };
-};
+/**
+ * ApiExcalidrawXhhaoComV1alpha1DrawingApi - factory interface
+ * @export
+ */
+export const ApiExcalidrawXhhaoComV1alpha1DrawingApiFactory = function (configuration?: Configuration, basePath?: string, axios?: AxiosInstance) {
+    const localVarFp = ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(configuration)
+    return {
+        /**
+         * 按名称或标签选择器批量删除绘图，返回每个绘图的处理结果。场景数据、预览附件和 .excalidraw 文件在绘图最终删除前由协调器清理
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiBulkDeleteDrawingsRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        bulkDeleteDrawings(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiBulkDeleteDrawingsRequest, options?: RawAxiosRequestConfig): AxiosPromise<BulkDeleteResult> {
+            return localVarFp.bulkDeleteDrawings(requestParameters.bulkDeleteRequest, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 获取绘图场景数据
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiGetDrawingSceneRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        getDrawingScene(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiGetDrawingSceneRequest, options?: RawAxiosRequestConfig): AxiosPromise<SceneContent> {
+            return localVarFp.getDrawingScene(requestParameters.name, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 获取预览格式设置，响应带 ETag 并可缓存一分钟
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        getPreviewFormat(options?: RawAxiosRequestConfig): AxiosPromise<PreviewFormatResponse> {
+            return localVarFp.getPreviewFormat(options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 在服务端渲染绘图预览图并直接返回图片，不上传附件
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiGetRenderedPreviewRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        getRenderedPreview(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiGetRenderedPreviewRequest, options?: RawAxiosRequestConfig): AxiosPromise<File> {
+            return localVarFp.getRenderedPreview(requestParameters.name, requestParameters.format, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 按游标分页查询绘图摘要，按创建时间倒序，翻页耗时不随页数增长。响应带 ETag，绘图未变化时条件请求返回 304
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummariesRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        listDrawingSummaries(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummariesRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<DrawingSummaryPage> {
+            return localVarFp.listDrawingSummaries(requestParameters.size, requestParameters.cursor, requestParameters.fields, requestParameters.keyword, requestParameters.text, requestParameters.minElements, requestParameters.maxElements, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 分页查询绘图列表，响应带 ETag，绘图未变化时条件请求返回 304
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingsRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        listDrawings(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingsRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<DrawingList> {
+            return localVarFp.listDrawings(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, requestParameters.sort, requestParameters.keyword, requestParameters.text, requestParameters.minElements, requestParameters.maxElements, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 按元素提交场景的增量修改，元素版本或 revision 与服务端不一致时返回 409 且不应用任何修改，绘图不存在时返回 404
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiPatchDrawingSceneRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        patchDrawingScene(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiPatchDrawingSceneRequest, options?: RawAxiosRequestConfig): AxiosPromise<ScenePatchResult> {
+            return localVarFp.patchDrawingScene(requestParameters.name, requestParameters.revision, requestParameters.scenePatch, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 在服务端根据场景数据渲染预览图，上传到附件库并更新绘图
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiRenderDrawingPreviewRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        renderDrawingPreview(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiRenderDrawingPreviewRequest, options?: RawAxiosRequestConfig): AxiosPromise<UploadResponse> {
+            return localVarFp.renderDrawingPreview(requestParameters.name, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 获取文章中绘图的预览片段（HTML），供延迟加载的占位符进入可视区域后替换。匿名可访问，但只接受文章渲染时为该绘图签发的令牌，名称或令牌无效时返回 404；响应带 ETag 并可缓存五分钟
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiResolveDrawingPreviewRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        resolveDrawingPreview(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiResolveDrawingPreviewRequest, options?: RawAxiosRequestConfig): AxiosPromise<string> {
+            return localVarFp.resolveDrawingPreview(requestParameters.name, requestParameters.token, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 一次请求完成保存：上传预览图、保存场景、创建或更新绘图。revision 与绘图当前的保存次数不一致时返回 409，旧预览附件在绘图更新后才删除
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiSaveDrawingRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        saveDrawing(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiSaveDrawingRequest, options?: RawAxiosRequestConfig): AxiosPromise<Drawing> {
+            return localVarFp.saveDrawing(requestParameters.name, requestParameters.saveDrawingRequest, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 创建后台任务，按当前设置批量重新生成所有绘图的预览图，进度见任务的 status
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiStartPreviewRegenerationRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        startPreviewRegeneration(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiStartPreviewRegenerationRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<PreviewRegenerationJob> {
+            return localVarFp.startPreviewRegeneration(requestParameters.previewRegenerationJobSpec, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 以原始请求体流式上传 .excalidraw 文件到附件库。文件名为绘图名称时作为该绘图的备份，内容与最新备份相同时不上传并返回 unchanged，旧备份按设置保留历史版本
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadExcalidrawFileRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        streamUploadExcalidrawFile(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadExcalidrawFileRequest, options?: RawAxiosRequestConfig): AxiosPromise<UploadResponse> {
+            return localVarFp.streamUploadExcalidrawFile(requestParameters.fileName, requestParameters.body, requestParameters.contentHash, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 以原始请求体流式上传预览图到附件库，PNG 以 text/plain 发送时按 base64（可带 data URL 前缀）边接收边解码
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImageRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        streamUploadPreviewImage(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImageRequest, options?: RawAxiosRequestConfig): AxiosPromise<UploadResponse> {
+            return localVarFp.streamUploadPreviewImage(requestParameters.fileName, requestParameters.format, requestParameters.body, requestParameters.oldAttachmentName, requestParameters.contentHash, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 保存绘图场景数据，与 SaveDrawing 一样校验并递增保存次数，revision 不一致时返回 409，绘图不存在时返回 404
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiUpdateDrawingSceneRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        updateDrawingScene(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiUpdateDrawingSceneRequest, options?: RawAxiosRequestConfig): AxiosPromise<Drawing> {
+            return localVarFp.updateDrawingScene(requestParameters.name, requestParameters.revision, requestParameters.sceneContent, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 上传 .excalidraw 文件到附件库
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiUploadExcalidrawFileRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        uploadExcalidrawFile(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiUploadExcalidrawFileRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<UploadResponse> {
+            return localVarFp.uploadExcalidrawFile(requestParameters.uploadRequest, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 上传预览图到附件库（支持 SVG 和 PNG）
+         * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiUploadPreviewImageRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        uploadPreviewImage(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiUploadPreviewImageRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<UploadResponse> {
+            return localVarFp.uploadPreviewImage(requestParameters.uploadPreviewRequest, options).then((request) => request(axios, basePath));
+        },
+    };
+};
+
+/**
+ * Request parameters for bulkDeleteDrawings operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiBulkDeleteDrawingsRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiBulkDeleteDrawingsRequest {
+    /**
+     * 
+     * @type {BulkDeleteRequest}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiBulkDeleteDrawings
+     */
+    readonly bulkDeleteRequest: BulkDeleteRequest
+}
+
+/**
+ * Request parameters for getDrawingScene operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiGetDrawingSceneRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiGetDrawingSceneRequest {
+    /**
+     * 绘图名称
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiGetDrawingScene
+     */
+    readonly name: string
+}
+
+/**
+ * Request parameters for getRenderedPreview operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiGetRenderedPreviewRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiGetRenderedPreviewRequest {
+    /**
+     * 绘图名称
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiGetRenderedPreview
+     */
+    readonly name: string
+
+    /**
+     * 格式：svg 或 png，默认使用插件设置
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiGetRenderedPreview
+     */
+    readonly format?: string
+}
+
+/**
+ * Request parameters for listDrawingSummaries operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummariesRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummariesRequest {
+    /**
+     * 每页数量，默认 20，最大 100
+     * @type {number}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummaries
+     */
+    readonly size?: number
+
+    /**
+     * 上一页返回的 nextCursor，为空时从第一页开始
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummaries
+     */
+    readonly cursor?: string
+
+    /**
+     * 需要返回的字段，可选 name、displayName、previewUrl、creationTimestamp、deletionTimestamp、elementCount，逗号分隔，默认全部
+     * @type {Array<string>}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummaries
+     */
+    readonly fields?: Array<string>
+
+    /**
+     * 按名称关键字过滤绘图
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummaries
+     */
+    readonly keyword?: string
+
+    /**
+     * 按绘图中的文字内容检索，多个词需全部包含
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummaries
+     */
+    readonly text?: string
+
+    /**
+     * 元素数量下限
+     * @type {number}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummaries
+     */
+    readonly minElements?: number
+
+    /**
+     * 元素数量上限
+     * @type {number}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummaries
+     */
+    readonly maxElements?: number
+}
 
 /**
  * Request parameters for listDrawings operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
@@ -380,6 +1401,223 @@ export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingsRequest {
      * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawings
      */
     readonly keyword?: string
+
+    /**
+     * 按绘图中的文字内容检索，多个词需全部包含
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawings
+     */
+    readonly text?: string
+
+    /**
+     * 元素数量下限
+     * @type {number}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawings
+     */
+    readonly minElements?: number
+
+    /**
+     * 元素数量上限
+     * @type {number}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawings
+     */
+    readonly maxElements?: number
+}
+
+/**
+ * Request parameters for patchDrawingScene operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiPatchDrawingSceneRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiPatchDrawingSceneRequest {
+    /**
+     * 绘图名称
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiPatchDrawingScene
+     */
+    readonly name: string
+
+    /**
+     * 客户端读取到的绘图保存次数 status.revision，旧绘图没有时为 0
+     * @type {number}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiPatchDrawingScene
+     */
+    readonly revision: number
+
+    /**
+     * 
+     * @type {ScenePatch}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiPatchDrawingScene
+     */
+    readonly scenePatch: ScenePatch
+}
+
+/**
+ * Request parameters for renderDrawingPreview operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiRenderDrawingPreviewRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiRenderDrawingPreviewRequest {
+    /**
+     * 绘图名称
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiRenderDrawingPreview
+     */
+    readonly name: string
+}
+
+/**
+ * Request parameters for resolveDrawingPreview operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiResolveDrawingPreviewRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiResolveDrawingPreviewRequest {
+    /**
+     * 绘图名称
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiResolveDrawingPreview
+     */
+    readonly name: string
+
+    /**
+     * 占位符 data-token 属性中的令牌
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiResolveDrawingPreview
+     */
+    readonly token: string
+}
+
+/**
+ * Request parameters for saveDrawing operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiSaveDrawingRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiSaveDrawingRequest {
+    /**
+     * 绘图名称
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiSaveDrawing
+     */
+    readonly name: string
+
+    /**
+     * 
+     * @type {SaveDrawingRequest}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiSaveDrawing
+     */
+    readonly saveDrawingRequest: SaveDrawingRequest
+}
+
+/**
+ * Request parameters for startPreviewRegeneration operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiStartPreviewRegenerationRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiStartPreviewRegenerationRequest {
+    /**
+     * 
+     * @type {PreviewRegenerationJobSpec}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiStartPreviewRegeneration
+     */
+    readonly previewRegenerationJobSpec?: PreviewRegenerationJobSpec
+}
+
+/**
+ * Request parameters for streamUploadExcalidrawFile operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadExcalidrawFileRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadExcalidrawFileRequest {
+    /**
+     * 文件名（不含扩展名）
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadExcalidrawFile
+     */
+    readonly fileName: string
+
+    /**
+     * 
+     * @type {File}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadExcalidrawFile
+     */
+    readonly body: File
+
+    /**
+     * 文件内容的 SHA-256（base64url，无填充），与最新备份相同时跳过上传
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadExcalidrawFile
+     */
+    readonly contentHash?: string
+}
+
+/**
+ * Request parameters for streamUploadPreviewImage operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImageRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImageRequest {
+    /**
+     * 文件名（不含扩展名）
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImage
+     */
+    readonly fileName: string
+
+    /**
+     * 格式：svg 或 png
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImage
+     */
+    readonly format: string
+
+    /**
+     * 
+     * @type {File}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImage
+     */
+    readonly body: File
+
+    /**
+     * 旧附件名称，用于删除
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImage
+     */
+    readonly oldAttachmentName?: string
+
+    /**
+     * 解码后内容的 SHA-256（base64url，无填充），已有相同内容的附件时直接复用
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImage
+     */
+    readonly contentHash?: string
+}
+
+/**
+ * Request parameters for updateDrawingScene operation in ApiExcalidrawXhhaoComV1alpha1DrawingApi.
+ * @export
+ * @interface ApiExcalidrawXhhaoComV1alpha1DrawingApiUpdateDrawingSceneRequest
+ */
+export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiUpdateDrawingSceneRequest {
+    /**
+     * 绘图名称
+     * @type {string}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiUpdateDrawingScene
+     */
+    readonly name: string
+
+    /**
+     * 客户端读取到的绘图保存次数 status.revision，旧绘图没有时为 0
+     * @type {number}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiUpdateDrawingScene
+     */
+    readonly revision: number
+
+    /**
+     * 
+     * @type {SceneContent}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApiUpdateDrawingScene
+     */
+    readonly sceneContent?: SceneContent
 }
 
 /**
@@ -418,7 +1656,29 @@ export interface ApiExcalidrawXhhaoComV1alpha1DrawingApiUploadPreviewImageReques
  */
 export class ApiExcalidrawXhhaoComV1alpha1DrawingApi extends BaseAPI {
     /**
-     * 获取预览格式设置
+     * 按名称或标签选择器批量删除绘图，返回每个绘图的处理结果。场景数据、预览附件和 .excalidraw 文件在绘图最终删除前由协调器清理
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiBulkDeleteDrawingsRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public bulkDeleteDrawings(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiBulkDeleteDrawingsRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).bulkDeleteDrawings(requestParameters.bulkDeleteRequest, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 获取绘图场景数据
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiGetDrawingSceneRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public getDrawingScene(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiGetDrawingSceneRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).getDrawingScene(requestParameters.name, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 获取预览格式设置，响应带 ETag 并可缓存一分钟
      * @param {*} [options] Override http request option.
      * @throws {RequiredError}
      * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
@@ -428,14 +1688,124 @@ export class ApiExcalidrawXhhaoComV1alpha1DrawingApi extends BaseAPI {
     }
 
     /**
-     * 分页查询绘图列表
+     * 在服务端渲染绘图预览图并直接返回图片，不上传附件
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiGetRenderedPreviewRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public getRenderedPreview(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiGetRenderedPreviewRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).getRenderedPreview(requestParameters.name, requestParameters.format, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 按游标分页查询绘图摘要，按创建时间倒序，翻页耗时不随页数增长。响应带 ETag，绘图未变化时条件请求返回 304
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummariesRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public listDrawingSummaries(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingSummariesRequest = {}, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).listDrawingSummaries(requestParameters.size, requestParameters.cursor, requestParameters.fields, requestParameters.keyword, requestParameters.text, requestParameters.minElements, requestParameters.maxElements, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 分页查询绘图列表，响应带 ETag，绘图未变化时条件请求返回 304
      * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingsRequest} requestParameters Request parameters.
      * @param {*} [options] Override http request option.
      * @throws {RequiredError}
      * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
      */
     public listDrawings(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiListDrawingsRequest = {}, options?: RawAxiosRequestConfig) {
-        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).listDrawings(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, requestParameters.sort, requestParameters.keyword, options).then((request) => request(this.axios, this.basePath));
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).listDrawings(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, requestParameters.sort, requestParameters.keyword, requestParameters.text, requestParameters.minElements, requestParameters.maxElements, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 按元素提交场景的增量修改，元素版本或 revision 与服务端不一致时返回 409 且不应用任何修改，绘图不存在时返回 404
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiPatchDrawingSceneRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public patchDrawingScene(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiPatchDrawingSceneRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).patchDrawingScene(requestParameters.name, requestParameters.revision, requestParameters.scenePatch, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 在服务端根据场景数据渲染预览图，上传到附件库并更新绘图
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiRenderDrawingPreviewRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public renderDrawingPreview(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiRenderDrawingPreviewRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).renderDrawingPreview(requestParameters.name, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 获取文章中绘图的预览片段（HTML），供延迟加载的占位符进入可视区域后替换。匿名可访问，但只接受文章渲染时为该绘图签发的令牌，名称或令牌无效时返回 404；响应带 ETag 并可缓存五分钟
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiResolveDrawingPreviewRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public resolveDrawingPreview(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiResolveDrawingPreviewRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).resolveDrawingPreview(requestParameters.name, requestParameters.token, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 一次请求完成保存：上传预览图、保存场景、创建或更新绘图。revision 与绘图当前的保存次数不一致时返回 409，旧预览附件在绘图更新后才删除
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiSaveDrawingRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public saveDrawing(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiSaveDrawingRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).saveDrawing(requestParameters.name, requestParameters.saveDrawingRequest, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 创建后台任务，按当前设置批量重新生成所有绘图的预览图，进度见任务的 status
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiStartPreviewRegenerationRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public startPreviewRegeneration(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiStartPreviewRegenerationRequest = {}, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).startPreviewRegeneration(requestParameters.previewRegenerationJobSpec, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 以原始请求体流式上传 .excalidraw 文件到附件库。文件名为绘图名称时作为该绘图的备份，内容与最新备份相同时不上传并返回 unchanged，旧备份按设置保留历史版本
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadExcalidrawFileRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public streamUploadExcalidrawFile(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadExcalidrawFileRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).streamUploadExcalidrawFile(requestParameters.fileName, requestParameters.body, requestParameters.contentHash, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 以原始请求体流式上传预览图到附件库，PNG 以 text/plain 发送时按 base64（可带 data URL 前缀）边接收边解码
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImageRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public streamUploadPreviewImage(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiStreamUploadPreviewImageRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).streamUploadPreviewImage(requestParameters.fileName, requestParameters.format, requestParameters.body, requestParameters.oldAttachmentName, requestParameters.contentHash, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 保存绘图场景数据，与 SaveDrawing 一样校验并递增保存次数，revision 不一致时返回 409，绘图不存在时返回 404
+     * @param {ApiExcalidrawXhhaoComV1alpha1DrawingApiUpdateDrawingSceneRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiExcalidrawXhhaoComV1alpha1DrawingApi
+     */
+    public updateDrawingScene(requestParameters: ApiExcalidrawXhhaoComV1alpha1DrawingApiUpdateDrawingSceneRequest, options?: RawAxiosRequestConfig) {
+        return ApiExcalidrawXhhaoComV1alpha1DrawingApiFp(this.configuration).updateDrawingScene(requestParameters.name, requestParameters.revision, requestParameters.sceneContent, options).then((request) => request(this.axios, this.basePath));
     }
 
     /**
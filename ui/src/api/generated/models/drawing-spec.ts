@@ -13,6 +13,9 @@
  */
 
 
+// May contain unused imports in some cases
+// @ts-ignore
+import type { PreviewVariant } from './preview-variant';
 
 /**
  * 
@@ -20,6 +23,24 @@
  * @interface DrawingSpec
  */
 export interface DrawingSpec {
+    /**
+     * 
+     * @type {string}
+     * @memberof DrawingSpec
+     */
+    'backupAttachmentName'?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof DrawingSpec
+     */
+    'backupContentHash'?: string;
+    /**
+     * 
+     * @type {Array<string>}
+     * @memberof DrawingSpec
+     */
+    'backupHistory'?: Array<string>;
     /**
      * 
      * @type {string}
@@ -44,11 +65,41 @@ export interface DrawingSpec {
      * @memberof DrawingSpec
      */
     'previewFormat'?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof DrawingSpec
+     */
+    'previewHeight'?: number;
+    /**
+     * 
+     * @type {string}
+     * @memberof DrawingSpec
+     */
+    'previewRequestedFormat'?: string;
     /**
      * 
      * @type {string}
      * @memberof DrawingSpec
      */
     'previewUrl'?: string;
+    /**
+     * 
+     * @type {Array<PreviewVariant>}
+     * @memberof DrawingSpec
+     */
+    'previewVariants'?: Array<PreviewVariant>;
+    /**
+     * 
+     * @type {string}
+     * @memberof DrawingSpec
+     */
+    'previewVariantsSource'?: string;
+    /**
+     * 
+     * @type {number}
+     * @memberof DrawingSpec
+     */
+    'previewWidth'?: number;
 }
 
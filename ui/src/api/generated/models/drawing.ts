@@ -18,6 +18,9 @@
 import type { DrawingSpec } from './drawing-spec';
 // May contain unused imports in some cases
 // @ts-ignore
+import type { DrawingStatus } from './drawing-status';
+// May contain unused imports in some cases
+// @ts-ignore
 import type { Metadata } from './metadata';
 
 /**
@@ -50,5 +53,11 @@ export interface Drawing {
      * @memberof Drawing
      */
     'spec': DrawingSpec;
+    /**
+     * 
+     * @type {DrawingStatus}
+     * @memberof Drawing
+     */
+    'status'?: DrawingStatus;
 }
 
@@ -1,14 +1,33 @@
 export * from './add-operation';
+export * from './bulk-delete-item';
+export * from './bulk-delete-request';
+export * from './bulk-delete-result';
 export * from './copy-operation';
 export * from './drawing';
 export * from './drawing-list';
+export * from './drawing-scene';
+export * from './drawing-scene-list';
+export * from './drawing-scene-spec';
 export * from './drawing-spec';
+export * from './drawing-status';
+export * from './drawing-summary';
+export * from './drawing-summary-page';
+export * from './element-change';
 export * from './json-patch-inner';
 export * from './metadata';
 export * from './move-operation';
 export * from './preview-format-response';
+export * from './preview-regeneration-job';
+export * from './preview-regeneration-job-list';
+export * from './preview-regeneration-job-spec';
+export * from './preview-regeneration-job-status';
+export * from './preview-variant';
 export * from './remove-operation';
 export * from './replace-operation';
+export * from './save-drawing-request';
+export * from './scene-content';
+export * from './scene-patch';
+export * from './scene-patch-result';
 export * from './test-operation';
 export * from './upload-preview-request';
 export * from './upload-request';
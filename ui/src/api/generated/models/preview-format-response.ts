@@ -26,5 +26,11 @@ export interface PreviewFormatResponse {
      * @memberof PreviewFormatResponse
      */
     'format'?: string;
+    /**
+     * 
+     * @type {string}
+     * @memberof PreviewFormatResponse
+     */
+    'renderMode'?: string;
 }
 
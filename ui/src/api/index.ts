@@ -1,10 +1,14 @@
 import { axiosInstance } from "@halo-dev/api-client";
 import {
   ApiExcalidrawXhhaoComV1alpha1DrawingApi,
-  DrawingV1alpha1Api
+  Configuration,
+  DrawingV1alpha1Api,
+  PreviewRegenerationJobV1alpha1Api
 } from "./generated";
 
 const excalidrawCoreApiClient = new DrawingV1alpha1Api(undefined, "", axiosInstance)
-const apiExcalidrawCoreApiClient = new ApiExcalidrawXhhaoComV1alpha1DrawingApi(undefined, "", axiosInstance)
+const previewRegenerationJobApiClient = new PreviewRegenerationJobV1alpha1Api(undefined, "", axiosInstance)
+// 传入 Configuration 以便按 Content-Type 判断是否序列化，流式上传的 File 请求体原样发送
+const apiExcalidrawCoreApiClient = new ApiExcalidrawXhhaoComV1alpha1DrawingApi(new Configuration(), "", axiosInstance)
 
-export { excalidrawCoreApiClient, apiExcalidrawCoreApiClient };
+export { excalidrawCoreApiClient, apiExcalidrawCoreApiClient, previewRegenerationJobApiClient };